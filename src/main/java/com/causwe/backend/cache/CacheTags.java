@@ -0,0 +1,42 @@
+package com.causwe.backend.cache;
+
+import java.util.List;
+import java.util.Map;
+
+// 캐시 태그와 캐시 이름의 대응.
+//   project:{id}:{group} - 해당 프로젝트의 그룹 캐시에서 키의 첫 값(또는 키 자체)이 {id}인 항목
+//   project:{id}         - 해당 프로젝트의 모든 그룹
+//   issue:{id}           - 이슈 단위 캐시에서 키가 {id}인 항목, issue:* 는 이슈 단위 캐시 전체
+public final class CacheTags {
+
+    public static final String ISSUES = "issues";
+    public static final String STATS = "stats";
+    public static final String COMMENTS = "comments";
+    public static final String RECOMMENDATIONS = "recommendations";
+
+    public static final String ALL_ISSUES = "issue:*";
+
+    static final Map<String, List<String>> PROJECT_GROUPS = Map.of(
+            ISSUES, List.of("issues", "issuesBySearch", "issuesByNLSearch"),
+            STATS, List.of("issuesPerStatus", "issueStatusCounts", "issuesPerFixer", "issuesPerDayAndStatusInWeek",
+                    "issuesOrderByComments", "issuesPerDayInMonth", "issuesPerDayAndPriorityInWeek", "issuesPerMonth",
+                    "issuesPerPriorityInMonth", "getIssuesPerDayAndStatusInWeek", "statisticsDashboard"),
+            COMMENTS, List.of("issuesOrderByComments", "statisticsDashboard"),
+            RECOMMENDATIONS, List.of("issue_recommendedAssignees"));
+
+    static final List<String> ISSUE_CACHES = List.of("issueById", "comments");
+
+    private CacheTags() {}
+
+    public static String project(Long projectId) {
+        return "project:" + projectId;
+    }
+
+    public static String project(Long projectId, String group) {
+        return "project:" + projectId + ":" + group;
+    }
+
+    public static String issue(Long issueId) {
+        return "issue:" + issueId;
+    }
+}
@@ -0,0 +1,26 @@
+package com.causwe.backend.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 응답이 어떤 캐시 태그에 달려 있는지 적는다. ConditionalGetHandler가 태그 버전으로 ETag를 만들고,
+// If-None-Match가 같으면 컨트롤러를 부르지 않고 304를 돌려준다.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+
+    // projectId 경로 변수 기준의 CacheTags 그룹 (ISSUES, STATS, COMMENTS ...)
+    String[] project() default {};
+
+    // 이슈 단위 태그에 쓸 경로 변수 이름 (예: "id", "issueId")
+    String issue() default "";
+
+    // 응답이 로그인한 사용자(역할)에 따라 달라지면 true. 토큰이 없으면 ETag를 쓰지 않는다.
+    boolean perUser() default false;
+
+    // 응답이 오늘 날짜 기준 기간(최근 7일/30일 등)으로 계산되면 true. ETag에 서버의 오늘 날짜를 넣어
+    // 날짜가 바뀌면 데이터 변경이 없어도 새로 받게 한다.
+    boolean daily() default false;
+}
@@ -0,0 +1,141 @@
+package com.causwe.backend.cache;
+
+import com.causwe.backend.exceptions.UnauthorizedException;
+import com.causwe.backend.security.CurrentUserArgumentResolver;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Map;
+
+// @ConditionalGet 응답의 ETag를 캐시 태그 버전으로 만든다.
+//   - 컨트롤러보다 먼저 버전을 읽고, If-None-Match가 같으면 304로 끝낸다 (DB 조회와 JSON 직렬화를 하지 않는다)
+//   - 다르면 200 응답에만 ETag를 붙인다 (404 등에는 붙이지 않는다)
+//   - 버전을 데이터보다 먼저 읽으므로, 그 사이 바뀐 데이터는 예전 ETag로 나가 다음 요청에서 한 번 더 200을 받을 뿐이다
+@ControllerAdvice
+public class ConditionalGetHandler implements HandlerInterceptor, ResponseBodyAdvice<Object> {
+
+    static final String ETAG_ATTRIBUTE = ConditionalGetHandler.class.getName() + ".etag";
+
+    private final ResourceVersions resourceVersions;
+    private final CurrentUserArgumentResolver currentUserArgumentResolver;
+    private final Clock clock;
+
+    @Autowired
+    public ConditionalGetHandler(ResourceVersions resourceVersions, CurrentUserArgumentResolver currentUserArgumentResolver) {
+        this(resourceVersions, currentUserArgumentResolver, Clock.systemDefaultZone());
+    }
+
+    ConditionalGetHandler(ResourceVersions resourceVersions, CurrentUserArgumentResolver currentUserArgumentResolver, Clock clock) {
+        this.resourceVersions = resourceVersions;
+        this.currentUserArgumentResolver = currentUserArgumentResolver;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod) || !"GET".equals(request.getMethod())) {
+            return true;
+        }
+        ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null) {
+            return true;
+        }
+        String etag = etag(conditionalGet, request);
+        if (etag == null) {
+            return true;
+        }
+        // 응답 없이 만든 ServletWebRequest는 비교만 하고 헤더를 건드리지 않는다
+        if (new ServletWebRequest(request).checkNotModified(etag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            response.setHeader(HttpHeaders.ETAG, etag);
+            return false;
+        }
+        request.setAttribute(ETAG_ATTRIBUTE, etag);
+        return true;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(ConditionalGet.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, @NonNull MethodParameter returnType, @NonNull MediaType selectedContentType,
+                                  @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  @NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && response instanceof ServletServerHttpResponse servletResponse
+                && servletResponse.getServletResponse().getStatus() == HttpStatus.OK.value()) {
+            Object etag = servletRequest.getServletRequest().getAttribute(ETAG_ATTRIBUTE);
+            if (etag != null) {
+                response.getHeaders().setETag((String) etag);
+            }
+        }
+        return body;
+    }
+
+    // "epoch-버전...[-d날짜][-u사용자]". 경로 변수가 숫자가 아니거나 perUser인데 로그인하지 않았으면 null (컨트롤러가 처리한다).
+    String etag(ConditionalGet conditionalGet, HttpServletRequest request) {
+        StringBuilder etag = new StringBuilder("\"").append(Long.toHexString(resourceVersions.epoch()));
+        if (conditionalGet.project().length > 0) {
+            Long projectId = pathVariable(request, "projectId");
+            if (projectId == null) {
+                return null;
+            }
+            for (String group : conditionalGet.project()) {
+                etag.append('-').append(Long.toHexString(resourceVersions.version(CacheTags.project(projectId, group))));
+            }
+        }
+        if (!conditionalGet.issue().isEmpty()) {
+            Long issueId = pathVariable(request, conditionalGet.issue());
+            if (issueId == null) {
+                return null;
+            }
+            etag.append('-').append(Long.toHexString(resourceVersions.version(CacheTags.issue(issueId))));
+        }
+        if (conditionalGet.daily()) {
+            etag.append("-d").append(Long.toHexString(LocalDate.now(clock).toEpochDay()));
+        }
+        if (conditionalGet.perUser()) {
+            try {
+                etag.append("-u").append(currentUserArgumentResolver.memberId(new ServletWebRequest(request)));
+            } catch (UnauthorizedException e) {
+                return null;
+            }
+        }
+        return etag.append('"').toString();
+    }
+
+    private static Long pathVariable(HttpServletRequest request, String name) {
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (!(variables instanceof Map<?, ?> map) || !(map.get(name) instanceof String value)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.causwe.backend.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+// allEntries 전체 삭제 대신, 바뀐 프로젝트/이슈의 키만 골라서 지운다
+@Component
+public class ProjectCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    @Autowired
+    public ProjectCacheInvalidator(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    // 트랜잭션 안에서 발행되면 커밋 후에, 트랜잭션 밖이면 바로 처리한다.
+    // ETag 버전(ResourceVersions)보다 먼저 지운다.
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        event.getTags().forEach(this::evictTag);
+    }
+
+    public void evictTag(String tag) {
+        String[] parts = tag.split(":");
+        if (parts.length >= 2 && parts[0].equals("project")) {
+            Long projectId = Long.valueOf(parts[1]);
+            if (parts.length == 2) {
+                CacheTags.PROJECT_GROUPS.values().forEach(names -> evict(names, key -> belongsToProject(key, projectId)));
+            } else {
+                List<String> names = CacheTags.PROJECT_GROUPS.get(parts[2]);
+                if (names == null) {
+                    throw new IllegalArgumentException("Unknown cache tag: " + tag);
+                }
+                evict(names, key -> belongsToProject(key, projectId));
+            }
+        } else if (parts.length == 2 && parts[0].equals("issue")) {
+            if (parts[1].equals("*")) {
+                evict(CacheTags.ISSUE_CACHES, key -> true);
+            } else {
+                Long issueId = Long.valueOf(parts[1]);
+                evict(CacheTags.ISSUE_CACHES, issueId::equals);
+            }
+        } else {
+            throw new IllegalArgumentException("Unknown cache tag: " + tag);
+        }
+    }
+
+    // 프로젝트 단위 캐시 키는 projectId 또는 projectId로 시작하는 리스트다
+    private static boolean belongsToProject(Object key, Long projectId) {
+        if (key instanceof List<?> list) {
+            return !list.isEmpty() && projectId.equals(list.get(0));
+        }
+        return projectId.equals(key);
+    }
+
+    private void evict(List<String> cacheNames, Predicate<Object> keyFilter) {
+        for (String name : cacheNames) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache == null) {
+                continue;
+            }
+            Object nativeCache = cache.getNativeCache();
+            if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeineCache) {
+                caffeineCache.asMap().keySet().removeIf(keyFilter);
+            } else if (nativeCache instanceof Map<?, ?> map) {
+                map.keySet().removeIf(keyFilter);
+            } else {
+                // 키를 볼 수 없는 캐시는 전체를 비운다
+                cache.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.causwe.backend.cache;
+
+import java.util.List;
+
+import lombok.Getter;
+
+// 쓰기 작업이 끝난 뒤 무효화할 캐시 태그 묶음. ProjectCacheInvalidator가 커밋 이후에 처리한다.
+@Getter
+public class ProjectChangedEvent {
+
+    private final Long projectId;
+    private final List<String> tags;
+
+    public ProjectChangedEvent(Long projectId, List<String> tags) {
+        this.projectId = projectId;
+        this.tags = tags;
+    }
+
+    public static ProjectChangedEvent issueCreated(Long projectId) {
+        return new ProjectChangedEvent(projectId, List.of(
+                CacheTags.project(projectId, CacheTags.ISSUES),
+                CacheTags.project(projectId, CacheTags.STATS)));
+    }
+
+    public static ProjectChangedEvent issueUpdated(Long projectId, Long issueId) {
+        return new ProjectChangedEvent(projectId, List.of(
+                CacheTags.project(projectId, CacheTags.ISSUES),
+                CacheTags.project(projectId, CacheTags.STATS),
+                CacheTags.project(projectId, CacheTags.RECOMMENDATIONS),
+                CacheTags.issue(issueId)));
+    }
+
+    // 댓글 수가 바뀌는 경우(추가/삭제)만 댓글 통계를 무효화한다
+    public static ProjectChangedEvent commentsChanged(Long projectId, Long issueId, boolean countChanged) {
+        if (!countChanged) {
+            return new ProjectChangedEvent(projectId, List.of(CacheTags.issue(issueId)));
+        }
+        return new ProjectChangedEvent(projectId, List.of(
+                CacheTags.project(projectId, CacheTags.COMMENTS),
+                CacheTags.issue(issueId)));
+    }
+
+    public static ProjectChangedEvent projectDeleted(Long projectId) {
+        return new ProjectChangedEvent(projectId, List.of(CacheTags.project(projectId), CacheTags.ALL_ISSUES));
+    }
+}
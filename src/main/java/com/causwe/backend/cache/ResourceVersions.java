@@ -0,0 +1,75 @@
+package com.causwe.backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 캐시 태그별 버전. 태그의 데이터가 바뀌는 커밋마다 올라가므로 버전이 같으면 응답도 같다 (ETag에 쓴다).
+//   - 버전은 전역 시계 값이다. 오래 안 쓰인 태그가 밀려나면 floor를 그 버전 이상으로 올려서,
+//     밀려난 태그가 예전 값으로 돌아가 오래된 ETag와 다시 같아지는 일이 없다
+//   - epoch는 시작 시각이라 재시작 전에 내준 ETag와 겹치지 않는다
+//   - 버전은 인스턴스 메모리에만 있다 (로컬 Caffeine 캐시와 같은 전제)
+@Component
+public class ResourceVersions {
+
+    private final long epoch = System.currentTimeMillis();
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLong floor = new AtomicLong();
+    private final Cache<String, Long> versions;
+
+    @Autowired
+    public ResourceVersions(@Value("${app.etag.max-tracked:100000}") long maxTracked) {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxTracked)
+                // 정리(밀어내기)를 공용 ForkJoinPool이 아니라 쓰는 스레드에서 바로 한다
+                .executor(Runnable::run)
+                // 제거와 같은 원자적 연산 안에서 불리므로 floor가 오르기 전에 태그가 사라져 보이지 않는다
+                .evictionListener((String tag, Long version, RemovalCause cause) -> raiseFloor(version))
+                .build();
+    }
+
+    public long epoch() {
+        return epoch;
+    }
+
+    public long version(String tag) {
+        Long version = versions.getIfPresent(tag);
+        return version != null ? version : floor.get();
+    }
+
+    // 캐시 무효화(ProjectCacheInvalidator)가 끝난 뒤에 올린다.
+    // 반대 순서면 새 ETag와 아직 지워지지 않은 예전 캐시 값이 짝지어질 수 있다.
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        event.getTags().forEach(this::bump);
+    }
+
+    public void bump(String tag) {
+        if (tag.equals(CacheTags.ALL_ISSUES)) {
+            raiseFloor(clock.incrementAndGet());
+            versions.asMap().keySet().removeIf(key -> key.startsWith("issue:"));
+            return;
+        }
+        String[] parts = tag.split(":");
+        if (parts.length == 2 && parts[0].equals("project")) {
+            Long projectId = Long.valueOf(parts[1]);
+            CacheTags.PROJECT_GROUPS.keySet().forEach(group -> bump(CacheTags.project(projectId, group)));
+            return;
+        }
+        versions.put(tag, clock.incrementAndGet());
+    }
+
+    private void raiseFloor(Long version) {
+        floor.accumulateAndGet(version, Math::max);
+    }
+}
@@ -0,0 +1,126 @@
+package com.causwe.backend.client;
+
+import com.causwe.backend.exceptions.ChatCompletionBusyException;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+// OpenAI 호환 chat-completions API 비동기 클라이언트.
+//   - 동시에 나가는 요청 수를 maxConcurrent로 제한하고, 넘치면 기다리지 않고 ChatCompletionBusyException으로 실패한다
+//   - 같은 키로 진행 중인 요청이 있으면 새로 보내지 않고 그 결과를 같이 받는다
+//   - 연결부터 응답 본문까지 한 호출 전체를 callTimeout으로 제한한다 (넘으면 IOException으로 실패하고 허가를 돌려준다)
+//   - base URL을 설정으로 바꿀 수 있어 테스트/부하 테스트에서 MockWebServer로 대체할 수 있다
+@Component
+public class ChatCompletionClient {
+
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+
+    private final OkHttpClient httpClient;
+    private final HttpUrl completionsUrl;
+    private final String apiKey;
+    private final Semaphore permits;
+    private final Map<Object, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ChatCompletionClient(@Value("${app.llm.base-url:https://api.groq.com/openai/v1}") String baseUrl,
+                                @Value("${app.llm.api-key:${GROQ_API_KEY:}}") String apiKey,
+                                @Value("${app.llm.connect-timeout:5s}") Duration connectTimeout,
+                                @Value("${app.llm.read-timeout:30s}") Duration readTimeout,
+                                @Value("${app.llm.call-timeout:40s}") Duration callTimeout,
+                                @Value("${app.llm.max-concurrent:8}") int maxConcurrent) {
+        this.completionsUrl = HttpUrl.get(baseUrl).newBuilder().addPathSegments("chat/completions").build();
+        this.apiKey = apiKey;
+        this.permits = new Semaphore(maxConcurrent);
+        this.httpClient = new OkHttpClient.Builder()
+                .connectTimeout(connectTimeout)
+                .readTimeout(readTimeout)
+                .writeTimeout(readTimeout)
+                .callTimeout(callTimeout)
+                .build();
+        // 세마포어가 동시 요청 수를 정하므로 OkHttp 디스패처가 먼저 막지 않게 맞춰 둔다
+        this.httpClient.dispatcher().setMaxRequests(Math.max(maxConcurrent, 1));
+        this.httpClient.dispatcher().setMaxRequestsPerHost(Math.max(maxConcurrent, 1));
+    }
+
+    // 첫 번째 응답 메시지의 content를 돌려준다. 실패하면 IOException 또는 ChatCompletionBusyException으로 완료된다.
+    public CompletableFuture<String> complete(Object key, String jsonPayload) {
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing;
+        }
+        created.whenComplete((content, error) -> inFlight.remove(key, created));
+
+        if (!permits.tryAcquire()) {
+            created.completeExceptionally(new ChatCompletionBusyException());
+            return created;
+        }
+
+        Request request = new Request.Builder()
+                .url(completionsUrl)
+                .post(RequestBody.create(jsonPayload, JSON))
+                .addHeader("Content-Type", "application/json")
+                .addHeader("Authorization", "Bearer " + apiKey)
+                .build();
+        httpClient.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                permits.release();
+                created.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                String content;
+                try (response) {
+                    content = readContent(response);
+                } catch (IOException | JSONException e) {
+                    permits.release();
+                    created.completeExceptionally(e instanceof IOException ? e : new IOException(e));
+                    return;
+                }
+                permits.release();
+                created.complete(content);
+            }
+        });
+        return created;
+    }
+
+    private String readContent(Response response) throws IOException {
+        if (!response.isSuccessful()) {
+            throw new IOException("Unexpected code" + response.code());
+        }
+        ResponseBody body = response.body();
+        if (body == null) {
+            throw new IOException("Empty response body");
+        }
+        return new JSONObject(body.string())
+                .getJSONArray("choices")
+                .getJSONObject(0)
+                .getJSONObject("message")
+                .getString("content");
+    }
+
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+}
@@ -0,0 +1,67 @@
+package com.causwe.backend.config;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+
+    // 캐시는 이름이 처음 쓰일 때 만들어지므로, 만들어지는 시점에 통계와 적중률 지표를 등록한다.
+    // (actuator의 기본 바인딩은 시작 시점에 존재하는 캐시만 등록한다)
+    @Bean
+    public CacheManager cacheManager(@Value("${spring.cache.caffeine.spec:maximumSize=1000,expireAfterAccess=1h}") String spec,
+                                     @Value("${app.nl-search.prompt-cache.max-size:10000}") long promptCacheSize,
+                                     @Value("${app.nl-search.prompt-cache.ttl:24h}") Duration promptCacheTtl,
+                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                meterRegistry.ifAvailable(registry -> bindMetrics(registry, name, cache));
+                return super.adaptCaffeineCache(name, cache);
+            }
+
+            @Override
+            protected Cache adaptCaffeineCache(String name, AsyncCache<Object, Object> cache) {
+                meterRegistry.ifAvailable(registry -> bindMetrics(registry, name, cache.synchronous()));
+                return super.adaptCaffeineCache(name, cache);
+            }
+        };
+        // 값을 계산하는 동안 항목 잠금(ConcurrentHashMap의 synchronized)을 잡지 않도록 비동기 캐시로 만든다.
+        // 같은 키의 동시 요청은 계산 중인 future를 같이 기다린다 (가상 스레드가 DB 조회 동안 캐리어 스레드에 고정되지 않는다).
+        cacheManager.setAsyncCacheMode(true);
+        Caffeine<Object, Object> caffeine = Caffeine.from(spec);
+        if (!spec.contains("recordStats")) {
+            caffeine.recordStats();
+        }
+        cacheManager.setCaffeine(caffeine);
+        // 생성된 SQL은 데이터가 바뀌어도 유효하므로 접근과 무관하게 TTL로만 만료시킨다 (모델/프롬프트 변경 반영)
+        cacheManager.registerCustomCache("sqlQueries", Caffeine.newBuilder()
+                .maximumSize(promptCacheSize)
+                .expireAfterWrite(promptCacheTtl)
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+
+    private static void bindMetrics(MeterRegistry registry, String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", name)
+                .description("Hit ratio of the cache since startup")
+                .register(registry);
+    }
+}
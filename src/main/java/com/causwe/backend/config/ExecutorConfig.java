@@ -0,0 +1,94 @@
+package com.causwe.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+// 비동기 작업은 공용 ForkJoinPool이나 제한 없는 기본 풀 대신 용도별로 나눈 풀에서 돌린다.
+//   - 스레드 수와 대기열 크기가 정해져 있어 한 용도가 밀려도 다른 용도와 요청 처리에는 영향이 없다
+//   - 대기열이 가득 차면 TaskRejectedException을 던지고 executor.rejected를 올린다 (호출한 쪽이 버릴지 정한다)
+//   - 지표: executor.queue.depth, executor.rejected (tag name=embedding/notifications/statistics-refresh/sse)
+@Configuration
+public class ExecutorConfig {
+
+    public static final String EMBEDDING = "embeddingExecutor";
+    public static final String NOTIFICATIONS = "notificationExecutor";
+    public static final String STATISTICS_REFRESH = "statisticsRefreshExecutor";
+    public static final String SSE = "sseExecutor";
+
+    // 임베딩 배치 처리와 시작 시 백필
+    @Bean(EMBEDDING)
+    public ThreadPoolTaskExecutor embeddingExecutor(@Value("${app.executor.embedding.threads:2}") int threads,
+                                                    @Value("${app.executor.embedding.queue-capacity:100}") int queueCapacity,
+                                                    @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                                    ObjectProvider<MeterRegistry> meterRegistry) {
+        return boundedExecutor("embedding", threads, queueCapacity, virtualThreads, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    // 이름을 주지 않은 @Async 작업(알림 등)의 기본 풀. @EnableAsync는 "taskExecutor" 이름의 빈을 기본으로 쓴다.
+    @Bean({NOTIFICATIONS, "taskExecutor"})
+    public ThreadPoolTaskExecutor notificationExecutor(@Value("${app.executor.notifications.threads:4}") int threads,
+                                                       @Value("${app.executor.notifications.queue-capacity:1000}") int queueCapacity,
+                                                       @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                                       ObjectProvider<MeterRegistry> meterRegistry) {
+        return boundedExecutor("notifications", threads, queueCapacity, virtualThreads, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    // 통계 롤업 테이블 채우기
+    @Bean(STATISTICS_REFRESH)
+    public ThreadPoolTaskExecutor statisticsRefreshExecutor(@Value("${app.executor.statistics-refresh.threads:1}") int threads,
+                                                            @Value("${app.executor.statistics-refresh.queue-capacity:10}") int queueCapacity,
+                                                            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                                            ObjectProvider<MeterRegistry> meterRegistry) {
+        return boundedExecutor("statistics-refresh", threads, queueCapacity, virtualThreads, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    // SSE 전송. 느린 클라이언트에 쓰는 동안 스레드를 잡고 있으므로 다른 비동기 작업과 나눈다 (연결마다 작업은 하나뿐이다)
+    @Bean(SSE)
+    public ThreadPoolTaskExecutor sseExecutor(@Value("${app.executor.sse.threads:16}") int threads,
+                                              @Value("${app.executor.sse.queue-capacity:10000}") int queueCapacity,
+                                              @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                              ObjectProvider<MeterRegistry> meterRegistry) {
+        return boundedExecutor("sse", threads, queueCapacity, virtualThreads, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    // 빈으로 등록하면 Spring이 초기화(initialize)와 종료를 맡는다. 지표는 실제 풀이 다시 만들어져도 따라가도록 executor를 통해 읽는다.
+    static ThreadPoolTaskExecutor boundedExecutor(String name, int threads, int queueCapacity, boolean virtualThreads,
+                                                  MeterRegistry registry) {
+        Counter rejected = Counter.builder("executor.rejected")
+                .tag("name", name)
+                .description("Tasks rejected because the queue was full")
+                .register(registry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(name + "-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        if (virtualThreads) {
+            // 가상 스레드여도 동시에 도는 작업 수는 풀 크기로 제한된다
+            executor.setThreadFactory(Thread.ofVirtual().name(name + "-", 1).factory());
+        }
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            new ThreadPoolExecutor.AbortPolicy().rejectedExecution(task, pool);
+        });
+        // 종료 시 대기 중인 작업은 버리고, 실행 중인 작업에는 잠시 시간을 준다
+        executor.setAwaitTerminationSeconds(5);
+
+        Gauge.builder("executor.queue.depth", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .tag("name", name)
+                .description("Tasks waiting in the queue")
+                .register(registry);
+        return executor;
+    }
+}
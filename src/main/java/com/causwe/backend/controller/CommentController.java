@@ -1,19 +1,18 @@
 package com.causwe.backend.controller;
 
+import com.causwe.backend.cache.ConditionalGet;
 import com.causwe.backend.dto.CommentDTO;
 
 import com.causwe.backend.exceptions.CommentNotFoundException;
 import com.causwe.backend.exceptions.IssueNotFoundException;
 import com.causwe.backend.exceptions.UnauthorizedException;
+import com.causwe.backend.mapper.DtoMapper;
 import com.causwe.backend.model.Comment;
-import com.causwe.backend.security.JwtTokenProvider;
+import com.causwe.backend.security.CurrentUser;
 import com.causwe.backend.service.CommentService;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -30,35 +29,31 @@ public class CommentController {
     private CommentService commentService;
 
     @Autowired
-    private ModelMapper modelMapper;
-
-    @Autowired
-    private JwtTokenProvider jwtTokenProvider;
+    private DtoMapper dtoMapper;
 
     @GetMapping("")
+    @ConditionalGet(issue = "issueId")
     @Cacheable(value = "comments", key = "#issueId")
     public ResponseEntity<List<CommentDTO>> getAllComment(@PathVariable Long issueId) {
         List<Comment> comments = commentService.getAllComments(issueId);
 
         List<CommentDTO> commentDTOs = comments
                 .stream()
-                .map(comment -> modelMapper.map(comment, CommentDTO.class))
+                .map(comment -> dtoMapper.toCommentDTO(comment))
                 .collect(Collectors.toList());
 
         return new ResponseEntity<>(commentDTOs, HttpStatus.OK);
     }
 
     @PostMapping("")
-    @CacheEvict(value = {"comments", "issuesOrderByComments"}, allEntries = true)
-    public ResponseEntity<CommentDTO> addComment(@PathVariable Long issueId, @RequestBody CommentDTO commentData, @CookieValue(name = "jwt", required = false) String token) {
+    public ResponseEntity<CommentDTO> addComment(@PathVariable Long issueId, @RequestBody CommentDTO commentData, @CurrentUser Long memberId) {
         if (Objects.equals(commentData.getContent(), "")) {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
 
         try {
-            Long memberId = jwtTokenProvider.getUserIdFromToken(token);
-            Comment comment = commentService.addComment(issueId, modelMapper.map(commentData, Comment.class), memberId);
-            CommentDTO commentDTO = modelMapper.map(comment, CommentDTO.class);
+            Comment comment = commentService.addComment(issueId, dtoMapper.toComment(commentData), memberId);
+            CommentDTO commentDTO = dtoMapper.toCommentDTO(comment);
             return new ResponseEntity<>(commentDTO, HttpStatus.CREATED);
         } catch (IssueNotFoundException e) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
@@ -68,17 +63,15 @@ public class CommentController {
     }
 
     @PutMapping("/{id}")
-    @CacheEvict(value = "comments", key = "#issueId")
-    public ResponseEntity<CommentDTO> updateComment(@PathVariable Long issueId, @PathVariable Long id, @RequestBody CommentDTO updatedComment, @CookieValue(name = "jwt", required = false) String token) {
+    public ResponseEntity<CommentDTO> updateComment(@PathVariable Long issueId, @PathVariable Long id, @RequestBody CommentDTO updatedComment, @CurrentUser Long memberId) {
 
         if (Objects.equals(updatedComment.getContent(), "")) {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
 
         try {
-            Long memberId = jwtTokenProvider.getUserIdFromToken(token);
-            Comment updated = commentService.updateComment(id, modelMapper.map(updatedComment, Comment.class), memberId);
-            CommentDTO updatedDTO = modelMapper.map(updated, CommentDTO.class);
+            Comment updated = commentService.updateComment(id, dtoMapper.toComment(updatedComment), memberId);
+            CommentDTO updatedDTO = dtoMapper.toCommentDTO(updated);
 
             return new ResponseEntity<>(updatedDTO, HttpStatus.OK);
         } catch (CommentNotFoundException e) {
@@ -89,10 +82,8 @@ public class CommentController {
     }
 
     @DeleteMapping("/{id}")
-    @CacheEvict(value = {"comments", "issuesOrderByComments"}, allEntries = true)
-    public ResponseEntity<Void> deleteComment(@PathVariable Long issueId, @PathVariable Long id, @CookieValue(name = "jwt", required = false) String token) {
+    public ResponseEntity<Void> deleteComment(@PathVariable Long issueId, @PathVariable Long id, @CurrentUser Long memberId) {
         try {
-            Long memberId = jwtTokenProvider.getUserIdFromToken(token);
             commentService.deleteComment(id, memberId);
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         } catch (CommentNotFoundException e) {
@@ -1,18 +1,24 @@
 package com.causwe.backend.controller;
 
+import com.causwe.backend.cache.CacheTags;
+import com.causwe.backend.cache.ConditionalGet;
 import com.causwe.backend.dto.IssueDTO;
+import com.causwe.backend.dto.IssuePageDTO;
+import com.causwe.backend.dto.IssueSummary;
 import com.causwe.backend.dto.UserResponseDTO;
+import com.causwe.backend.exceptions.ChatCompletionBusyException;
+import com.causwe.backend.exceptions.InvalidQueryException;
 import com.causwe.backend.exceptions.IssueNotFoundException;
 import com.causwe.backend.exceptions.ProjectNotFoundException;
 import com.causwe.backend.exceptions.UnauthorizedException;
+import com.causwe.backend.mapper.DtoMapper;
 import com.causwe.backend.model.Issue;
 import com.causwe.backend.model.User;
-import com.causwe.backend.security.JwtTokenProvider;
+import com.causwe.backend.security.CurrentUser;
 import com.causwe.backend.service.IssueService;
+import com.causwe.backend.util.CursorPage;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -31,20 +37,16 @@ public class IssueController {
     private IssueService issueService;
 
     @Autowired
-    private ModelMapper modelMapper;
-
-    @Autowired
-    private JwtTokenProvider jwtTokenProvider;
+    private DtoMapper dtoMapper;
 
     @GetMapping("")
-    @Cacheable(value = "issues", key = "{#projectId, #token}", unless = "#result == null || #memberId == null")
-    public ResponseEntity<List<IssueDTO>> getAllIssues(@PathVariable Long projectId, @CookieValue(name = "jwt", required = false) String token) {
+    @ConditionalGet(project = CacheTags.ISSUES, perUser = true)
+    public ResponseEntity<List<IssueDTO>> getAllIssues(@PathVariable Long projectId, @CurrentUser Long memberId) {
         try {
-            Long memberId = jwtTokenProvider.getUserIdFromToken(token);
-            List<Issue> issues = issueService.getAllIssues(projectId, memberId);
+            List<IssueSummary> issues = issueService.getAllIssues(projectId, memberId);
             List<IssueDTO> issueDTOs = issues
                     .stream()
-                    .map(issue -> modelMapper.map(issue, IssueDTO.class))
+                    .map(dtoMapper::toIssueDTO)
                     .collect(Collectors.toList());
             return new ResponseEntity<>(issueDTOs, HttpStatus.OK);
         } catch (ProjectNotFoundException e) {
@@ -52,12 +54,33 @@ public class IssueController {
         }
     }
 
+    @GetMapping("/page")
+    @ConditionalGet(project = CacheTags.ISSUES, perUser = true)
+    public ResponseEntity<IssuePageDTO> getIssuesPage(@PathVariable Long projectId,
+                                                      @RequestParam(value = "cursor", required = false) String cursor,
+                                                      @RequestParam(value = "size", defaultValue = "50") int size,
+                                                      @CurrentUser Long memberId) {
+        try {
+            CursorPage<IssueSummary> page = issueService.getIssuesPage(projectId, memberId, cursor, size);
+            List<IssueDTO> issueDTOs = page.getItems()
+                    .stream()
+                    .map(dtoMapper::toIssueDTO)
+                    .collect(Collectors.toList());
+            return new ResponseEntity<>(new IssuePageDTO(issueDTOs, page.getNextCursor()), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (ProjectNotFoundException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+    }
+
     @GetMapping("/{id}")
-    @Cacheable(value = "issues", key = "#id", unless = "#result == null || #memberId == null")
+    @ConditionalGet(issue = "id")
+    @Cacheable(value = "issueById", key = "#id", unless = "#result == null || !#result.statusCode.is2xxSuccessful()")
     public ResponseEntity<IssueDTO> getIssueById(@PathVariable Long id) {
         try {
             Issue issue = issueService.getIssueById(id);
-            IssueDTO issueDTO = modelMapper.map(issue, IssueDTO.class);
+            IssueDTO issueDTO = dtoMapper.toIssueDTO(issue);
             return new ResponseEntity<>(issueDTO, HttpStatus.OK);
         } catch (IssueNotFoundException e) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
@@ -65,16 +88,14 @@ public class IssueController {
     }
 
     @PostMapping("")
-    @CacheEvict(value = {"issues", "issuesBySearch", "issuesByNLSearch", "issuesPerStatus", "issueStatusCounts", "issuesPerFixer", "issuesPerDayAndStatusInWeek", "issuesOrderByComments", "issuesPerDayInMonth", "issuesPerDayAndPriorityInWeek", "issuesPerMonth", "issuesPerPriorityInMonth", "getIssuesPerDayAndStatusInWeek"}, allEntries = true)
-    public ResponseEntity<IssueDTO> createIssue(@PathVariable Long projectId, @RequestBody IssueDTO issueData, @CookieValue(name = "jwt", required = false) String token) {
+    public ResponseEntity<IssueDTO> createIssue(@PathVariable Long projectId, @RequestBody IssueDTO issueData, @CurrentUser Long memberId) {
         if (Objects.equals(issueData.getTitle(), "")) {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
 
         try {
-            Long memberId = jwtTokenProvider.getUserIdFromToken(token);
-            Issue newIssue = issueService.createIssue(projectId, modelMapper.map(issueData, Issue.class), memberId);
-            IssueDTO newIssueDTO = modelMapper.map(newIssue, IssueDTO.class);
+            Issue newIssue = issueService.createIssue(projectId, dtoMapper.toIssue(issueData), memberId);
+            IssueDTO newIssueDTO = dtoMapper.toIssueDTO(newIssue);
             return new ResponseEntity<>(newIssueDTO, HttpStatus.CREATED);
         } catch (ProjectNotFoundException e) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
@@ -84,16 +105,14 @@ public class IssueController {
     }
 
     @PutMapping("/{id}")
-    @CacheEvict(value = {"issues", "issuesBySearch", "issuesByNLSearch", "issue_recommendedAssignees", "issuesPerStatus", "issueStatusCounts", "issuesPerFixer", "issuesPerDayAndStatusInWeek", "issuesPerDayAndPriorityInWeek", "issuesPerPriorityInMonth", "getIssuesPerDayAndStatusInWeek"}, allEntries = true)
-    public ResponseEntity<IssueDTO> updateIssue(@PathVariable Long id, @RequestBody IssueDTO updatedIssue, @CookieValue(name = "jwt", required = false) String token) {
+    public ResponseEntity<IssueDTO> updateIssue(@PathVariable Long id, @RequestBody IssueDTO updatedIssue, @CurrentUser Long memberId) {
         if (Objects.equals(updatedIssue.getTitle(), "")) {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
 
         try {
-            Long memberId = jwtTokenProvider.getUserIdFromToken(token);
-            Issue updated = issueService.updateIssue(id, modelMapper.map(updatedIssue, Issue.class), memberId);
-            IssueDTO updatedDTO = modelMapper.map(updated, IssueDTO.class);
+            Issue updated = issueService.updateIssue(id, dtoMapper.toIssue(updatedIssue), memberId);
+            IssueDTO updatedDTO = dtoMapper.toIssueDTO(updated);
             return new ResponseEntity<>(updatedDTO, HttpStatus.OK);
         } catch (IssueNotFoundException e) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
@@ -103,17 +122,16 @@ public class IssueController {
     }
 
     @GetMapping("/search")
-    @Cacheable(value = "issuesBySearch", key = "{#projectId, #assigneeUsername, #reporterUsername, #status, #token}", unless = "#result == null || #memberId == null")
+    @ConditionalGet(project = CacheTags.ISSUES, perUser = true)
     public ResponseEntity<List<IssueDTO>> searchIssues(@PathVariable Long projectId,
                                                        @RequestParam(value = "assigneeUsername", required = false) String assigneeUsername,
                                                        @RequestParam(value = "reporterUsername", required = false) String reporterUsername,
-                                                       @RequestParam(value = "status", required = false) Issue.Status status, @CookieValue(name = "jwt", required = false) String token) {
+                                                       @RequestParam(value = "status", required = false) Issue.Status status, @CurrentUser Long memberId) {
         try {
-            Long memberId = jwtTokenProvider.getUserIdFromToken(token);
-            List<Issue> issues = issueService.searchIssues(projectId, assigneeUsername, reporterUsername, status, memberId);
+            List<IssueSummary> issues = issueService.searchIssues(projectId, assigneeUsername, reporterUsername, status, memberId);
             List<IssueDTO> issueDTOs = issues
                     .stream()
-                    .map(issue -> modelMapper.map(issue, IssueDTO.class))
+                    .map(dtoMapper::toIssueDTO)
                     .collect(Collectors.toList());
             return new ResponseEntity<>(issueDTOs, HttpStatus.OK);
         } catch (ProjectNotFoundException e) {
@@ -122,32 +140,35 @@ public class IssueController {
     }
 
     @GetMapping("/searchbynl")
-    @Cacheable(value = "issuesByNLSearch", key = "{#projectId, #userMessage, #token}")
+    @Cacheable(value = "issuesByNLSearch", key = "{#projectId, T(com.causwe.backend.nlsearch.PromptKey).of(#userMessage, #memberId)}")
     public ResponseEntity<List<IssueDTO>> searchIssuesbyNL(@PathVariable Long projectId,
                                                            @RequestParam(value = "userMessage") String userMessage,
-                                                           @CookieValue(name = "jwt", required = false) String token) {
+                                                           @CurrentUser Long memberId) {
         try {
-            Long memberId = jwtTokenProvider.getUserIdFromToken(token);
             List<Issue> issues = issueService.searchIssuesByNL(projectId, userMessage, memberId);
             List<IssueDTO> issueDTOs = issues.stream()
-                    .map(issue -> modelMapper.map(issue, IssueDTO.class))
+                    .map(issue -> dtoMapper.toIssueDTO(issue))
                     .collect(Collectors.toList());
             return new ResponseEntity<>(issueDTOs, HttpStatus.OK);
         } catch (IOException e) {
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        } catch (ChatCompletionBusyException e) {
+            return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (InvalidQueryException e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         } catch (ProjectNotFoundException e) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
     }
 
     @GetMapping("/{id}/recommendedAssignees")
-    @Cacheable(value = "issue_recommendedAssignees", key = "#id")
-    public ResponseEntity<List<UserResponseDTO>> getRecommendedAssignees(@PathVariable Long id) {
+    @Cacheable(value = "issue_recommendedAssignees", key = "{#projectId, #id}")
+    public ResponseEntity<List<UserResponseDTO>> getRecommendedAssignees(@PathVariable Long projectId, @PathVariable Long id) {
         try {
             List<User> recommendedAssignees = issueService.getRecommendedAssignees(id);
             List<UserResponseDTO> userDTOs = recommendedAssignees
                     .stream()
-                    .map(user -> modelMapper.map(user, UserResponseDTO.class))
+                    .map(user -> dtoMapper.toUserResponseDTO(user))
                     .collect(Collectors.toList());
             return new ResponseEntity<>(userDTOs, HttpStatus.OK);
         } catch (IssueNotFoundException e) {
@@ -1,5 +1,8 @@
 package com.causwe.backend.controller;
 
+import com.causwe.backend.cache.CacheTags;
+import com.causwe.backend.cache.ConditionalGet;
+import com.causwe.backend.dto.StatisticsDashboardDTO;
 import com.causwe.backend.model.Issue;
 import com.causwe.backend.service.IssueStatisticsService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,7 +16,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Map;
 
-
+// 오늘 기준 기간(최근 7일/30일)으로 계산하는 통계는 캐시 키와 ETag에 날짜를 넣어 날짜가 바뀌면 다시 계산한다
 @RestController
 @RequestMapping("/api/projects/{projectId}/statistics")
 public class IssueStatisticsController {
@@ -22,6 +25,7 @@ public class IssueStatisticsController {
     private IssueStatisticsService issueStatisticsService;
 
     @GetMapping("/issuesPerStatus")
+    @ConditionalGet(project = {CacheTags.STATS, CacheTags.COMMENTS})
     @Cacheable(value = "issuesPerStatus", key = "#projectId")
     public ResponseEntity<Map<String, Long>> getIssuesPerStatus(@PathVariable Long projectId) {
         Map<String, Long> issuesPerStatus = issueStatisticsService.getIssuesPerStatus(projectId);
@@ -29,6 +33,7 @@ public class IssueStatisticsController {
     }
 
     @GetMapping("/issueStatusCounts")
+    @ConditionalGet(project = {CacheTags.STATS, CacheTags.COMMENTS})
     @Cacheable(value = "issueStatusCounts", key = "#projectId")
     public ResponseEntity<Map<String, Long>> getIssueStatusCounts(@PathVariable Long projectId) {
         Map<String, Long> issueStatusCounts = issueStatisticsService.getIssueStatusCounts(projectId);
@@ -36,6 +41,7 @@ public class IssueStatisticsController {
     }
 
     @GetMapping("/issuesPerFixer")
+    @ConditionalGet(project = {CacheTags.STATS, CacheTags.COMMENTS})
     @Cacheable(value = "issuesPerFixer", key = "#projectId")
     public ResponseEntity<Map<String, Map<String, Long>>> getIssuesPerFixer(@PathVariable Long projectId) {
         Map<String, Map<String, Long>> issuesPerFixer = issueStatisticsService.getIssuesPerFixer(projectId);
@@ -44,13 +50,15 @@ public class IssueStatisticsController {
 
 
     @GetMapping("/issuesPerDayAndStatusInWeek/{status}")
-    @Cacheable(value = "issuesPerDayAndStatusInWeek", key = "{#projectId, #status}")
+    @ConditionalGet(project = {CacheTags.STATS, CacheTags.COMMENTS}, daily = true)
+    @Cacheable(value = "issuesPerDayAndStatusInWeek", key = "{#projectId, #status, T(java.time.LocalDate).now()}")
     public ResponseEntity<Map<String, Long>> getIssuesPerDayAndStatusInWeek(@PathVariable Long projectId, @PathVariable Issue.Status status) {
         Map<String, Long> issuesPerDayAndStatusInWeek = issueStatisticsService.getIssuesPerDayAndStatusInWeek(projectId, status.toString());
         return new ResponseEntity<>(issuesPerDayAndStatusInWeek, HttpStatus.OK);
     }
 
     @GetMapping("/issuesOrderByComments")
+    @ConditionalGet(project = {CacheTags.STATS, CacheTags.COMMENTS})
     @Cacheable(value = "issuesOrderByComments", key = "#projectId")
     public ResponseEntity<Map<String, Long>> getIssuesOrderByComments(@PathVariable Long projectId) {
         Map<String, Long> issuesOrderByComments = issueStatisticsService.getIssuesOrderByComments(projectId);
@@ -58,20 +66,23 @@ public class IssueStatisticsController {
     }
 
     @GetMapping("/issuesPerDayInMonth")
-    @Cacheable(value = "issuesPerDayInMonth", key = "#projectId")
+    @ConditionalGet(project = {CacheTags.STATS, CacheTags.COMMENTS}, daily = true)
+    @Cacheable(value = "issuesPerDayInMonth", key = "{#projectId, T(java.time.LocalDate).now()}")
     public ResponseEntity<Map<String, Long>> getIssuesPerDayInMonth(@PathVariable Long projectId) {
         Map<String, Long> issuesPerDayInMonth = issueStatisticsService.getIssuesPerDayInMonth(projectId);
         return new ResponseEntity<>(issuesPerDayInMonth, HttpStatus.OK);
     }
 
     @GetMapping("/issuesPerDayAndPriorityInWeek/{priority}")
-    @Cacheable(value = "issuesPerDayAndPriorityInWeek", key = "{#projectId, #priority}")
+    @ConditionalGet(project = {CacheTags.STATS, CacheTags.COMMENTS}, daily = true)
+    @Cacheable(value = "issuesPerDayAndPriorityInWeek", key = "{#projectId, #priority, T(java.time.LocalDate).now()}")
     public ResponseEntity<Map<String, Long>> getIssuesPerDayAndPriorityInWeek(@PathVariable Long projectId, @PathVariable Issue.Priority priority) {
         Map<String, Long> issuesPerDayAndPriorityInWeek = issueStatisticsService.getIssuesPerDayAndPriorityInWeek(projectId, priority.toString());
         return new ResponseEntity<>(issuesPerDayAndPriorityInWeek, HttpStatus.OK);
     }
 
     @GetMapping("/issuesPerMonth")
+    @ConditionalGet(project = {CacheTags.STATS, CacheTags.COMMENTS})
     @Cacheable(value = "issuesPerMonth", key = "#projectId")
     public ResponseEntity<Map<String, Long>> getIssuesPerMonth(@PathVariable Long projectId) {
         Map<String, Long> issuesPerMonth = issueStatisticsService.getIssuesPerMonth(projectId);
@@ -79,17 +90,26 @@ public class IssueStatisticsController {
     }
 
     @GetMapping("/issuesPerPriorityInMonth")
-    @Cacheable(value = "issuesPerPriorityInMonth", key = "#projectId")
+    @ConditionalGet(project = {CacheTags.STATS, CacheTags.COMMENTS}, daily = true)
+    @Cacheable(value = "issuesPerPriorityInMonth", key = "{#projectId, T(java.time.LocalDate).now()}")
     public ResponseEntity<Map<String, Long>> getIssuesPerPriorityInMonth(@PathVariable Long projectId) {
         Map<String, Long> issuesPerPriorityInMonth = issueStatisticsService.getIssuesPerPriorityInMonth(projectId);
         return new ResponseEntity<>(issuesPerPriorityInMonth, HttpStatus.OK);
     }
 
     @GetMapping("/issuesPerDayAndStatusInWeek")
-    @Cacheable(value = "getIssuesPerDayAndStatusInWeek", key = "#projectId")
+    @ConditionalGet(project = {CacheTags.STATS, CacheTags.COMMENTS}, daily = true)
+    @Cacheable(value = "getIssuesPerDayAndStatusInWeek", key = "{#projectId, T(java.time.LocalDate).now()}")
     public ResponseEntity<Map<String, Map<String, Long>>> getIssuesPerDayAndStatusInWeek(@PathVariable Long projectId) {
         Map<String, Map<String, Long>> issuesPerDayAndStatusInWeek = issueStatisticsService.getIssuesPerDayAndStatusInWeek(projectId);
         return new ResponseEntity<>(issuesPerDayAndStatusInWeek, HttpStatus.OK);
     }
 
-}
\ No newline at end of file
+    @GetMapping("/dashboard")
+    @ConditionalGet(project = {CacheTags.STATS, CacheTags.COMMENTS}, daily = true)
+    @Cacheable(value = "statisticsDashboard", key = "{#projectId, T(java.time.LocalDate).now()}")
+    public ResponseEntity<StatisticsDashboardDTO> getDashboard(@PathVariable Long projectId) {
+        StatisticsDashboardDTO dashboard = issueStatisticsService.getDashboard(projectId);
+        return new ResponseEntity<>(dashboard, HttpStatus.OK);
+    }
+}
@@ -3,11 +3,11 @@ package com.causwe.backend.controller;
 import com.causwe.backend.dto.ProjectDTO;
 import com.causwe.backend.exceptions.ProjectNotFoundException;
 import com.causwe.backend.exceptions.UnauthorizedException;
+import com.causwe.backend.mapper.DtoMapper;
 import com.causwe.backend.model.Project;
-import com.causwe.backend.security.JwtTokenProvider;
+import com.causwe.backend.security.CurrentUser;
 import com.causwe.backend.service.ProjectService;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
@@ -27,22 +27,18 @@ public class ProjectController {
     private ProjectService projectService;
 
     @Autowired
-    private ModelMapper modelMapper;
-
-    @Autowired
-    private JwtTokenProvider jwtTokenProvider;
+    private DtoMapper dtoMapper;
 
     @PostMapping("")
-    @CacheEvict(value = {"projects", "issues", "issuesBySearch", "issuesByNLSearch"}, allEntries = true)
-    public ResponseEntity<ProjectDTO> createProject(@RequestBody ProjectDTO projectData, @CookieValue(name = "jwt", required = false) String token) {
+    @CacheEvict(value = "projects", allEntries = true)
+    public ResponseEntity<ProjectDTO> createProject(@RequestBody ProjectDTO projectData, @CurrentUser Long memberId) {
         if (Objects.equals(projectData.getName(), "")) {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
 
         try {
-            Long memberId = jwtTokenProvider.getUserIdFromToken(token);
-            Project newProject = projectService.createProject(modelMapper.map(projectData, Project.class), memberId);
-            ProjectDTO newProjectDTO = modelMapper.map(newProject, ProjectDTO.class);
+            Project newProject = projectService.createProject(dtoMapper.toProject(projectData), memberId);
+            ProjectDTO newProjectDTO = dtoMapper.toProjectDTO(newProject);
             return new ResponseEntity<>(newProjectDTO, HttpStatus.CREATED);
         } catch (UnauthorizedException e) {
             return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
@@ -56,7 +52,7 @@ public class ProjectController {
         
         List<ProjectDTO> projectDTOs = projects
         .stream()
-        .map(project -> modelMapper.map(project, ProjectDTO.class))
+        .map(project -> dtoMapper.toProjectDTO(project))
         .collect(Collectors.toList());
 
         return new ResponseEntity<>(projectDTOs, HttpStatus.OK);
@@ -67,7 +63,7 @@ public class ProjectController {
     public ResponseEntity<ProjectDTO> getProjectById(@PathVariable Long id) {
         try {
             Project project = projectService.getProjectById(id);
-            ProjectDTO projectDTO = modelMapper.map(project, ProjectDTO.class);
+            ProjectDTO projectDTO = dtoMapper.toProjectDTO(project);
             return new ResponseEntity<>(projectDTO, HttpStatus.OK);
         } catch (ProjectNotFoundException e) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
@@ -75,10 +71,9 @@ public class ProjectController {
     }
 
     @DeleteMapping("{id}")
-    @CacheEvict(value = {"projects", "issues", "issuesBySearch", "issuesByNLSearch"}, allEntries = true)
-    public ResponseEntity<Void> deleteProject(@PathVariable Long id, @CookieValue(name = "jwt", required = false) String token) {
+    @CacheEvict(value = "projects", allEntries = true)
+    public ResponseEntity<Void> deleteProject(@PathVariable Long id, @CurrentUser Long memberId) {
         try {
-            Long memberId = jwtTokenProvider.getUserIdFromToken(token);
             projectService.deleteProject(id, memberId);
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         } catch (ProjectNotFoundException e) {
@@ -0,0 +1,37 @@
+package com.causwe.backend.controller;
+
+import com.causwe.backend.events.ProjectEventBroadcaster;
+import com.causwe.backend.exceptions.ProjectNotFoundException;
+import com.causwe.backend.security.CurrentUser;
+import com.causwe.backend.service.ProjectService;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/projects/{projectId}/events")
+public class ProjectEventController {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectEventBroadcaster projectEventBroadcaster;
+
+    // 이슈/댓글 변경 스트림. 브라우저 EventSource는 다시 연결할 때 Last-Event-ID를 자동으로 보낸다.
+    @GetMapping(value = "", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(@PathVariable Long projectId,
+                                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                                @CurrentUser Long memberId) {
+        try {
+            projectService.getProjectById(projectId);
+            return new ResponseEntity<>(projectEventBroadcaster.subscribe(projectId, lastEventId), HttpStatus.OK);
+        } catch (ProjectNotFoundException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+    }
+}
@@ -1,19 +1,24 @@
 package com.causwe.backend.controller;
 
+import com.causwe.backend.dto.UserPageDTO;
 import com.causwe.backend.dto.UserRequestDTO;
 import com.causwe.backend.dto.UserResponseDTO;
+import com.causwe.backend.exceptions.PasswordHashingBusyException;
 import com.causwe.backend.exceptions.UnauthorizedException;
 import com.causwe.backend.exceptions.UserNotFoundException;
+import com.causwe.backend.mapper.DtoMapper;
 import com.causwe.backend.model.*;
+import com.causwe.backend.security.CurrentUser;
 import com.causwe.backend.security.JwtTokenProvider;
 import com.causwe.backend.service.UserService;
+import com.causwe.backend.util.CursorPage;
 import com.causwe.backend.util.RoleConverter;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -22,7 +27,6 @@ import org.springframework.web.bind.annotation.*;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/users")
@@ -32,35 +36,41 @@ public class UserController {
     private UserService userService;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private DtoMapper dtoMapper;
 
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
     
     @PostMapping("/signup")
-    public ResponseEntity<UserResponseDTO> createUser(@RequestBody UserRequestDTO userData, @CookieValue(name = "jwt", required = false) String token) {
+    @CacheEvict(value = "allDevs", allEntries = true)
+    public ResponseEntity<UserResponseDTO> createUser(@RequestBody UserRequestDTO userData, @CurrentUser User currentUser) {
         if (Objects.equals(userData.getUsername(), "") || Objects.equals(userData.getPassword(), "")) {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
         try {
-            Long memberId = jwtTokenProvider.getUserIdFromToken(token);
-            User currentUser = userService.getUserById(memberId);
-            if (!(currentUser.canCreateUser())) {
+            if (currentUser == null || !currentUser.canCreateUser()) {
                 throw new UnauthorizedException("Only admins can create users.");
             }
             User newUser = userService.createUser(userData.getUsername(), userData.getPassword(), RoleConverter.convertToUserRole(userData.getRole()));
-            UserResponseDTO newUserDTO = modelMapper.map(newUser, UserResponseDTO.class);
+            UserResponseDTO newUserDTO = dtoMapper.toUserResponseDTO(newUser);
             return new ResponseEntity<>(newUserDTO, HttpStatus.CREATED);
         } catch (UserNotFoundException e) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         } catch (UnauthorizedException e) {
             return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        } catch (PasswordHashingBusyException e) {
+            return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
         }
     }
 
     @PostMapping("/login")
     public ResponseEntity<UserResponseDTO> login(@RequestBody UserRequestDTO userData, HttpServletResponse response) {
-        User user = userService.login(userData.getUsername(), userData.getPassword());
+        User user;
+        try {
+            user = userService.login(userData.getUsername(), userData.getPassword());
+        } catch (PasswordHashingBusyException e) {
+            return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+        }
         if (user != null) {
             String token = jwtTokenProvider.generateToken(user.getId());
             Cookie cookie = new Cookie("jwt", token);
@@ -70,7 +80,7 @@ public class UserController {
             String cookieHeader = String.format("%s=%s; Path=%s; SameSite=None; Secure", cookie.getName(), cookie.getValue(), cookie.getPath());
             response.addHeader("Set-Cookie", cookieHeader);
 
-            UserResponseDTO userDTO = modelMapper.map(user, UserResponseDTO.class);
+            UserResponseDTO userDTO = dtoMapper.toUserResponseDTO(user);
             return new ResponseEntity<>(userDTO, HttpStatus.OK);
         } else {
             return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
@@ -78,12 +88,9 @@ public class UserController {
     }
 
     @GetMapping("")
-    @Cacheable(value = "userById", key = "#token", unless = "#result == null || #memberId == null")
-    public ResponseEntity<UserResponseDTO> getUserById(@CookieValue(name = "jwt", required = false) String token) {
+    public ResponseEntity<UserResponseDTO> getUserById(@CurrentUser User user) {
         try {
-            Long memberId = jwtTokenProvider.getUserIdFromToken(token);
-            User user = userService.getUserById(memberId);
-            UserResponseDTO UserDTO =  modelMapper.map(user, UserResponseDTO.class);
+            UserResponseDTO UserDTO =  dtoMapper.toUserResponseDTO(user);
             return new ResponseEntity<>(UserDTO, HttpStatus.OK);
         } catch (UserNotFoundException e) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
@@ -93,17 +100,20 @@ public class UserController {
     @GetMapping("/devs")
     @Cacheable("allDevs")
     public ResponseEntity<List<UserResponseDTO>> getAllDevs() {
-        List<User> devUsers = userService.getAllDevs();
-
-        List<UserResponseDTO> devUserDTOs = devUsers
-        .stream()
-        .map(user -> modelMapper.map(user, UserResponseDTO.class))
-        .collect(Collectors.toList());
-
-
+        List<UserResponseDTO> devUserDTOs = userService.getAllDevs();
         return new ResponseEntity<>(devUserDTOs, HttpStatus.OK);
     }
 
+    // 담당자 선택 화면용: username 접두어로 거르고 username 순서로 size개씩 넘긴다
+    @GetMapping("/devs/page")
+    @Cacheable(value = "allDevs", key = "{#prefix, #cursor, #size}")
+    public ResponseEntity<UserPageDTO> getDevsPage(@RequestParam(value = "prefix", required = false) String prefix,
+                                                   @RequestParam(value = "cursor", required = false) String cursor,
+                                                   @RequestParam(value = "size", defaultValue = "50") int size) {
+        CursorPage<UserResponseDTO> page = userService.getDevsPage(prefix, cursor, size);
+        return new ResponseEntity<>(new UserPageDTO(page.getItems(), page.getNextCursor()), HttpStatus.OK);
+    }
+
     /* 모든 유저 불러오기, 유저 삭제
     @GetMapping("/all")
     public ResponseEntity<List<UserDTO>> getAllUsers(@CookieValue(name = "jwt", required = false) String token) {
@@ -0,0 +1,21 @@
+package com.causwe.backend.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class IssuePageDTO {
+
+    private List<IssueDTO> issues;
+    private String nextCursor;
+
+    public IssuePageDTO() {}
+
+    public IssuePageDTO(List<IssueDTO> issues, String nextCursor) {
+        this.issues = issues;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,20 @@
+package com.causwe.backend.dto;
+
+import com.causwe.backend.model.Issue;
+
+import java.time.LocalDateTime;
+
+// 이슈 목록 화면에 필요한 컬럼만 읽는 프로젝션 (description, 댓글, 연관 엔티티를 읽지 않는다)
+public interface IssueSummary {
+    Long getId();
+    String getTitle();
+    LocalDateTime getReportedDate();
+    String getReporterUsername();
+    String getFixerUsername();
+    String getAssigneeUsername();
+    Issue.Priority getPriority();
+    Issue.Status getStatus();
+
+    // 역할별 목록의 정렬 우선순위. 키셋 커서를 만들 때만 쓰고, 검색 결과에서는 null이다.
+    Integer getBucket();
+}
@@ -0,0 +1,27 @@
+package com.causwe.backend.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// SSE 이벤트 본문. issue.* 이벤트는 issue를, comment.* 이벤트는 comment(삭제면 commentId만)를 채운다.
+// ready/reset 이벤트는 type만 있다.
+@Getter
+@Setter
+public class ProjectEventDTO {
+
+    private String type;
+    private Long issueId;
+    private IssueDTO issue;
+    private Long commentId;
+    private CommentDTO comment;
+
+    public ProjectEventDTO() {}
+
+    public ProjectEventDTO(String type, Long issueId, IssueDTO issue, Long commentId, CommentDTO comment) {
+        this.type = type;
+        this.issueId = issueId;
+        this.issue = issue;
+        this.commentId = commentId;
+        this.comment = comment;
+    }
+}
@@ -0,0 +1,25 @@
+package com.causwe.backend.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// 대시보드 한 화면에 필요한 통계를 한 번에 내려준다. 각 필드는 같은 이름의 개별 통계 API 응답과 같은 모양이다.
+@Getter
+@Setter
+public class StatisticsDashboardDTO {
+
+    private Map<String, Long> issuesPerStatus = new LinkedHashMap<>();
+    private Map<String, Long> issueStatusCounts = new LinkedHashMap<>();
+    private Map<String, Map<String, Long>> issuesPerFixer = new LinkedHashMap<>();
+    private Map<String, Long> issuesOrderByComments = new LinkedHashMap<>();
+    private Map<String, Long> issuesPerDayInMonth = new LinkedHashMap<>();
+    private Map<String, Long> issuesPerMonth = new LinkedHashMap<>();
+    private Map<String, Long> issuesPerPriorityInMonth = new LinkedHashMap<>();
+    private Map<String, Map<String, Long>> issuesPerDayAndStatusInWeek = new LinkedHashMap<>();
+    private Map<String, Map<String, Long>> issuesPerDayAndPriorityInWeek = new LinkedHashMap<>();
+
+    public StatisticsDashboardDTO() {}
+}
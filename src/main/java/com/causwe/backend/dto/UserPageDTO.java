@@ -0,0 +1,21 @@
+package com.causwe.backend.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class UserPageDTO {
+
+    private List<UserResponseDTO> users;
+    private String nextCursor;
+
+    public UserPageDTO() {}
+
+    public UserPageDTO(List<UserResponseDTO> users, String nextCursor) {
+        this.users = users;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -1,5 +1,7 @@
 package com.causwe.backend.dto;
 
+import com.causwe.backend.model.User;
+
 import lombok.Getter;
 import lombok.Setter;
 
@@ -16,4 +18,10 @@ public class UserResponseDTO {
 
     public UserResponseDTO() {}
 
+    // 엔티티를 읽지 않고 username/role만 조회하는 JPQL 프로젝션용
+    public UserResponseDTO(String username, User.Role role) {
+        this.username = username;
+        this.role = role == null ? null : Role.valueOf(role.name());
+    }
+
 }
@@ -0,0 +1,30 @@
+package com.causwe.backend.embedding;
+
+import com.causwe.backend.repository.IssueRepository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Postgres azure_ai 확장(azure_openai.create_embeddings)으로 한 번에 여러 제목을 임베딩한다
+@Component
+@ConditionalOnProperty(name = "app.embedding.provider", havingValue = "azure", matchIfMissing = true)
+public class AzureOpenAiEmbeddingProvider implements EmbeddingProvider {
+
+    private final IssueRepository issueRepository;
+
+    @Autowired
+    public AzureOpenAiEmbeddingProvider(IssueRepository issueRepository) {
+        this.issueRepository = issueRepository;
+    }
+
+    @Override
+    public List<float[]> embed(List<String> texts) {
+        return issueRepository.createAzureEmbeddings(texts.toArray(new String[0]))
+                .stream()
+                .map(EmbeddingVectors::parse)
+                .toList();
+    }
+}
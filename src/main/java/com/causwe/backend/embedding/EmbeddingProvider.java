@@ -0,0 +1,11 @@
+package com.causwe.backend.embedding;
+
+import java.util.List;
+
+// 이슈 제목을 벡터로 바꾸는 방식. 배포마다 app.embedding.provider로 하나를 고른다 (azure: 기본값, local: JVM 안에서 계산).
+// 반환하는 벡터의 수와 순서는 입력과 같아야 하고, 차원은 issue_embeddings.issue_embedding 컬럼과 같아야 한다.
+// 제공자를 바꾸면 기존 벡터와 비교할 수 없으므로 app.embedding.backfill=all로 한 번 다시 계산한다.
+public interface EmbeddingProvider {
+
+    List<float[]> embed(List<String> texts);
+}
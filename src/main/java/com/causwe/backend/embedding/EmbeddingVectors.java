@@ -0,0 +1,31 @@
+package com.causwe.backend.embedding;
+
+// pgvector 텍스트 표현('[0.1,0.2]')과 real[] 텍스트 표현('{0.1,0.2}') 변환
+public final class EmbeddingVectors {
+
+    private EmbeddingVectors() {}
+
+    public static String format(float[] vector) {
+        StringBuilder text = new StringBuilder(vector.length * 12).append('[');
+        for (int i = 0; i < vector.length; i++) {
+            if (i > 0) {
+                text.append(',');
+            }
+            text.append(vector[i]);
+        }
+        return text.append(']').toString();
+    }
+
+    public static float[] parse(String text) {
+        String body = text.substring(1, text.length() - 1).trim();
+        if (body.isEmpty()) {
+            return new float[0];
+        }
+        String[] values = body.split(",");
+        float[] vector = new float[values.length];
+        for (int i = 0; i < values.length; i++) {
+            vector[i] = Float.parseFloat(values[i].trim());
+        }
+        return vector;
+    }
+}
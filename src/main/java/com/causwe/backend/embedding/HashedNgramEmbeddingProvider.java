@@ -0,0 +1,90 @@
+package com.causwe.backend.embedding;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// 외부 호출 없이 JVM 안에서 계산하는 임베딩 (feature hashing).
+//   - 단어와, 단어 앞뒤에 경계 문자를 붙인 글자 n-gram을 해시해서 dimensions 칸에 부호를 붙여 더한다
+//   - 마지막에 L2 정규화하므로 pgvector의 코사인 거리(<=>)를 그대로 쓸 수 있다
+// 철자가 비슷한 제목("login fails" / "login failure")끼리 가깝게 나온다. 의미 유사도는 모델 기반보다 약하다.
+@Component
+@ConditionalOnProperty(name = "app.embedding.provider", havingValue = "local")
+public class HashedNgramEmbeddingProvider implements EmbeddingProvider {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final float WORD_WEIGHT = 1.0f;
+    private static final float NGRAM_WEIGHT = 0.5f;
+
+    private final int dimensions;
+    private final int ngram;
+
+    @Autowired
+    public HashedNgramEmbeddingProvider(@Value("${app.embedding.dimensions:1536}") int dimensions,
+                                        @Value("${app.embedding.ngram:3}") int ngram) {
+        this.dimensions = dimensions;
+        this.ngram = ngram;
+    }
+
+    @Override
+    public List<float[]> embed(List<String> texts) {
+        List<float[]> vectors = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            vectors.add(embed(text));
+        }
+        return vectors;
+    }
+
+    float[] embed(String text) {
+        float[] vector = new float[dimensions];
+        for (String word : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            add(vector, "w:" + word, WORD_WEIGHT);
+            String bounded = "<" + word + ">";
+            for (int i = 0; i + ngram <= bounded.length(); i++) {
+                add(vector, bounded.substring(i, i + ngram), NGRAM_WEIGHT);
+            }
+        }
+        normalize(vector);
+        return vector;
+    }
+
+    // String.hashCode는 JVM과 무관하게 정해져 있으므로 재시작 후에도 같은 벡터가 나온다
+    private void add(float[] vector, String feature, float weight) {
+        int hash = mix(feature.hashCode());
+        int index = Math.floorMod(hash, dimensions);
+        vector[index] += (hash & 0x80000000) == 0 ? weight : -weight;
+    }
+
+    private static void normalize(float[] vector) {
+        double sum = 0;
+        for (float value : vector) {
+            sum += value * value;
+        }
+        if (sum == 0) {
+            return;
+        }
+        float scale = (float) (1.0 / Math.sqrt(sum));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= scale;
+        }
+    }
+
+    // murmur3 fmix32: 비슷한 문자열의 hashCode가 인접한 칸에 몰리지 않게 섞는다
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
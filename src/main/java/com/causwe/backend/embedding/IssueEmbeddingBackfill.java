@@ -0,0 +1,79 @@
+package com.causwe.backend.embedding;
+
+import com.causwe.backend.config.ExecutorConfig;
+import com.causwe.backend.repository.IssueRepository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+// 기존 이슈의 제목 임베딩을 id 순서로 batchSize개씩 채운다.
+//   app.embedding.backfill=missing(기본값): 임베딩이 없는 이슈만, all: 전부 다시 계산 (제공자를 바꾼 뒤 한 번), none: 하지 않음
+// 시작을 막지 않도록 embedding 풀에서 돌고, 파이프라인이 그 사이 저장한 벡터는 missing 모드에서 덮어쓰지 않는다.
+@Component
+public class IssueEmbeddingBackfill {
+
+    private final IssueRepository issueRepository;
+    private final EmbeddingProvider embeddingProvider;
+    private final String mode;
+    private final int batchSize;
+    private final Executor executor;
+
+    @Autowired
+    public IssueEmbeddingBackfill(IssueRepository issueRepository, EmbeddingProvider embeddingProvider,
+                                  @Value("${app.embedding.backfill:missing}") String mode,
+                                  @Value("${app.embedding.batch-size:32}") int batchSize,
+                                  @Qualifier(ExecutorConfig.EMBEDDING) Executor executor) {
+        this.issueRepository = issueRepository;
+        this.embeddingProvider = embeddingProvider;
+        this.mode = mode;
+        this.batchSize = batchSize;
+        this.executor = executor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBackfill() {
+        if ("none".equals(mode)) {
+            return;
+        }
+        executor.execute(() -> backfill("all".equals(mode)));
+    }
+
+    // 처리한 이슈 수를 돌려준다
+    public int backfill(boolean all) {
+        int total = 0;
+        long afterId = 0;
+        while (true) {
+            List<Object[]> rows = all
+                    ? issueRepository.findTitlesAfter(afterId, batchSize)
+                    : issueRepository.findTitlesWithoutEmbeddingAfter(afterId, batchSize);
+            if (rows.isEmpty()) {
+                return total;
+            }
+            Long[] issueIds = new Long[rows.size()];
+            List<String> titles = new ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                issueIds[i] = ((Number) rows.get(i)[0]).longValue();
+                titles.add((String) rows.get(i)[1]);
+            }
+            String[] embeddings = embeddingProvider.embed(titles)
+                    .stream()
+                    .map(EmbeddingVectors::format)
+                    .toArray(String[]::new);
+            if (all) {
+                issueRepository.upsertEmbeddings(issueIds, embeddings);
+            } else {
+                issueRepository.insertMissingEmbeddings(issueIds, embeddings);
+            }
+            total += rows.size();
+            afterId = issueIds[issueIds.length - 1];
+        }
+    }
+}
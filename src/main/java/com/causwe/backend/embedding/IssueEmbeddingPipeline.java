@@ -0,0 +1,301 @@
+package com.causwe.backend.embedding;
+
+import com.causwe.backend.config.ExecutorConfig;
+import com.causwe.backend.repository.IssueRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 이슈 제목 임베딩을 모아서 처리하는 파이프라인.
+//   - 대기열은 이슈 id 기준으로 중복을 없앤다: 같은 이슈가 다시 들어오면 제목만 최신으로 바꾸고 순서/대기 시작 시각은 유지한다
+//   - 대기열이 가득 차면 받지 않는다 (요청 스레드를 막지 않는다)
+//   - 대기열이 차기 시작하면 embedding 풀에 처리 작업 하나를 넣는다. 그 작업이 batchSize개가 모이거나 maxDelay가 지나면
+//     EmbeddingProvider 호출 한 번 + 한 문장 upsert로 처리하고, 대기열이 비면 끝나서 풀 스레드를 돌려준다
+//   - 처리 작업은 한 번에 하나만 돌아 같은 이슈의 예전 제목이 새 제목을 덮어쓰지 않는다
+//   - 실패한 배치는 maxAttempts까지 다시 넣되, 그 사이 새 제목이 들어온 이슈는 새 값을 쓴다
+@Component
+public class IssueEmbeddingPipeline {
+
+    private final IssueRepository issueRepository;
+    private final EmbeddingProvider embeddingProvider;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final int capacity;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final Executor executor;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final LinkedHashMap<Long, Pending> pending = new LinkedHashMap<>();
+
+    private final Counter rejected;
+    private final Counter failed;
+    private final Counter dropped;
+    private final Timer lag;
+    private final Timer batchTimer;
+
+    private volatile boolean running;
+    // 처리 작업이 풀에 들어가 있거나 돌고 있으면 true (lock으로 보호)
+    private boolean draining;
+
+    @Autowired
+    public IssueEmbeddingPipeline(IssueRepository issueRepository, EmbeddingProvider embeddingProvider,
+                                  @Value("${app.embedding.batch-size:32}") int batchSize,
+                                  @Value("${app.embedding.max-delay:200ms}") Duration maxDelay,
+                                  @Value("${app.embedding.queue-capacity:10000}") int capacity,
+                                  @Value("${app.embedding.max-attempts:3}") int maxAttempts,
+                                  @Value("${app.embedding.retry-delay:1s}") Duration retryDelay,
+                                  @Qualifier(ExecutorConfig.EMBEDDING) Executor executor,
+                                  ObjectProvider<MeterRegistry> meterRegistry) {
+        this.issueRepository = issueRepository;
+        this.embeddingProvider = embeddingProvider;
+        this.batchSize = batchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.capacity = capacity;
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+        this.executor = executor;
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        Gauge.builder("embedding.queue.depth", this, IssueEmbeddingPipeline::queueDepth)
+                .description("Issues waiting for a title embedding")
+                .register(registry);
+        this.rejected = Counter.builder("embedding.queue.rejected").register(registry);
+        this.failed = Counter.builder("embedding.batch.failed").register(registry);
+        this.dropped = Counter.builder("embedding.dropped").description("Issues given up after maxAttempts").register(registry);
+        this.lag = Timer.builder("embedding.lag").description("Time from enqueue to stored embedding").register(registry);
+        this.batchTimer = Timer.builder("embedding.batch").register(registry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        scheduleDrain();
+    }
+
+    // 종료 시에는 돌고 있는 처리 작업을 잠시 기다린 뒤, 남은 대기열을 한 번씩만 시도하고 끝낸다
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        lock.lock();
+        try {
+            running = false;
+            changed.signalAll();
+            long remaining = TimeUnit.SECONDS.toNanos(5);
+            while (draining && remaining > 0) {
+                remaining = changed.awaitNanos(remaining);
+            }
+        } finally {
+            lock.unlock();
+        }
+        while (queueDepth() > 0 && flush() > 0) {
+            // drain
+        }
+    }
+
+    // 커밋된 이슈의 제목 임베딩을 요청한다. 대기열이 가득 차서 받지 못하면 false.
+    public boolean submit(Long issueId, String title) {
+        lock.lock();
+        try {
+            Pending existing = pending.get(issueId);
+            if (existing != null) {
+                pending.put(issueId, new Pending(title, existing.enqueuedAt, 0));
+                return true;
+            }
+            if (pending.size() >= capacity) {
+                rejected.increment();
+                return false;
+            }
+            pending.put(issueId, new Pending(title, System.nanoTime(), 0));
+            // 처리 작업은 배치가 찼을 때만 깨우면 된다
+            if (pending.size() >= batchSize) {
+                changed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    // 처리 작업이 없으면 풀에 넣는다. 풀이 가득 차서 거절되면 다음 submit 때 다시 넣는다.
+    private void scheduleDrain() {
+        lock.lock();
+        try {
+            if (!running || draining || pending.isEmpty()) {
+                return;
+            }
+            draining = true;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            finishDrain();
+        }
+    }
+
+    // 대기열 앞에서 한 배치를 꺼내 처리한다. 처리한 이슈 수를 돌려주고, 실패하면 다시 넣은 뒤 음수를 돌려준다.
+    int flush() {
+        Map<Long, Pending> batch = new LinkedHashMap<>();
+        lock.lock();
+        try {
+            Iterator<Map.Entry<Long, Pending>> it = pending.entrySet().iterator();
+            while (it.hasNext() && batch.size() < batchSize) {
+                Map.Entry<Long, Pending> entry = it.next();
+                batch.put(entry.getKey(), entry.getValue());
+                it.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Long[] issueIds = batch.keySet().toArray(new Long[0]);
+        List<String> titles = batch.values().stream().map(Pending::title).toList();
+        try {
+            batchTimer.record(() -> store(issueIds, titles));
+        } catch (RuntimeException e) {
+            failed.increment();
+            requeue(batch);
+            return -batch.size();
+        }
+        long now = System.nanoTime();
+        for (Pending done : batch.values()) {
+            lag.record(now - done.enqueuedAt, TimeUnit.NANOSECONDS);
+        }
+        return batch.size();
+    }
+
+    private void store(Long[] issueIds, List<String> titles) {
+        String[] embeddings = embeddingProvider.embed(titles)
+                .stream()
+                .map(EmbeddingVectors::format)
+                .toArray(String[]::new);
+        issueRepository.upsertEmbeddings(issueIds, embeddings);
+    }
+
+    int queueDepth() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void requeue(Map<Long, Pending> batch) {
+        lock.lock();
+        try {
+            batch.forEach((issueId, failedItem) -> {
+                if (failedItem.attempts + 1 >= maxAttempts) {
+                    dropped.increment();
+                } else {
+                    pending.putIfAbsent(issueId, new Pending(failedItem.title, failedItem.enqueuedAt, failedItem.attempts + 1));
+                }
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void drain() {
+        boolean finished = false;
+        try {
+            while (awaitBatch()) {
+                if (flush() < 0) {
+                    pause(retryDelay.toNanos());
+                }
+            }
+            finished = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // 정상 종료는 awaitBatch가 이미 표시했다 (여기서 다시 표시하면 그 사이 시작된 작업과 겹친다)
+            if (!finished) {
+                finishDrain();
+            }
+        }
+    }
+
+    private void finishDrain() {
+        lock.lock();
+        try {
+            draining = false;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // batchSize가 되거나 maxDelay가 지날 때까지 더 모은다. 대기열이 비었거나 종료 중이면 false.
+    private boolean awaitBatch() throws InterruptedException {
+        lock.lock();
+        try {
+            long remaining = maxDelayNanos;
+            while (running && !pending.isEmpty() && pending.size() < batchSize && remaining > 0) {
+                remaining = changed.awaitNanos(remaining);
+            }
+            if (!running || pending.isEmpty()) {
+                // submit이 대기열을 보고 새 작업을 넣을 수 있도록 같은 잠금 안에서 끝났다고 표시한다
+                draining = false;
+                changed.signalAll();
+                return false;
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 재시도 전에 기다린다. 종료하면 바로 깨어난다.
+    private void pause(long nanos) throws InterruptedException {
+        lock.lock();
+        try {
+            long remaining = nanos;
+            while (running && remaining > 0) {
+                remaining = changed.awaitNanos(remaining);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    List<Long> pendingIssueIds() {
+        lock.lock();
+        try {
+            return new ArrayList<>(pending.keySet());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Pending(String title, long enqueuedAt, int attempts) {
+    }
+}
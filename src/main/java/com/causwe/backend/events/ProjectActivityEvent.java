@@ -0,0 +1,64 @@
+package com.causwe.backend.events;
+
+import com.causwe.backend.model.Comment;
+import com.causwe.backend.model.Issue;
+
+import lombok.Getter;
+
+// 이슈/댓글이 만들어지거나 바뀌거나 지워졌다는 알림. 서비스가 트랜잭션 안에서 발행하고,
+// ProjectEventBroadcaster가 그 자리에서 DTO로 바꾼 뒤 커밋되면 SSE로 보낸다.
+@Getter
+public class ProjectActivityEvent {
+
+    public enum Type {
+        ISSUE_CREATED("issue.created"),
+        ISSUE_UPDATED("issue.updated"),
+        COMMENT_CREATED("comment.created"),
+        COMMENT_UPDATED("comment.updated"),
+        COMMENT_DELETED("comment.deleted");
+
+        private final String eventName;
+
+        Type(String eventName) {
+            this.eventName = eventName;
+        }
+
+        public String eventName() {
+            return eventName;
+        }
+    }
+
+    private final Long projectId;
+    private final Type type;
+    private final Issue issue;
+    private final Comment comment;
+    private final Long commentId;
+
+    private ProjectActivityEvent(Type type, Issue issue, Comment comment, Long commentId) {
+        this.projectId = issue.getProject().getId();
+        this.type = type;
+        this.issue = issue;
+        this.comment = comment;
+        this.commentId = commentId;
+    }
+
+    public static ProjectActivityEvent issueCreated(Issue issue) {
+        return new ProjectActivityEvent(Type.ISSUE_CREATED, issue, null, null);
+    }
+
+    public static ProjectActivityEvent issueUpdated(Issue issue) {
+        return new ProjectActivityEvent(Type.ISSUE_UPDATED, issue, null, null);
+    }
+
+    public static ProjectActivityEvent commentCreated(Comment comment) {
+        return new ProjectActivityEvent(Type.COMMENT_CREATED, comment.getIssue(), comment, comment.getId());
+    }
+
+    public static ProjectActivityEvent commentUpdated(Comment comment) {
+        return new ProjectActivityEvent(Type.COMMENT_UPDATED, comment.getIssue(), comment, comment.getId());
+    }
+
+    public static ProjectActivityEvent commentDeleted(Issue issue, Long commentId) {
+        return new ProjectActivityEvent(Type.COMMENT_DELETED, issue, null, commentId);
+    }
+}
@@ -0,0 +1,512 @@
+package com.causwe.backend.events;
+
+import com.causwe.backend.config.ExecutorConfig;
+import com.causwe.backend.dto.ProjectEventDTO;
+import com.causwe.backend.mapper.DtoMapper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 프로젝트의 이슈/댓글 변경을 SSE로 보낸다 (GET /api/projects/{projectId}/events).
+//   - 변경은 서비스 트랜잭션 안에서 DTO로 만들고 커밋된 뒤에만 보낸다 (롤백된 변경은 나가지 않는다). JSON은 이벤트당 한 번만 만든다
+//   - 이벤트 id는 "epoch.채널세대-프로젝트별 순번"이다. 프로젝트마다 최근 replaySize개를 기억해 Last-Event-ID 다음부터 다시 보낸다.
+//     재시작했거나 너무 뒤처져 이어 보낼 수 없으면 reset 이벤트를 보내고, 클라이언트는 목록을 다시 읽는다
+//   - 구독자가 모두 떠난 프로젝트의 기록은 channelIdleTimeout 뒤에 버린다 (그 뒤에 이어 받으려는 클라이언트는 reset을 받는다)
+//   - 연결을 맺으면 (다시 보낼 이벤트 뒤에) 현재 id로 ready 이벤트를 보낸다
+//   - 연결마다 bufferSize개까지만 쌓는다. 넘치면 연결을 끊고, 클라이언트는 Last-Event-ID로 다시 붙어 이어 받는다
+//   - 전송은 전용 sse 풀에서 연결마다 한 작업씩만 돌아 순서가 지켜지고, 쓰기 요청이나 다른 @Async 작업을 막지 않는다
+//   - 한 번의 쓰기가 sendTimeout을 넘기면 느린 클라이언트로 보고 연결을 끊는다 (heartbeat 때 검사한다).
+//     막힌 쓰기가 풀 스레드를 계속 잡고 있다가 다음 이벤트로 또 잡지 않게 한다
+//   - heartbeat마다 보낼 것이 없는 연결에 주석 한 줄을 보내 프록시가 유휴 연결을 끊지 않게 한다
+//   - emitter의 send와 complete는 같은 잠금을 쓰므로, 전송 중인 연결은 전송 작업이 끝나면서 닫는다 (닫는 스레드가 기다리지 않는다)
+@Component
+public class ProjectEventBroadcaster {
+
+    private static final Entry HEARTBEAT = new Entry(-1, null, null);
+
+    private final DtoMapper dtoMapper;
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final long timeoutMillis;
+    private final Duration heartbeat;
+    private final int bufferSize;
+    private final int replaySize;
+    private final long sendTimeoutNanos;
+    private final long channelIdleNanos;
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong channelGenerations = new AtomicLong();
+
+    private final ConcurrentHashMap<Long, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Counter overflows;
+    private final Counter slowClients;
+    private ScheduledExecutorService heartbeats;
+
+    @Autowired
+    public ProjectEventBroadcaster(DtoMapper dtoMapper, ObjectMapper objectMapper,
+                                   @Qualifier(ExecutorConfig.SSE) Executor executor,
+                                   @Value("${app.sse.timeout:30m}") Duration timeout,
+                                   @Value("${app.sse.heartbeat:15s}") Duration heartbeat,
+                                   @Value("${app.sse.buffer-size:256}") int bufferSize,
+                                   @Value("${app.sse.replay-size:1000}") int replaySize,
+                                   @Value("${app.sse.send-timeout:10s}") Duration sendTimeout,
+                                   @Value("${app.sse.channel-idle-timeout:5m}") Duration channelIdleTimeout,
+                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        this.dtoMapper = dtoMapper;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.timeoutMillis = timeout.toMillis();
+        this.heartbeat = heartbeat;
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.channelIdleNanos = channelIdleTimeout.toNanos();
+
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        Gauge.builder("sse.connections", connections, AtomicInteger::get)
+                .description("Open project event streams")
+                .register(registry);
+        this.overflows = Counter.builder("sse.overflow")
+                .description("Streams closed because the client fell more than buffer-size events behind")
+                .register(registry);
+        this.slowClients = Counter.builder("sse.slow")
+                .description("Streams closed because a single write took longer than send-timeout")
+                .register(registry);
+        Gauge.builder("sse.channels", channels, ConcurrentHashMap::size)
+                .description("Projects whose recent events are kept for resuming")
+                .register(registry);
+    }
+
+    @PostConstruct
+    public void start() {
+        heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = heartbeat.toMillis();
+        heartbeats.scheduleAtFixedRate(this::sendHeartbeats, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (heartbeats != null) {
+            heartbeats.shutdownNow();
+        }
+        channels.values().forEach(channel -> channel.subscribers().forEach(subscriber -> close(channel, subscriber, true)));
+    }
+
+    public SseEmitter subscribe(Long projectId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        subscribe(projectId, lastEventId, emitter);
+        return emitter;
+    }
+
+    void subscribe(Long projectId, String lastEventId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        // 다시 보낼 이벤트를 넣는 동안 새 이벤트가 끼어들지 않도록 채널 잠금 안에서 등록한다.
+        // 그 사이 유휴 채널로 버려졌으면 새 채널을 받는다.
+        Channel channel;
+        while (true) {
+            channel = channels.computeIfAbsent(projectId, id -> new Channel());
+            channel.lock.lock();
+            if (!channel.retired) {
+                break;
+            }
+            channel.lock.unlock();
+        }
+        try {
+            List<Entry> replay = channel.replayAfter(lastEventId);
+            if (replay == null) {
+                subscriber.offer(channel.marker("reset"));
+            } else {
+                replay.forEach(subscriber::offer);
+                subscriber.offer(channel.marker("ready"));
+            }
+            channel.subscribers.add(subscriber);
+        } finally {
+            channel.lock.unlock();
+        }
+        Channel subscribed = channel;
+        emitter.onCompletion(() -> close(subscribed, subscriber, false));
+        emitter.onTimeout(() -> close(subscribed, subscriber, true));
+        emitter.onError(e -> close(subscribed, subscriber, false));
+        connections.incrementAndGet();
+        schedule(channel, subscriber);
+    }
+
+    // 트랜잭션 안에서 DTO를 만들고(지연 로딩 연관을 읽는다), 커밋된 뒤에 보낸다.
+    // 한 번도 구독되지 않은 프로젝트는 건너뛴다 (이어 받을 클라이언트가 없다).
+    @EventListener
+    public void onProjectActivity(ProjectActivityEvent event) {
+        if (!channels.containsKey(event.getProjectId())) {
+            return;
+        }
+        boolean issueChanged = event.getType() == ProjectActivityEvent.Type.ISSUE_CREATED
+                || event.getType() == ProjectActivityEvent.Type.ISSUE_UPDATED;
+        ProjectEventDTO payload = new ProjectEventDTO(event.getType().eventName(), event.getIssue().getId(),
+                issueChanged ? dtoMapper.toIssueDTO(event.getIssue()) : null,
+                event.getCommentId(),
+                event.getComment() != null ? dtoMapper.toCommentDTO(event.getComment()) : null);
+        afterCommit(() -> publish(event.getProjectId(), payload));
+    }
+
+    void publish(Long projectId, ProjectEventDTO payload) {
+        Channel channel = channels.get(projectId);
+        if (channel == null) {
+            return;
+        }
+        String json = toJson(payload);
+        List<Subscriber> ready = new ArrayList<>();
+        List<Subscriber> overflowed = new ArrayList<>();
+        channel.lock.lock();
+        try {
+            Entry entry = channel.append(payload.getType(), json);
+            for (Subscriber subscriber : channel.subscribers) {
+                (subscriber.offer(entry) ? ready : overflowed).add(subscriber);
+            }
+        } finally {
+            channel.lock.unlock();
+        }
+        ready.forEach(subscriber -> schedule(channel, subscriber));
+        overflowed.forEach(subscriber -> {
+            overflows.increment();
+            close(channel, subscriber, true);
+        });
+    }
+
+    void sendHeartbeats() {
+        long now = System.nanoTime();
+        channels.forEach((projectId, channel) -> {
+            for (Subscriber subscriber : channel.subscribers()) {
+                long sendingSince = subscriber.sendingSince;
+                if (sendingSince != 0 && now - sendingSince >= sendTimeoutNanos) {
+                    slowClients.increment();
+                    close(channel, subscriber, true);
+                    continue;
+                }
+                subscriber.offerHeartbeat();
+                // 풀이 바빠 넣지 못했던 전송도 여기서 다시 넣는다
+                schedule(channel, subscriber);
+            }
+            evictIfIdle(projectId, channel, now);
+        });
+    }
+
+    private void evictIfIdle(Long projectId, Channel channel, long now) {
+        channel.lock.lock();
+        try {
+            if (channel.subscribers.isEmpty() && now - channel.idleSince >= channelIdleNanos) {
+                channel.retired = true;
+                channels.remove(projectId, channel);
+            }
+        } finally {
+            channel.lock.unlock();
+        }
+    }
+
+    int connectionCount() {
+        return connections.get();
+    }
+
+    int channelCount() {
+        return channels.size();
+    }
+
+    private void schedule(Channel channel, Subscriber subscriber) {
+        if (!subscriber.claimDrain()) {
+            return;
+        }
+        try {
+            executor.execute(() -> drain(channel, subscriber));
+        } catch (RejectedExecutionException e) {
+            // 버퍼에 남겨 두고 다음 이벤트나 heartbeat 때 다시 넣는다
+            subscriber.releaseDrain();
+        }
+    }
+
+    private void drain(Channel channel, Subscriber subscriber) {
+        Entry entry;
+        while ((entry = subscriber.next()) != null) {
+            try {
+                subscriber.emitter.send(toEvent(channel, entry));
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 끊었다. 컨테이너가 오류 콜백으로 연결을 정리한다.
+                close(channel, subscriber, false);
+                return;
+            } finally {
+                subscriber.sent();
+            }
+        }
+        // 전송 중에 닫힌 연결은 여기서 끝낸다
+        if (subscriber.completeOnExit()) {
+            complete(subscriber);
+        }
+    }
+
+    private void close(Channel channel, Subscriber subscriber, boolean complete) {
+        if (!subscriber.markClosed(complete)) {
+            return;
+        }
+        channel.lock.lock();
+        try {
+            channel.subscribers.remove(subscriber);
+            if (channel.subscribers.isEmpty()) {
+                channel.idleSince = System.nanoTime();
+            }
+        } finally {
+            channel.lock.unlock();
+        }
+        connections.decrementAndGet();
+        if (complete && !subscriber.completeOnExit()) {
+            complete(subscriber);
+        }
+    }
+
+    private static void complete(Subscriber subscriber) {
+        try {
+            subscriber.emitter.complete();
+        } catch (IllegalStateException e) {
+            // 이미 끝난 연결
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toEvent(Channel channel, Entry entry) {
+        if (entry == HEARTBEAT) {
+            return SseEmitter.event().comment("heartbeat");
+        }
+        return SseEmitter.event().id(channel.idPrefix + "-" + entry.seq).name(entry.name).data(entry.json);
+    }
+
+    private String toJson(ProjectEventDTO payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private record Entry(long seq, String name, String json) {
+    }
+
+    // 프로젝트 하나의 순번, 최근 이벤트, 연결 목록 (lock으로 보호).
+    // 버렸다 다시 만든 채널은 순번이 처음부터 시작하므로 id 앞부분(세대)을 바꿔 예전 id로 이어 받지 못하게 한다.
+    private final class Channel {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ArrayDeque<Entry> replay = new ArrayDeque<>();
+        private final List<Subscriber> subscribers = new ArrayList<>();
+        private final String idPrefix = epoch + "." + Long.toString(channelGenerations.incrementAndGet(), 36);
+        private long lastSeq;
+        private long idleSince = System.nanoTime();
+        private boolean retired;
+
+        private Entry append(String name, String json) {
+            Entry entry = new Entry(++lastSeq, name, json);
+            replay.addLast(entry);
+            if (replay.size() > replaySize) {
+                replay.removeFirst();
+            }
+            return entry;
+        }
+
+        private Entry marker(String name) {
+            return new Entry(lastSeq, name, toJson(new ProjectEventDTO(name, null, null, null, null)));
+        }
+
+        // lastEventId 다음 이벤트들. 이어 보낼 수 없으면 null.
+        private List<Entry> replayAfter(String lastEventId) {
+            if (lastEventId == null || lastEventId.isEmpty()) {
+                return List.of();
+            }
+            int dash = lastEventId.lastIndexOf('-');
+            if (dash < 0 || !lastEventId.substring(0, dash).equals(idPrefix)) {
+                return null;
+            }
+            long seq;
+            try {
+                seq = Long.parseLong(lastEventId.substring(dash + 1));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            if (seq > lastSeq) {
+                return null;
+            }
+            if (seq == lastSeq) {
+                return List.of();
+            }
+            // 지난 이벤트가 기록에서 밀려났거나, ready까지 연결 버퍼에 다 들어가지 않는다
+            if (replay.isEmpty() || replay.peekFirst().seq > seq + 1 || lastSeq - seq >= bufferSize) {
+                return null;
+            }
+            return replay.stream().filter(entry -> entry.seq > seq).toList();
+        }
+
+        private List<Subscriber> subscribers() {
+            lock.lock();
+            try {
+                return new ArrayList<>(subscribers);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // 연결 하나의 보낼 이벤트 버퍼 (lock으로 보호). draining이면 풀에서 전송 작업이 돌고 있다.
+    // sendingSince는 next()로 꺼낸 이벤트를 쓰기 시작한 시각 (System.nanoTime, 쓰고 있지 않으면 0).
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ArrayDeque<Entry> buffer = new ArrayDeque<>();
+        private volatile long sendingSince;
+        private boolean draining;
+        private boolean closed;
+        private boolean completeOnExit;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        // 버퍼가 가득 찼으면 false. 닫힌 연결에는 넣지 않고 true를 돌려준다 (이미 정리 중이다).
+        private boolean offer(Entry entry) {
+            lock.lock();
+            try {
+                if (closed || buffer.size() >= bufferSize) {
+                    return closed;
+                }
+                buffer.addLast(entry);
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void offerHeartbeat() {
+            lock.lock();
+            try {
+                if (!closed && !draining && buffer.isEmpty()) {
+                    buffer.addLast(HEARTBEAT);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean claimDrain() {
+            lock.lock();
+            try {
+                if (closed || draining || buffer.isEmpty()) {
+                    return false;
+                }
+                draining = true;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void releaseDrain() {
+            lock.lock();
+            try {
+                draining = false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 버퍼가 비었거나 닫혔으면 draining을 내리고 null (같은 잠금 안이라 그 사이 들어온 이벤트는 새 작업이 맡는다)
+        private Entry next() {
+            lock.lock();
+            try {
+                Entry entry = closed ? null : buffer.pollFirst();
+                if (entry == null) {
+                    draining = false;
+                } else {
+                    sendingSince = System.nanoTime();
+                }
+                return entry;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void sent() {
+            lock.lock();
+            try {
+                sendingSince = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 쓰는 중이면 complete를 전송 작업에 맡긴다
+        private boolean markClosed(boolean complete) {
+            lock.lock();
+            try {
+                if (closed) {
+                    return false;
+                }
+                closed = true;
+                completeOnExit = complete && sendingSince != 0;
+                buffer.clear();
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean completeOnExit() {
+            lock.lock();
+            try {
+                return completeOnExit;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.causwe.backend.exceptions;
+
+public class ChatCompletionBusyException extends RuntimeException {
+    public ChatCompletionBusyException() {
+        super("Too many natural-language searches in progress. Please try again later.");
+    }
+
+    public ChatCompletionBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.causwe.backend.exceptions;
+
+public class InvalidQueryException extends RuntimeException {
+    public InvalidQueryException(String message) {
+        super("Generated query rejected: " + message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.causwe.backend.exceptions;
+
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException() {
+        super("Too many logins in progress. Please try again later.");
+    }
+}
@@ -0,0 +1,40 @@
+package com.causwe.backend.mapper;
+
+import com.causwe.backend.dto.CommentDTO;
+import com.causwe.backend.dto.IssueDTO;
+import com.causwe.backend.dto.IssueSummary;
+import com.causwe.backend.dto.ProjectDTO;
+import com.causwe.backend.dto.UserResponseDTO;
+import com.causwe.backend.model.Comment;
+import com.causwe.backend.model.Issue;
+import com.causwe.backend.model.Project;
+import com.causwe.backend.model.User;
+
+// 엔티티 <-> DTO 변환. 구현체는 app.mapper 속성으로 고른다 (manual: 기본값, modelmapper)
+public interface DtoMapper {
+    IssueDTO toIssueDTO(Issue issue);
+    Issue toIssue(IssueDTO issueDTO);
+    CommentDTO toCommentDTO(Comment comment);
+    Comment toComment(CommentDTO commentDTO);
+    UserResponseDTO toUserResponseDTO(User user);
+    ProjectDTO toProjectDTO(Project project);
+    Project toProject(ProjectDTO projectDTO);
+
+    // 목록 응답은 description 없이 요약 컬럼만 내려준다 (두 구현 모두 같은 변환을 쓴다)
+    default IssueDTO toIssueDTO(IssueSummary summary) {
+        IssueDTO issueDTO = new IssueDTO();
+        issueDTO.setId(summary.getId());
+        issueDTO.setTitle(summary.getTitle());
+        issueDTO.setReportedDate(summary.getReportedDate());
+        issueDTO.setReporterUsername(summary.getReporterUsername());
+        issueDTO.setFixerUsername(summary.getFixerUsername());
+        issueDTO.setAssigneeUsername(summary.getAssigneeUsername());
+        if (summary.getPriority() != null) {
+            issueDTO.setPriority(IssueDTO.Priority.valueOf(summary.getPriority().name()));
+        }
+        if (summary.getStatus() != null) {
+            issueDTO.setStatus(IssueDTO.Status.valueOf(summary.getStatus().name()));
+        }
+        return issueDTO;
+    }
+}
@@ -0,0 +1,132 @@
+package com.causwe.backend.mapper;
+
+import com.causwe.backend.dto.CommentDTO;
+import com.causwe.backend.dto.IssueDTO;
+import com.causwe.backend.dto.ProjectDTO;
+import com.causwe.backend.dto.UserResponseDTO;
+import com.causwe.backend.model.Comment;
+import com.causwe.backend.model.Issue;
+import com.causwe.backend.model.Project;
+import com.causwe.backend.model.User;
+import com.causwe.backend.service.UserService;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 필드를 직접 옮기는 매퍼. 리플렉션이나 중간 객체 없이 DTO 하나만 만든다.
+@Component
+@ConditionalOnProperty(name = "app.mapper", havingValue = "manual", matchIfMissing = true)
+public class ManualDtoMapper implements DtoMapper {
+
+    private final UserService userService;
+
+    @Autowired
+    public ManualDtoMapper(UserService userService) {
+        this.userService = userService;
+    }
+
+    @Override
+    public IssueDTO toIssueDTO(Issue issue) {
+        if (issue == null) {
+            return null;
+        }
+        IssueDTO issueDTO = new IssueDTO();
+        issueDTO.setId(issue.getId());
+        issueDTO.setTitle(issue.getTitle());
+        issueDTO.setDescription(issue.getDescription());
+        issueDTO.setReportedDate(issue.getReportedDate());
+        issueDTO.setReporterUsername(username(issue.getReporter()));
+        issueDTO.setFixerUsername(username(issue.getFixer()));
+        issueDTO.setAssigneeUsername(username(issue.getAssignee()));
+        if (issue.getPriority() != null) {
+            issueDTO.setPriority(IssueDTO.Priority.valueOf(issue.getPriority().name()));
+        }
+        if (issue.getStatus() != null) {
+            issueDTO.setStatus(IssueDTO.Status.valueOf(issue.getStatus().name()));
+        }
+        return issueDTO;
+    }
+
+    // 요청 본문에서 서비스가 읽는 사용자는 assignee뿐이다.
+    // reporter는 로그인 사용자, fixer는 Developer.updateIssue가 정하므로 조회하지 않는다.
+    @Override
+    public Issue toIssue(IssueDTO issueDTO) {
+        if (issueDTO == null) {
+            return null;
+        }
+        Issue issue = new Issue();
+        issue.setId(issueDTO.getId());
+        issue.setTitle(issueDTO.getTitle());
+        issue.setDescription(issueDTO.getDescription());
+        issue.setReportedDate(issueDTO.getReportedDate());
+        if (issueDTO.getPriority() != null) {
+            issue.setPriority(Issue.Priority.valueOf(issueDTO.getPriority().name()));
+        }
+        if (issueDTO.getStatus() != null) {
+            issue.setStatus(Issue.Status.valueOf(issueDTO.getStatus().name()));
+        }
+        if (issueDTO.getAssigneeUsername() != null) {
+            issue.setAssignee(userService.getUserByUsername(issueDTO.getAssigneeUsername()));
+        }
+        return issue;
+    }
+
+    @Override
+    public CommentDTO toCommentDTO(Comment comment) {
+        if (comment == null) {
+            return null;
+        }
+        return new CommentDTO(comment.getId(), username(comment.getUser()), comment.getContent(), comment.getCreatedAt());
+    }
+
+    @Override
+    public Comment toComment(CommentDTO commentDTO) {
+        if (commentDTO == null) {
+            return null;
+        }
+        Comment comment = new Comment();
+        comment.setId(commentDTO.getId());
+        comment.setContent(commentDTO.getContent());
+        comment.setCreatedAt(commentDTO.getCreatedAt());
+        return comment;
+    }
+
+    @Override
+    public UserResponseDTO toUserResponseDTO(User user) {
+        if (user == null) {
+            return null;
+        }
+        UserResponseDTO userDTO = new UserResponseDTO();
+        userDTO.setUsername(user.getUsername());
+        if (user.getRole() != null) {
+            userDTO.setRole(UserResponseDTO.Role.valueOf(user.getRole().name()));
+        }
+        return userDTO;
+    }
+
+    @Override
+    public ProjectDTO toProjectDTO(Project project) {
+        if (project == null) {
+            return null;
+        }
+        ProjectDTO projectDTO = new ProjectDTO();
+        projectDTO.setId(project.getId());
+        projectDTO.setName(project.getName());
+        return projectDTO;
+    }
+
+    @Override
+    public Project toProject(ProjectDTO projectDTO) {
+        if (projectDTO == null) {
+            return null;
+        }
+        Project project = new Project(projectDTO.getName());
+        project.setId(projectDTO.getId());
+        return project;
+    }
+
+    private String username(User user) {
+        return user != null ? user.getUsername() : null;
+    }
+}
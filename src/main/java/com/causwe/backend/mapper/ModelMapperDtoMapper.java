@@ -0,0 +1,63 @@
+package com.causwe.backend.mapper;
+
+import com.causwe.backend.dto.CommentDTO;
+import com.causwe.backend.dto.IssueDTO;
+import com.causwe.backend.dto.ProjectDTO;
+import com.causwe.backend.dto.UserResponseDTO;
+import com.causwe.backend.model.Comment;
+import com.causwe.backend.model.Issue;
+import com.causwe.backend.model.Project;
+import com.causwe.backend.model.User;
+
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 기존 ModelMapper 설정(ModelMapperConfig)을 그대로 쓰는 매퍼. app.mapper=modelmapper 일 때만 등록된다.
+@Component
+@ConditionalOnProperty(name = "app.mapper", havingValue = "modelmapper")
+public class ModelMapperDtoMapper implements DtoMapper {
+
+    private final ModelMapper modelMapper;
+
+    @Autowired
+    public ModelMapperDtoMapper(ModelMapper modelMapper) {
+        this.modelMapper = modelMapper;
+    }
+
+    @Override
+    public IssueDTO toIssueDTO(Issue issue) {
+        return modelMapper.map(issue, IssueDTO.class);
+    }
+
+    @Override
+    public Issue toIssue(IssueDTO issueDTO) {
+        return modelMapper.map(issueDTO, Issue.class);
+    }
+
+    @Override
+    public CommentDTO toCommentDTO(Comment comment) {
+        return modelMapper.map(comment, CommentDTO.class);
+    }
+
+    @Override
+    public Comment toComment(CommentDTO commentDTO) {
+        return modelMapper.map(commentDTO, Comment.class);
+    }
+
+    @Override
+    public UserResponseDTO toUserResponseDTO(User user) {
+        return modelMapper.map(user, UserResponseDTO.class);
+    }
+
+    @Override
+    public ProjectDTO toProjectDTO(Project project) {
+        return modelMapper.map(project, ProjectDTO.class);
+    }
+
+    @Override
+    public Project toProject(ProjectDTO projectDTO) {
+        return modelMapper.map(projectDTO, Project.class);
+    }
+}
@@ -13,7 +13,12 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
-@Table(name = "issues")
+@Table(name = "issues", indexes = {
+        @Index(name = "idx_issues_project_id", columnList = "project_id, id"),
+        @Index(name = "idx_issues_project_status", columnList = "project_id, status, id"),
+        @Index(name = "idx_issues_project_assignee", columnList = "project_id, assignee_id, id"),
+        @Index(name = "idx_issues_project_reporter_status", columnList = "project_id, reporter_id, status, id")
+})
 public class Issue {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -25,18 +30,18 @@ public class Issue {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String description;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "reporter_id", nullable = false)
     private User reporter;
 
     @Column(nullable = false)
     private LocalDateTime reportedDate;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "fixer_id")
     private User fixer;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assignee_id")
     private User assignee;
 
@@ -49,7 +54,7 @@ public class Issue {
     @OneToMany(mappedBy = "issue", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> comments = new ArrayList<>();
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
 
@@ -109,6 +114,7 @@ public class Issue {
         }
     }
 
+    // 연관 엔티티는 id로 비교한다. 사용자는 캐시(UserDirectory)나 지연 로딩 프록시 등 다른 인스턴스로 들어올 수 있다.
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -117,18 +123,27 @@ public class Issue {
         return id.equals(issue.id) &&
                 title.equals(issue.title) &&
                 description.equals(issue.description) &&
-                reporter.equals(issue.reporter) &&
+                Objects.equals(userId(reporter), userId(issue.reporter)) &&
                 reportedDate.equals(issue.reportedDate) &&
-                Objects.equals(fixer, issue.fixer) &&
-                Objects.equals(assignee, issue.assignee) &&
+                Objects.equals(userId(fixer), userId(issue.fixer)) &&
+                Objects.equals(userId(assignee), userId(issue.assignee)) &&
                 priority == issue.priority &&
                 status == issue.status &&
                 comments.equals(issue.comments) && // List 비교
-                project.equals(issue.project);
+                Objects.equals(projectId(project), projectId(issue.project));
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, title, description, reporter, reportedDate, fixer, assignee, priority, status, comments, project);
+        return Objects.hash(id, title, description, userId(reporter), reportedDate, userId(fixer), userId(assignee),
+                priority, status, comments, projectId(project));
+    }
+
+    private static Long userId(User user) {
+        return user != null ? user.getId() : null;
+    }
+
+    private static Long projectId(Project project) {
+        return project != null ? project.getId() : null;
     }
 }
\ No newline at end of file
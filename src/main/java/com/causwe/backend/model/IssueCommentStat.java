@@ -0,0 +1,26 @@
+package com.causwe.backend.model;
+
+import jakarta.persistence.*;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// 이슈별 댓글 수 롤업. 댓글이 많은 이슈 통계를 comments 전체를 세지 않고 읽는다.
+@Getter
+@Setter
+@Entity
+@Table(name = "issue_comment_stats", indexes = {
+        @Index(name = "idx_issue_comment_stats_project_count", columnList = "project_id, comment_count")
+})
+public class IssueCommentStat {
+
+    @Id
+    @Column(name = "issue_id")
+    private Long issueId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(nullable = false)
+    private long commentCount;
+}
@@ -0,0 +1,50 @@
+package com.causwe.backend.model;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+// 프로젝트/보고일/상태/우선순위별 이슈 수 롤업. 이슈 생성/수정 시 같은 트랜잭션에서 증감한다.
+@Getter
+@Setter
+@Entity
+@Table(name = "issue_daily_stats")
+@IdClass(IssueDailyStat.Key.class)
+public class IssueDailyStat {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Id
+    private String status;
+
+    // 우선순위가 없는 이슈는 빈 문자열로 저장한다 (기본키에는 null을 쓸 수 없다)
+    @Id
+    private String priority;
+
+    @Column(nullable = false)
+    private long issueCount;
+
+    @Column(nullable = false)
+    private long unassignedCount;
+
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long projectId;
+        private LocalDate statDate;
+        private String status;
+        private String priority;
+    }
+}
@@ -0,0 +1,41 @@
+package com.causwe.backend.model;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+
+// 프로젝트/해결자/상태별 이슈 수 롤업
+@Getter
+@Setter
+@Entity
+@Table(name = "issue_fixer_stats")
+@IdClass(IssueFixerStat.Key.class)
+public class IssueFixerStat {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Id
+    @Column(name = "fixer_id")
+    private Long fixerId;
+
+    @Id
+    private String status;
+
+    @Column(nullable = false)
+    private long issueCount;
+
+    @Getter
+    @Setter
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long projectId;
+        private Long fixerId;
+        private String status;
+    }
+}
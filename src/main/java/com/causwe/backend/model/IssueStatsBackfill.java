@@ -0,0 +1,23 @@
+package com.causwe.backend.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// 롤업 테이블을 issues/comments에서 다시 만든 프로젝트. 행이 있는 프로젝트는 시작 시 백필을 건너뛴다.
+@Getter
+@Setter
+@Entity
+@Table(name = "issue_stats_backfills")
+public class IssueStatsBackfill {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(nullable = false)
+    private LocalDateTime backfilledAt;
+}
@@ -2,6 +2,7 @@ package com.causwe.backend.model;
 
 import jakarta.persistence.*;
 import java.io.Serializable;
+import org.hibernate.annotations.BatchSize;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.Getter;
 import lombok.Setter;
@@ -9,10 +10,13 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_role_username", columnList = "role, username")
+})
 @JsonIgnoreProperties(value = {"password"}, allowSetters = true)
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE) // Assuming Single Table Inheritance
 @DiscriminatorColumn(name = "role", discriminatorType = DiscriminatorType.STRING)
+@BatchSize(size = 50) // 지연 로딩된 reporter/assignee/fixer 프록시를 IN 조회 한 번으로 묶는다
 public abstract class User implements Serializable {
 
     private static final long serialVersionUID = 1L;
@@ -0,0 +1,498 @@
+package com.causwe.backend.nlsearch;
+
+import com.causwe.backend.exceptions.InvalidQueryException;
+
+import com.alibaba.druid.DbType;
+import com.alibaba.druid.sql.SQLUtils;
+import com.alibaba.druid.sql.ast.SQLExpr;
+import com.alibaba.druid.sql.ast.SQLExprImpl;
+import com.alibaba.druid.sql.ast.SQLLimit;
+import com.alibaba.druid.sql.ast.SQLName;
+import com.alibaba.druid.sql.ast.SQLObject;
+import com.alibaba.druid.sql.ast.SQLSetQuantifier;
+import com.alibaba.druid.sql.ast.SQLStatement;
+import com.alibaba.druid.sql.ast.expr.SQLAggregateExpr;
+import com.alibaba.druid.sql.ast.expr.SQLAllColumnExpr;
+import com.alibaba.druid.sql.ast.expr.SQLBinaryOpExpr;
+import com.alibaba.druid.sql.ast.expr.SQLBinaryOperator;
+import com.alibaba.druid.sql.ast.expr.SQLCharExpr;
+import com.alibaba.druid.sql.ast.expr.SQLIdentifierExpr;
+import com.alibaba.druid.sql.ast.expr.SQLInListExpr;
+import com.alibaba.druid.sql.ast.expr.SQLInSubQueryExpr;
+import com.alibaba.druid.sql.ast.expr.SQLIntegerExpr;
+import com.alibaba.druid.sql.ast.expr.SQLMethodInvokeExpr;
+import com.alibaba.druid.sql.ast.expr.SQLPropertyExpr;
+import com.alibaba.druid.sql.ast.expr.SQLVariantRefExpr;
+import com.alibaba.druid.sql.ast.statement.SQLExprTableSource;
+import com.alibaba.druid.sql.ast.statement.SQLJoinTableSource;
+import com.alibaba.druid.sql.ast.statement.SQLSelect;
+import com.alibaba.druid.sql.ast.statement.SQLSelectItem;
+import com.alibaba.druid.sql.ast.statement.SQLSelectQueryBlock;
+import com.alibaba.druid.sql.ast.statement.SQLSelectStatement;
+import com.alibaba.druid.sql.ast.statement.SQLTableSource;
+import com.alibaba.druid.sql.ast.statement.SQLUnionQuery;
+import com.alibaba.druid.sql.ast.statement.SQLWithSubqueryClause;
+import com.alibaba.druid.sql.dialect.postgresql.ast.stmt.PGSelectQueryBlock;
+import com.alibaba.druid.sql.dialect.postgresql.visitor.PGASTVisitorAdapter;
+import com.alibaba.druid.sql.parser.ParserException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// LLM이 만든 SQL을 실행 전에 구문 트리로 검사하고 다시 쓴다.
+//   - SELECT 한 문장만 허용하고, FROM은 issues, 조인/서브쿼리는 허용된 테이블만 쓸 수 있다
+//   - 함수는 허용 목록에 있는 것만, 스키마 없이 호출할 수 있다
+//   - 결과는 항상 issues.* 이므로 바깥 쿼리의 GROUP BY/HAVING/DISTINCT/집계는 허용하지 않는다 (서브쿼리에서는 쓸 수 있다)
+//   - users는 id, username, role만 참조할 수 있다 (password 조건으로 값을 알아내지 못하게 한다)
+//   - 모든 깊이의 issues/comments/projects에 현재 프로젝트 조건을 붙이고, 바깥 쿼리에 LIMIT(최대 maxRows)을 붙인다
+//   - 컬럼과 비교하는 리터럴과 LIMIT/OFFSET 값은 ?n 파라미터로 바꿔서, 값만 다른 쿼리가 같은 템플릿(같은 prepared statement)을 쓰게 한다
+// 처리는 두 단계다. parse()는 매번 파싱하고 리터럴을 뽑아 템플릿을 만들고, plan()은 템플릿을 검사하고 다시 쓴다.
+// plan()의 결과는 템플릿(Template.getKey())으로 캐시할 수 있다 (프로젝트 id와 LIMIT도 파라미터라 템플릿에 들어가지 않는다).
+@Component
+public class NlQueryValidator {
+
+    private static final Set<String> ALLOWED_TABLES = Set.of("issues", "users", "comments", "projects");
+    private static final Set<String> USER_COLUMNS = Set.of("id", "username", "role");
+    private static final Set<String> HIDDEN_COLUMNS = Set.of("password");
+    private static final Set<String> TEXT_COLUMNS = Set.of("title", "description", "status", "priority", "username", "role", "content", "name");
+    private static final Set<String> ID_COLUMNS = Set.of("id", "project_id", "reporter_id", "fixer_id", "assignee_id", "issue_id", "user_id");
+    private static final Set<String> AGGREGATE_FUNCTIONS = Set.of("count", "sum", "avg", "min", "max", "array_agg", "string_agg",
+            "json_agg", "jsonb_agg", "bool_and", "bool_or", "every", "bit_and", "bit_or");
+    // 부작용이 없는 문자열/숫자/날짜 함수와 집계만 허용한다 (nextval, setval, 확장 함수 등은 쓰기를 할 수 있다)
+    private static final Set<String> SCALAR_FUNCTIONS = Set.of(
+            "lower", "upper", "length", "char_length", "character_length", "trim", "btrim", "ltrim", "rtrim", "substring", "substr",
+            "position", "strpos", "replace", "concat", "concat_ws", "left", "right", "split_part", "starts_with", "initcap",
+            "coalesce", "nullif", "greatest", "least", "abs", "round", "ceil", "ceiling", "floor", "mod",
+            "now", "date_trunc", "date_part", "age", "to_char", "to_date", "to_timestamp", "make_date",
+            "row_number", "rank", "dense_rank");
+    private static final Set<SQLBinaryOperator> LIKE_OPERATORS = Set.of(SQLBinaryOperator.Like, SQLBinaryOperator.NotLike,
+            SQLBinaryOperator.ILike, SQLBinaryOperator.NotILike);
+
+    private final int maxRows;
+
+    @Autowired
+    public NlQueryValidator(@Value("${app.nl-search.max-rows:100}") int maxRows) {
+        this.maxRows = maxRows;
+    }
+
+    public ValidatedQuery validate(String sql, Long projectId) {
+        Template template = parse(sql);
+        return bind(plan(template), template, projectId);
+    }
+
+    // 파싱하고, 컬럼과 비교하는 리터럴과 바깥 쿼리의 LIMIT 값을 뽑아낸다
+    public Template parse(String sql) {
+        List<SQLStatement> statements;
+        try {
+            statements = SQLUtils.parseStatements(sql, DbType.postgresql);
+        } catch (ParserException e) {
+            throw new InvalidQueryException("not a parsable SQL statement");
+        }
+        if (statements.size() != 1 || !(statements.get(0) instanceof SQLSelectStatement statement)) {
+            throw new InvalidQueryException("only a single plain SELECT is allowed");
+        }
+        List<Object> values = new ArrayList<>();
+        statement.accept(new LiteralExtractor(values));
+
+        // LIMIT 값은 빼고, OFFSET이 있으면 "OFFSET ?" 표시만 남겨서 OFFSET이 있는 쿼리와 없는 쿼리가 다른 템플릿이 되게 한다
+        Long requestedRows = null;
+        Long requestedOffset = null;
+        if (statement.getSelect().getQuery() instanceof PGSelectQueryBlock select && select.getLimit() != null) {
+            SQLLimit limit = select.getLimit();
+            if (limit.getRowCount() instanceof SQLIntegerExpr requested) {
+                requestedRows = requested.getNumber().longValue();
+            }
+            select.setLimit(null);
+            if (limit.getOffset() != null) {
+                if (!(limit.getOffset() instanceof SQLIntegerExpr offset) || offset.getNumber().longValue() < 0) {
+                    throw new InvalidQueryException("OFFSET must be a non-negative number");
+                }
+                requestedOffset = offset.getNumber().longValue();
+                SQLLimit paged = new SQLLimit();
+                paged.setOffset(new SQLVariantRefExpr("?"));
+                select.setLimit(paged);
+            }
+        }
+        return new Template(statement, toSql(statement), values, requestedRows, requestedOffset);
+    }
+
+    // 템플릿을 검사하고 issues.* 선택, 프로젝트 조건, LIMIT/OFFSET을 붙인 SQL을 만든다.
+    // 프로젝트 id는 ?(값 수 + 1), LIMIT은 ?(값 수 + 2), OFFSET이 있으면 ?(값 수 + 3)이다.
+    public String plan(Template template) {
+        SQLSelectStatement statement = template.statement;
+        if (statement.getSelect().getWithSubQuery() != null) {
+            throw new InvalidQueryException("WITH clauses are not allowed");
+        }
+        if (!(statement.getSelect().getQuery() instanceof PGSelectQueryBlock select)) {
+            throw new InvalidQueryException("only a single plain SELECT is allowed");
+        }
+        if (select.getGroupBy() != null || select.getDistionOption() == SQLSetQuantifier.DISTINCT || !select.getDistinctOn().isEmpty()) {
+            throw new InvalidQueryException("GROUP BY, HAVING and DISTINCT are not allowed in the outer query");
+        }
+        SQLExprTableSource issues = rootTable(select.getFrom());
+        if (!"issues".equals(tableName(issues))) {
+            throw new InvalidQueryException("the query must select from issues");
+        }
+        String issuesRef = issues.getAlias() != null ? issues.getAlias() : "issues";
+
+        UserTableCollector users = new UserTableCollector();
+        statement.accept(users);
+        statement.accept(new Checker(select, users.references));
+
+        select.getSelectList().clear();
+        select.addSelectItem(new SQLSelectItem(new SQLPropertyExpr(issuesRef, "*")));
+
+        int valueCount = template.values.size();
+        scopeToProject(statement, "?" + (valueCount + 1));
+        SQLLimit limit = new SQLLimit(new SQLVariantRefExpr("?" + (valueCount + 2)));
+        if (template.requestedOffset != null) {
+            limit.setOffset(new SQLVariantRefExpr("?" + (valueCount + 3)));
+        }
+        select.setLimit(limit);
+        return toSql(statement);
+    }
+
+    public ValidatedQuery bind(String plan, Template template, Long projectId) {
+        List<Object> parameters = new ArrayList<>(template.values);
+        parameters.add(projectId);
+        parameters.add(template.requestedRows != null ? Math.min(template.requestedRows, maxRows) : (long) maxRows);
+        if (template.requestedOffset != null) {
+            parameters.add(template.requestedOffset);
+        }
+        return new ValidatedQuery(plan, parameters);
+    }
+
+    private static String toSql(SQLSelectStatement statement) {
+        return SQLUtils.toSQLString(statement, DbType.postgresql, new SQLUtils.FormatOption(true, false));
+    }
+
+    // 파싱한 쿼리와 뽑아낸 값. key는 값을 ?n으로 바꾼 SQL이다.
+    public static final class Template {
+
+        private final SQLSelectStatement statement;
+        private final String key;
+        private final List<Object> values;
+        private final Long requestedRows;
+        private final Long requestedOffset;
+
+        private Template(SQLSelectStatement statement, String key, List<Object> values, Long requestedRows, Long requestedOffset) {
+            this.statement = statement;
+            this.key = key;
+            this.values = List.copyOf(values);
+            this.requestedRows = requestedRows;
+            this.requestedOffset = requestedOffset;
+        }
+
+        public String getKey() {
+            return key;
+        }
+    }
+
+    // 바깥 쿼리의 issues만이 아니라 서브쿼리, EXISTS, 두 번째 조인까지 모든 issues/comments/projects에 현재 프로젝트 조건을 붙인다.
+    // LEFT JOIN의 오른쪽 테이블은 ON에 붙여 외부 조인의 의미를 유지하고, 나머지는 그 테이블이 속한 쿼리의 WHERE 앞에 붙인다.
+    private static void scopeToProject(SQLSelectStatement statement, String projectParameter) {
+        List<SQLExprTableSource> tables = new ArrayList<>();
+        statement.accept(new PGASTVisitorAdapter() {
+            @Override
+            public boolean visit(SQLExprTableSource table) {
+                tables.add(table);
+                return true;
+            }
+        });
+
+        Map<SQLObject, List<SQLExpr>> whereScopes = new IdentityHashMap<>();
+        for (SQLExprTableSource table : tables) {
+            SQLExpr scope = projectScope(table, projectParameter);
+            if (scope == null) {
+                continue;
+            }
+            if (table.getParent() instanceof SQLJoinTableSource join && join.getRight() == table
+                    && join.getJoinType() == SQLJoinTableSource.JoinType.LEFT_OUTER_JOIN && join.getCondition() != null) {
+                join.setCondition(and(List.of(scope), join.getCondition()));
+            } else {
+                whereScopes.computeIfAbsent(enclosingQuery(table), query -> new ArrayList<>()).add(scope);
+            }
+        }
+        whereScopes.forEach((query, scopes) -> {
+            SQLSelectQueryBlock select = (SQLSelectQueryBlock) query;
+            select.setWhere(and(scopes, select.getWhere()));
+        });
+    }
+
+    // issues는 project_id, projects는 id, comments는 자기 이슈가 현재 프로젝트에 속하는지로 제한한다
+    private static SQLExpr projectScope(SQLExprTableSource table, String projectParameter) {
+        String ref = table.getAlias() != null ? table.getAlias() : tableName(table);
+        return switch (tableName(table)) {
+            case "issues" -> equality(new SQLPropertyExpr(ref, "project_id"), projectParameter);
+            case "projects" -> equality(new SQLPropertyExpr(ref, "id"), projectParameter);
+            case "comments" -> {
+                PGSelectQueryBlock projectIssues = new PGSelectQueryBlock();
+                projectIssues.addSelectItem(new SQLPropertyExpr("issues", "id"));
+                projectIssues.setFrom(new SQLExprTableSource(new SQLIdentifierExpr("issues")));
+                projectIssues.setWhere(equality(new SQLPropertyExpr("issues", "project_id"), projectParameter));
+                SQLInSubQueryExpr inProject = new SQLInSubQueryExpr(new SQLSelect(projectIssues));
+                inProject.setExpr(new SQLPropertyExpr(ref, "issue_id"));
+                yield inProject;
+            }
+            default -> null;
+        };
+    }
+
+    private static SQLExpr equality(SQLExpr column, String parameter) {
+        return new SQLBinaryOpExpr(column, SQLBinaryOperator.Equality, new SQLVariantRefExpr(parameter), DbType.postgresql);
+    }
+
+    // 원래 조건은 괄호로 묶어 뒤에 붙여서, 그 안의 OR가 프로젝트 조건을 벗어나지 못하게 한다
+    private static SQLExpr and(List<SQLExpr> scopes, SQLExpr original) {
+        SQLExpr combined = scopes.get(0);
+        for (SQLExpr scope : scopes.subList(1, scopes.size())) {
+            combined = new SQLBinaryOpExpr(combined, SQLBinaryOperator.BooleanAnd, scope, DbType.postgresql);
+        }
+        if (original == null) {
+            return combined;
+        }
+        ((SQLExprImpl) original).setParenthesized(true);
+        return new SQLBinaryOpExpr(combined, SQLBinaryOperator.BooleanAnd, original, DbType.postgresql);
+    }
+
+    private static SQLObject enclosingQuery(SQLObject node) {
+        SQLObject parent = node.getParent();
+        while (parent != null && !(parent instanceof SQLSelectQueryBlock)) {
+            parent = parent.getParent();
+        }
+        return parent;
+    }
+
+    // FROM 절의 가장 왼쪽 테이블 (조인이면 첫 테이블)
+    private static SQLExprTableSource rootTable(SQLTableSource from) {
+        while (from instanceof SQLJoinTableSource join) {
+            from = join.getLeft();
+        }
+        if (!(from instanceof SQLExprTableSource table)) {
+            throw new InvalidQueryException("the query must select from issues");
+        }
+        return table;
+    }
+
+    // FROM/JOIN에는 허용된 일반 테이블만 올 수 있다
+    private static void checkTableSource(SQLTableSource source) {
+        if (source == null) {
+            return;
+        }
+        if (source instanceof SQLJoinTableSource join) {
+            checkTableSource(join.getLeft());
+            checkTableSource(join.getRight());
+            return;
+        }
+        if (!(source instanceof SQLExprTableSource table) || !(table.getExpr() instanceof SQLName)) {
+            throw new InvalidQueryException("only plain tables may appear in FROM and JOIN");
+        }
+        String schema = table.getSchema();
+        if (schema != null && !"public".equalsIgnoreCase(unquote(schema))) {
+            throw new InvalidQueryException("schema " + schema + " is not allowed");
+        }
+        if (!ALLOWED_TABLES.contains(tableName(table))) {
+            throw new InvalidQueryException("table " + table.getTableName() + " is not allowed");
+        }
+    }
+
+    private static String tableName(SQLExprTableSource table) {
+        return unquote(table.getTableName());
+    }
+
+    private static String unquote(String name) {
+        return name.replace("\"", "").toLowerCase(Locale.ROOT);
+    }
+
+    // 컬럼과 비교하는 리터럴을 ?n으로 바꾼다 (날짜 문자열 등은 바인딩 타입이 맞지 않으므로 그대로 둔다)
+    private static class LiteralExtractor extends PGASTVisitorAdapter {
+
+        private final List<Object> values;
+
+        LiteralExtractor(List<Object> values) {
+            this.values = values;
+        }
+
+        @Override
+        public boolean visit(SQLBinaryOpExpr expr) {
+            SQLBinaryOperator operator = expr.getOperator();
+            if (operator.isRelational() || LIKE_OPERATORS.contains(operator)) {
+                SQLExpr parameter = parameterize(expr.getLeft(), expr.getRight());
+                if (parameter != null) {
+                    expr.setRight(parameter);
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean visit(SQLInListExpr expr) {
+            List<SQLExpr> items = expr.getTargetList();
+            for (int i = 0; i < items.size(); i++) {
+                SQLExpr parameter = parameterize(expr.getExpr(), items.get(i));
+                if (parameter != null) {
+                    parameter.setParent(expr);
+                    items.set(i, parameter);
+                }
+            }
+            return true;
+        }
+
+        private SQLExpr parameterize(SQLExpr column, SQLExpr value) {
+            String name;
+            if (column instanceof SQLIdentifierExpr identifier) {
+                name = unquote(identifier.getName());
+            } else if (column instanceof SQLPropertyExpr property) {
+                name = unquote(property.getName());
+            } else {
+                return null;
+            }
+            if (value instanceof SQLCharExpr text && TEXT_COLUMNS.contains(name)) {
+                return bind(text.getText());
+            }
+            if (value instanceof SQLIntegerExpr number && ID_COLUMNS.contains(name)) {
+                return bind(number.getNumber().longValue());
+            }
+            return null;
+        }
+
+        private SQLVariantRefExpr bind(Object value) {
+            values.add(value);
+            return new SQLVariantRefExpr("?" + values.size());
+        }
+    }
+
+    // users 테이블을 가리키는 이름 (테이블 이름과 별칭). 별칭이 서브쿼리마다 달라도 구분하지 않고 모두 users로 본다.
+    private static class UserTableCollector extends PGASTVisitorAdapter {
+
+        private final Set<String> references = new HashSet<>();
+
+        @Override
+        public boolean visit(SQLExprTableSource table) {
+            if (table.getExpr() instanceof SQLName && "users".equals(tableName(table))) {
+                references.add("users");
+                if (table.getAlias() != null) {
+                    references.add(unquote(table.getAlias()));
+                }
+            }
+            return true;
+        }
+    }
+
+    // 최상위 쿼리와 서브쿼리 모두 같은 규칙으로 검사한다
+    private static class Checker extends PGASTVisitorAdapter {
+
+        private final PGSelectQueryBlock root;
+        private final Set<String> userTables;
+
+        Checker(PGSelectQueryBlock root, Set<String> userTables) {
+            this.root = root;
+            this.userTables = userTables;
+        }
+
+        @Override
+        public boolean visit(PGSelectQueryBlock select) {
+            if (select.getInto() != null || select.getForClause() != null || select.isForUpdate() || select.getFetch() != null) {
+                throw new InvalidQueryException("SELECT INTO and locking clauses are not allowed");
+            }
+            checkTableSource(select.getFrom());
+            return true;
+        }
+
+        @Override
+        public boolean visit(SQLUnionQuery union) {
+            throw new InvalidQueryException("set operations are not allowed");
+        }
+
+        @Override
+        public boolean visit(SQLWithSubqueryClause with) {
+            throw new InvalidQueryException("WITH clauses are not allowed");
+        }
+
+        @Override
+        public boolean visit(SQLMethodInvokeExpr function) {
+            checkFunction(function);
+            return true;
+        }
+
+        // 창 함수(OVER)가 아닌 집계는 서브쿼리 안에서만 쓸 수 있다
+        @Override
+        public boolean visit(SQLAggregateExpr aggregate) {
+            if (aggregate.getOver() == null && aggregate.getOverRef() == null && enclosingQuery(aggregate) == root) {
+                throw new InvalidQueryException("aggregate functions are not allowed in the outer query");
+            }
+            checkFunction(aggregate);
+            return true;
+        }
+
+        @Override
+        public boolean visit(SQLIdentifierExpr identifier) {
+            SQLObject parent = identifier.getParent();
+            if (parent instanceof SQLExprTableSource
+                    || (parent instanceof SQLPropertyExpr property && property.getOwner() == identifier)) {
+                return true;
+            }
+            String name = unquote(identifier.getName());
+            if (HIDDEN_COLUMNS.contains(name)) {
+                throw new InvalidQueryException("column " + identifier.getName() + " is not allowed");
+            }
+            // users 행 전체를 값으로 쓰면 (to_json(u) 등) 모든 컬럼이 드러난다
+            if (userTables.contains(name)) {
+                throw new InvalidQueryException("whole-row references to users are not allowed");
+            }
+            return true;
+        }
+
+        @Override
+        public boolean visit(SQLPropertyExpr property) {
+            String name = unquote(property.getName());
+            if (HIDDEN_COLUMNS.contains(name)) {
+                throw new InvalidQueryException("column " + property.getName() + " is not allowed");
+            }
+            // 바깥 쿼리의 선택 목록은 issues.* 로 바뀌므로 u.* 는 그대로 둔다
+            if (property.getOwner() instanceof SQLName owner && userTables.contains(unquote(owner.getSimpleName()))
+                    && !USER_COLUMNS.contains(name) && !("*".equals(name) && enclosingQuery(property) == root)) {
+                throw new InvalidQueryException("column users." + property.getName() + " is not allowed");
+            }
+            return true;
+        }
+
+        @Override
+        public boolean visit(SQLAllColumnExpr all) {
+            // 서브쿼리의 SELECT * 가 users를 읽으면 password가 포함된다
+            if (enclosingQuery(all) != root && enclosingQuery(all) instanceof SQLSelectQueryBlock select
+                    && readsUsers(select.getFrom())) {
+                throw new InvalidQueryException("SELECT * over users is not allowed");
+            }
+            return true;
+        }
+
+        private void checkFunction(SQLMethodInvokeExpr function) {
+            if (function.getOwner() != null) {
+                throw new InvalidQueryException("schema-qualified function calls are not allowed");
+            }
+            String name = unquote(function.getMethodName());
+            if (!SCALAR_FUNCTIONS.contains(name) && !AGGREGATE_FUNCTIONS.contains(name)) {
+                throw new InvalidQueryException("function " + function.getMethodName() + " is not allowed");
+            }
+            if (AGGREGATE_FUNCTIONS.contains(name) && !(function instanceof SQLAggregateExpr) && enclosingQuery(function) == root) {
+                throw new InvalidQueryException("aggregate functions are not allowed in the outer query");
+            }
+        }
+
+        private static boolean readsUsers(SQLTableSource source) {
+            if (source instanceof SQLJoinTableSource join) {
+                return readsUsers(join.getLeft()) || readsUsers(join.getRight());
+            }
+            return source instanceof SQLExprTableSource table && "users".equals(tableName(table));
+        }
+    }
+}
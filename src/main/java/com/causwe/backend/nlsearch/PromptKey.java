@@ -0,0 +1,85 @@
+package com.causwe.backend.nlsearch;
+
+import com.causwe.backend.model.Issue;
+import com.causwe.backend.model.User;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// 자연어 검색 프롬프트의 캐시 키.
+//   - 공백과 단어 끝의 문장부호를 접고, 의미 없는 단어(stop word)를 뺀다: "Show me all NEW issues!" -> "new issues"
+//   - 대소문자는 아는 단어(상태, 우선순위, 조건을 나타내는 단어 등)만 접는다. 사용자 이름이나 제목일 수 있는
+//     나머지 단어와 따옴표 안의 값은 그대로 둔다 ("dev1"과 "Dev1"은 다른 사용자다)
+//   - 본인을 가리키는 단어(I, me, my ...)가 있으면 생성되는 SQL이 로그인한 사용자에 따라 달라지므로 키에 사용자를 붙인다.
+//     "show me", "give me"처럼 요청 동사 바로 뒤의 me는 조건이 아니므로 제외한다
+// 부정어(not, no)와 전치사(to, by, from)는 조건의 의미를 바꾸므로 빼지 않는다.
+public final class PromptKey {
+
+    private static final Pattern QUOTED = Pattern.compile("\"[^\"]*\"|(?<![\\p{L}\\p{N}])'[^']*'(?![\\p{L}\\p{N}])");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern EDGE_PUNCTUATION = Pattern.compile("^[\\p{P}&&[^'\"_-]]+|[\\p{P}&&[^'\"_-]]+$");
+    private static final Set<String> FIRST_PERSON = Set.of("i", "i'm", "i've", "i'd", "i'll", "me", "my", "mine", "myself");
+    private static final Set<String> REQUEST_VERBS = Set.of("show", "give", "get", "find", "list", "fetch", "display", "tell");
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "the", "please", "pls", "can", "could", "would", "you", "i", "me", "want", "need", "see",
+            "show", "list", "find", "get", "give", "display", "fetch", "search", "return", "all", "every", "any",
+            "that", "which", "are", "is", "be", "there", "currently", "now");
+    private static final Set<String> KEYWORDS = keywords();
+
+    private PromptKey() {}
+
+    public static String of(String userMessage, Object member) {
+        List<String> words = new ArrayList<>();
+        boolean personal = false;
+        String previous = "";
+        Matcher quoted = QUOTED.matcher(userMessage);
+        int start = 0;
+        while (true) {
+            boolean found = quoted.find();
+            String plain = userMessage.substring(start, found ? quoted.start() : userMessage.length());
+            for (String word : WHITESPACE.split(plain)) {
+                word = EDGE_PUNCTUATION.matcher(word).replaceAll("");
+                if (word.isEmpty()) {
+                    continue;
+                }
+                String lower = word.toLowerCase(Locale.ROOT);
+                if (FIRST_PERSON.contains(lower) && !(lower.equals("me") && REQUEST_VERBS.contains(previous))) {
+                    personal = true;
+                }
+                previous = lower;
+                if (!STOP_WORDS.contains(lower)) {
+                    words.add(KEYWORDS.contains(lower) ? lower : word);
+                }
+            }
+            if (!found) {
+                break;
+            }
+            words.add(quoted.group());
+            previous = "";
+            start = quoted.end();
+        }
+        String normalized = String.join(" ", words);
+        return personal ? normalized + "::" + member : normalized;
+    }
+
+    private static Set<String> keywords() {
+        Set<String> keywords = new HashSet<>(STOP_WORDS);
+        keywords.addAll(FIRST_PERSON);
+        keywords.addAll(Set.of(
+                "issue", "issues", "bug", "bugs", "comment", "comments", "project", "title", "description",
+                "status", "priority", "reporter", "reported", "fixer", "fixed", "assignee", "assigned", "unassigned",
+                "created", "updated", "open", "opened", "not", "no", "and", "or", "to", "by", "from", "for", "with",
+                "without", "in", "on", "of", "than", "more", "less", "most", "latest", "oldest", "recent", "today",
+                "yesterday", "week", "month", "year", "last", "this", "since", "before", "after", "what", "am"));
+        Stream.of(Issue.Status.values()).forEach(status -> keywords.add(status.name().toLowerCase(Locale.ROOT)));
+        Stream.of(Issue.Priority.values()).forEach(priority -> keywords.add(priority.name().toLowerCase(Locale.ROOT)));
+        Stream.of(User.Role.values()).forEach(role -> keywords.add(role.name().toLowerCase(Locale.ROOT)));
+        return Set.copyOf(keywords);
+    }
+}
@@ -0,0 +1,18 @@
+package com.causwe.backend.nlsearch;
+
+import java.util.List;
+
+import lombok.Getter;
+
+// 검증/정규화된 자연어 검색 쿼리. sql은 리터럴이 ?1, ?2 ... 로 바뀐 템플릿이고 parameters는 그 순서의 값이다.
+@Getter
+public class ValidatedQuery {
+
+    private final String sql;
+    private final List<Object> parameters;
+
+    public ValidatedQuery(String sql, List<Object> parameters) {
+        this.sql = sql;
+        this.parameters = List.copyOf(parameters);
+    }
+}
@@ -4,9 +4,18 @@ import com.causwe.backend.model.Comment;
 import com.causwe.backend.model.Issue;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+    // 댓글 목록은 작성자 이름을 같이 내려주므로 user를 한 번에 읽는다
+    @EntityGraph(attributePaths = "user")
     List<Comment> findByIssueOrderByCreatedAtAsc(Issue issue);
+
+    // 수정/삭제 후 캐시 무효화에 이슈의 프로젝트 id가 필요하므로 issue도 같이 읽는다
+    @Override
+    @EntityGraph(attributePaths = {"user", "issue"})
+    Optional<Comment> findById(Long id);
 }
\ No newline at end of file
@@ -1,217 +1,216 @@
 package com.causwe.backend.repository;
 
+import com.causwe.backend.dto.IssueSummary;
 import com.causwe.backend.model.Issue;
-import com.causwe.backend.model.User;
-import com.causwe.backend.model.Project;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 
 public interface IssueRepository extends JpaRepository<Issue, Long> {
-    @Query(value = "SELECT * FROM issues i " +
-            "WHERE i.project_id = :projectId " +
-            "ORDER BY CASE " +
-            "  WHEN (SELECT role FROM users WHERE id = :memberId) = 'PL' AND i.status = 'NEW' THEN 0 " +
-            "  WHEN (SELECT role FROM users WHERE id = :memberId) = 'PL' AND i.status = 'RESOLVED' THEN 1 " +
-            "  WHEN (SELECT role FROM users WHERE id = :memberId) = 'DEV' AND i.assignee_id = :memberId THEN 0 " +
-            "  WHEN (SELECT role FROM users WHERE id = :memberId) = 'TESTER' AND i.reporter_id = :memberId AND i.status = 'FIXED' THEN 0 " +
-            "  WHEN (SELECT role FROM users WHERE id = :memberId) = 'TESTER' AND i.reporter_id = :memberId THEN 1 " +
-            "  ELSE 2 " +
-            "END, i.id DESC", nativeQuery = true)
-    List<Issue> IssuesByProjectAndUser(@Param("projectId") Long projectId, @Param("memberId") Long memberId);
-    List<Issue> findByProjectAndAssigneeOrderByIdDesc(Project project, User assignee);
-    List<Issue> findByProjectAndReporterOrderByIdDesc(Project project, User reporter);
-    List<Issue> findByProjectAndStatusOrderByIdDesc(Project project, Issue.Status status);
-
-    @Query(value = "SELECT TO_CHAR(DATE_TRUNC('month', reported_date), 'YYYY-MM') AS month, COUNT(*) AS issue_count " +
-            "FROM issues " +
-            "WHERE project_id = :projectId " +
-            "GROUP BY month " +
-            "ORDER BY month ASC", nativeQuery = true)
-    List<Object[]> findByProjectPerMonth(@Param("projectId") Long projectId);
-
-    @Query(value = "SELECT status, COUNT(*) AS issue_count " +
-            "FROM issues " +
-            "WHERE project_id = :projectId " +
-            "GROUP BY status " +
-            "ORDER BY status ASC", nativeQuery = true)
-    List<Object[]> findByProjectPerStatus(@Param("projectId") Long projectId);
-
-    @Query(value = "SELECT COUNT(*) FROM issues WHERE project_id = :projectId AND status NOT IN ('RESOLVED', 'CLOSED')", nativeQuery = true)
-    Long countRemainingIssues(@Param("projectId") Long projectId);
-
-    @Query(value = "SELECT COUNT(*) FROM issues WHERE project_id = :projectId AND status = :status", nativeQuery = true)
-    Long countByProjectAndStatus(@Param("projectId") Long projectId, @Param("status") String status);
-
-    @Query(value = "SELECT COUNT(*) FROM issues WHERE project_id = :projectId AND assignee_id IS NULL", nativeQuery = true)
-    Long countByProjectAndAssigneeIsNull(@Param("projectId") Long projectId);
-
-    Long countByProjectId(Long projectId);
-
-    @Query(value = "WITH dates AS (" +
-            "    SELECT generate_series(" +
-            "        current_date - interval '6 days', " +
-            "        current_date, " +
-            "        interval '1 day' " +
-            "    ) AS day" +
-            ") " +
-            "SELECT " +
-            "    TO_CHAR(d.day, 'MM-DD') AS day, " +
-            "    COALESCE(COUNT(i.reported_date), 0) AS issue_count " +
-            "FROM " +
-            "    dates d " +
-            "LEFT JOIN " +
-            "    issues i " +
-            "ON " +
-            "    DATE_TRUNC('day', i.reported_date) = d.day " +
-            "    AND i.project_id = :projectId " +
-            "    AND i.status = :status " +
-            "GROUP BY " +
-            "    d.day " +
-            "ORDER BY " +
-            "    d.day ASC", nativeQuery = true)
-    List<Object[]> findIssuesPerDayAndStatusInWeek(@Param("projectId") Long projectId, @Param("status") String status);
-
-    @Query(value = "SELECT u.username as fixer, " +
-            "CASE " +
-            "    WHEN i.status = 'RESOLVED' THEN 'RESOLVED'" +
-            "    WHEN i.status = 'CLOSED' THEN 'CLOSED'" +
-            "    ELSE 'OTHER' " +
-            "END AS fixer_status, " +
-            "COUNT(*) AS issue_count " +
-            "FROM issues i " +
-            "JOIN users u ON i.fixer_id = u.id " +
-            "WHERE i.project_id = :projectId " +
-            "AND i.status in ('RESOLVED', 'CLOSED') " +
-            "GROUP BY fixer, fixer_status " +
-            "ORDER BY fixer, fixer_status", nativeQuery = true)
-    List<Object[]> findByProjectPerFixer(@Param("projectId") Long projectId);
-
-    @Query(value = "SELECT i.title , COUNT(*) AS comment_count " +
-            "FROM issues i " +
-            "JOIN comments c ON i.id = c.issue_id " +
-            "WHERE i.project_id = :projectId " +
-            "GROUP BY i.title " +
-            "ORDER BY comment_count DESC " +
-            "LIMIT 3", nativeQuery = true)
-    List<Object[]> findByProjectOrderByComments(@Param("projectId") Long projectId);
-
-    @Query(value = "WITH dates AS (" +
-            "    SELECT generate_series(" +
-            "        current_date - interval '6 days', " +
-            "        current_date, " +
-            "        CAST('1 day' AS interval) " +
-            "    ) AS day" +
-            ") " +
-            "SELECT " +
-            "    TO_CHAR(d.day, 'MM-DD') AS day, " +
-            "    COALESCE(COUNT(i.reported_date), 0) AS issue_count " +
-            "FROM " +
-            "    dates d " +
-            "LEFT JOIN " +
-            "    issues i " +
-            "ON " +
-            "    DATE_TRUNC('day', i.reported_date) = DATE_TRUNC('day', d.day) " +
-            "    AND i.project_id = :projectId " +
-            "    AND i.priority = :priority " +
-            "GROUP BY " +
-            "    day " +
-            "ORDER BY " +
-            "    day ASC", nativeQuery = true)
-    List<Object[]> findIssuesPerDayAndPriorityInWeek(@Param("projectId") Long projectId, @Param("priority") String priority);
-
-    @Query(value = "WITH dates AS (" +
-            "    SELECT generate_series(" +
-            "        current_date - interval '29 days', " +
-            "        current_date, " +
-            "        interval '1 day'" +
-            "    ) AS day" +
-            ") " +
-            "SELECT " +
-            "    TO_CHAR(d.day, 'MM-DD') AS day, " +
-            "    COALESCE(COUNT(i.reported_date), 0) AS issue_count " +
-            "FROM " +
-            "    dates d " +
-            "LEFT JOIN " +
-            "    issues i " +
-            "ON " +
-            "    DATE_TRUNC('day', i.reported_date) = d.day " +
-            "    AND i.project_id = :projectId " +
-            "GROUP BY " +
-            "    d.day " +
-            "ORDER BY " +
-            "    d.day ASC", nativeQuery = true)
-    List<Object[]> findByProjectPerDayInMonth(@Param("projectId") Long projectId);
-
-    @Query(value = "SELECT priority, COUNT(*) AS issue_count " +
-            "FROM issues " +
-            "WHERE project_id = :projectId " +
-            "AND reported_date >= current_date - interval '30 days' " +
-            "GROUP BY priority " +
-            "ORDER BY priority ASC", nativeQuery = true)
-    List<Object[]> findByProjectPerPriorityInMonth(@Param("projectId") Long projectId);
-
-    @Query(value = "WITH dates AS (" +
-            "    SELECT generate_series(" +
-            "        current_date - interval '6 days', " +
-            "        current_date, " +
-            "        interval '1 day' " +
-            "    ) AS day" +
-            ") " +
-            "SELECT " +
-            "    TO_CHAR(d.day, 'MM-DD') AS day, " +
-            "    COALESCE(COUNT(CASE WHEN i.status = 'NEW' THEN 1 END), 0) AS \"NEW\", " +
-            "    COALESCE(COUNT(CASE WHEN i.status = 'ASSIGNED' THEN 1 END), 0) AS \"ASSIGNED\", " +
-            "    COALESCE(COUNT(CASE WHEN i.status = 'FIXED' THEN 1 END), 0) AS \"FIXED\", " +
-            "    COALESCE(COUNT(CASE WHEN i.status = 'RESOLVED' THEN 1 END), 0) AS \"RESOLVED\", " +
-            "    COALESCE(COUNT(CASE WHEN i.status = 'CLOSED' THEN 1 END), 0) AS \"CLOSED\", " +
-            "    COALESCE(COUNT(CASE WHEN i.status = 'REOPENED' THEN 1 END), 0) AS \"REOPENED\" " +
-            "FROM " +
-            "    dates d " +
-            "LEFT JOIN " +
-            "    issues i " +
-            "ON " +
-            "    DATE_TRUNC('day', i.reported_date) = d.day " +
-            "    AND i.project_id = :projectId " +
-            "GROUP BY " +
-            "    d.day " +
-            "ORDER BY " +
-            "    d.day ASC", nativeQuery = true)
-    List<Object[]> findIssuesPerDayAndStatusInWeek(@Param("projectId") Long projectId);
-
-
-
+    // 상세 조회와 수정은 사용자 이름을 응답에 쓰므로 reporter/fixer/assignee를 같이 읽는다
+    @Override
+    @EntityGraph(attributePaths = {"reporter", "fixer", "assignee"})
+    Optional<Issue> findById(Long id);
+
+    // 수정은 롤업 증감을 원래 값 기준으로 계산하므로, 같은 이슈를 동시에 수정하는 요청이 같은 원래 값을 읽지 않게 행을 잠근다.
+    // 외부 조인 쪽 행은 잠글 수 없으므로 사용자는 같이 읽지 않는다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Issue i WHERE i.id = :id")
+    Optional<Issue> findByIdForUpdate(@Param("id") Long id);
+
+    // 목록 화면용 요약 컬럼. 사용자 이름은 조인으로 한 번에 가져온다.
+    String ISSUE_SUMMARY_COLUMNS =
+            "i.id AS id, i.title AS title, i.reported_date AS \"reportedDate\", " +
+            "r.username AS \"reporterUsername\", f.username AS \"fixerUsername\", a.username AS \"assigneeUsername\", " +
+            "i.priority AS priority, i.status AS status";
+
+    String ISSUE_SUMMARY_JOINS =
+            "JOIN users r ON r.id = i.reporter_id " +
+            "LEFT JOIN users f ON f.id = i.fixer_id " +
+            "LEFT JOIN users a ON a.id = i.assignee_id ";
+
+    // 역할별 정렬 우선순위(bucket)마다 따로 키셋 범위를 읽는다.
+    // 각 분기는 (project_id, status/assignee_id/reporter_id, id) 인덱스를 id 역순으로 스캔하고 :limit에서 멈춘다.
+    String BUCKET_COLUMNS = "i.id, i.title, i.reported_date, i.reporter_id, i.fixer_id, i.assignee_id, i.priority, i.status";
+
+    String PL_ISSUE_BUCKETS =
+            "(SELECT " + BUCKET_COLUMNS + ", 0 AS bucket FROM issues i " +
+            " WHERE i.project_id = :projectId AND i.status = 'NEW' " +
+            " AND (0 > :cursorBucket OR (0 = :cursorBucket AND i.id < :cursorId)) " +
+            " ORDER BY i.id DESC LIMIT :limit) " +
+            "UNION ALL " +
+            "(SELECT " + BUCKET_COLUMNS + ", 1 AS bucket FROM issues i " +
+            " WHERE i.project_id = :projectId AND i.status = 'RESOLVED' " +
+            " AND (1 > :cursorBucket OR (1 = :cursorBucket AND i.id < :cursorId)) " +
+            " ORDER BY i.id DESC LIMIT :limit) " +
+            "UNION ALL " +
+            "(SELECT " + BUCKET_COLUMNS + ", 2 AS bucket FROM issues i " +
+            " WHERE i.project_id = :projectId AND (i.status IS NULL OR i.status NOT IN ('NEW', 'RESOLVED')) " +
+            " AND (2 > :cursorBucket OR (2 = :cursorBucket AND i.id < :cursorId)) " +
+            " ORDER BY i.id DESC LIMIT :limit)";
+
+    String DEV_ISSUE_BUCKETS =
+            "(SELECT " + BUCKET_COLUMNS + ", 0 AS bucket FROM issues i " +
+            " WHERE i.project_id = :projectId AND i.assignee_id = :memberId " +
+            " AND (0 > :cursorBucket OR (0 = :cursorBucket AND i.id < :cursorId)) " +
+            " ORDER BY i.id DESC LIMIT :limit) " +
+            "UNION ALL " +
+            "(SELECT " + BUCKET_COLUMNS + ", 2 AS bucket FROM issues i " +
+            " WHERE i.project_id = :projectId AND (i.assignee_id IS NULL OR i.assignee_id <> :memberId) " +
+            " AND (2 > :cursorBucket OR (2 = :cursorBucket AND i.id < :cursorId)) " +
+            " ORDER BY i.id DESC LIMIT :limit)";
+
+    String TESTER_ISSUE_BUCKETS =
+            "(SELECT " + BUCKET_COLUMNS + ", 0 AS bucket FROM issues i " +
+            " WHERE i.project_id = :projectId AND i.reporter_id = :memberId AND i.status = 'FIXED' " +
+            " AND (0 > :cursorBucket OR (0 = :cursorBucket AND i.id < :cursorId)) " +
+            " ORDER BY i.id DESC LIMIT :limit) " +
+            "UNION ALL " +
+            "(SELECT " + BUCKET_COLUMNS + ", 1 AS bucket FROM issues i " +
+            " WHERE i.project_id = :projectId AND i.reporter_id = :memberId AND (i.status IS NULL OR i.status <> 'FIXED') " +
+            " AND (1 > :cursorBucket OR (1 = :cursorBucket AND i.id < :cursorId)) " +
+            " ORDER BY i.id DESC LIMIT :limit) " +
+            "UNION ALL " +
+            "(SELECT " + BUCKET_COLUMNS + ", 2 AS bucket FROM issues i " +
+            " WHERE i.project_id = :projectId AND i.reporter_id <> :memberId " +
+            " AND (2 > :cursorBucket OR (2 = :cursorBucket AND i.id < :cursorId)) " +
+            " ORDER BY i.id DESC LIMIT :limit)";
+
+    String ADMIN_ISSUE_BUCKETS =
+            "(SELECT " + BUCKET_COLUMNS + ", 2 AS bucket FROM issues i " +
+            " WHERE i.project_id = :projectId " +
+            " AND (2 > :cursorBucket OR (2 = :cursorBucket AND i.id < :cursorId)) " +
+            " ORDER BY i.id DESC LIMIT :limit)";
+
+    @Query(value = "SELECT " + ISSUE_SUMMARY_COLUMNS + ", i.bucket AS bucket FROM (" + PL_ISSUE_BUCKETS + ") i " +
+            ISSUE_SUMMARY_JOINS +
+            "ORDER BY i.bucket, i.id DESC LIMIT :limit", nativeQuery = true)
+    List<IssueSummary> findIssuesForProjectLead(@Param("projectId") Long projectId,
+                                                @Param("cursorBucket") int cursorBucket, @Param("cursorId") Long cursorId,
+                                                @Param("limit") int limit);
+
+    @Query(value = "SELECT " + ISSUE_SUMMARY_COLUMNS + ", i.bucket AS bucket FROM (" + DEV_ISSUE_BUCKETS + ") i " +
+            ISSUE_SUMMARY_JOINS +
+            "ORDER BY i.bucket, i.id DESC LIMIT :limit", nativeQuery = true)
+    List<IssueSummary> findIssuesForDeveloper(@Param("projectId") Long projectId, @Param("memberId") Long memberId,
+                                              @Param("cursorBucket") int cursorBucket, @Param("cursorId") Long cursorId,
+                                              @Param("limit") int limit);
+
+    @Query(value = "SELECT " + ISSUE_SUMMARY_COLUMNS + ", i.bucket AS bucket FROM (" + TESTER_ISSUE_BUCKETS + ") i " +
+            ISSUE_SUMMARY_JOINS +
+            "ORDER BY i.bucket, i.id DESC LIMIT :limit", nativeQuery = true)
+    List<IssueSummary> findIssuesForTester(@Param("projectId") Long projectId, @Param("memberId") Long memberId,
+                                           @Param("cursorBucket") int cursorBucket, @Param("cursorId") Long cursorId,
+                                           @Param("limit") int limit);
+
+    @Query(value = "SELECT " + ISSUE_SUMMARY_COLUMNS + ", i.bucket AS bucket FROM " + ADMIN_ISSUE_BUCKETS + " i " +
+            ISSUE_SUMMARY_JOINS +
+            "ORDER BY i.bucket, i.id DESC LIMIT :limit", nativeQuery = true)
+    List<IssueSummary> findIssuesForAdmin(@Param("projectId") Long projectId,
+                                          @Param("cursorBucket") int cursorBucket, @Param("cursorId") Long cursorId,
+                                          @Param("limit") int limit);
+
+    @Query(value = "SELECT " + ISSUE_SUMMARY_COLUMNS + " FROM issues i " +
+            ISSUE_SUMMARY_JOINS +
+            "WHERE i.project_id = :projectId AND a.username = :username " +
+            "ORDER BY i.id DESC", nativeQuery = true)
+    List<IssueSummary> findSummariesByAssignee(@Param("projectId") Long projectId, @Param("username") String username);
+
+    @Query(value = "SELECT " + ISSUE_SUMMARY_COLUMNS + " FROM issues i " +
+            ISSUE_SUMMARY_JOINS +
+            "WHERE i.project_id = :projectId AND r.username = :username " +
+            "ORDER BY i.id DESC", nativeQuery = true)
+    List<IssueSummary> findSummariesByReporter(@Param("projectId") Long projectId, @Param("username") String username);
+
+    @Query(value = "SELECT " + ISSUE_SUMMARY_COLUMNS + " FROM issues i " +
+            ISSUE_SUMMARY_JOINS +
+            "WHERE i.project_id = :projectId AND i.status = :status " +
+            "ORDER BY i.id DESC", nativeQuery = true)
+    List<IssueSummary> findSummariesByStatus(@Param("projectId") Long projectId, @Param("status") String status);
+
+    // azure_ai 확장으로 제목 배열을 한 번에 임베딩한다. 결과는 입력 순서대로 real[] 텍스트('{...}')로 돌려준다.
+    @Query(value = "SELECT CAST(e.embedding AS text) " +
+            "FROM azure_openai.create_embeddings('text-embedding-3-small', CAST(:titles AS text[])) WITH ORDINALITY AS e(embedding, n) " +
+            "ORDER BY e.n", nativeQuery = true)
+    List<String> createAzureEmbeddings(@Param("titles") String[] titles);
+
+    // 벡터는 pgvector 텍스트('[...]')로 받아 한 문장으로 upsert 한다. 프로젝트 필터용 project_id도 같이 채우고,
+    // 그 사이 삭제된 이슈는 조인에서 빠진다.
+    // 한 배치 안에 같은 issue_id가 두 번 오면 안 된다 (ON CONFLICT가 같은 행을 두 번 고칠 수 없다).
     @Modifying
     @Transactional
-    @Query(value = "INSERT INTO issue_embeddings (issue_id, issue_embedding) " +
-            "VALUES (:issueId, azure_openai.create_embeddings('text-embedding-3-small', :issueTitle)) " +
+    @Query(value = "INSERT INTO issue_embeddings (issue_id, project_id, issue_embedding) " +
+            "SELECT b.issue_id, i.project_id, CAST(b.embedding AS vector) " +
+            "FROM unnest(CAST(:issueIds AS bigint[]), CAST(:embeddings AS text[])) AS b(issue_id, embedding) " +
+            "JOIN issues i ON i.id = b.issue_id " +
             "ON CONFLICT (issue_id) " +
-            "DO UPDATE SET issue_embedding = EXCLUDED.issue_embedding", nativeQuery = true)
-    void embedIssueTitle(@Param("issueId") Long issueId, @Param("issueTitle") String issueTitle);
+            "DO UPDATE SET issue_embedding = EXCLUDED.issue_embedding, project_id = EXCLUDED.project_id", nativeQuery = true)
+    void upsertEmbeddings(@Param("issueIds") Long[] issueIds, @Param("embeddings") String[] embeddings);
 
-    @Query(value = "WITH ranked_fixers AS (" +
-            "    SELECT i.fixer_id, " +
-            "           e.issue_embedding <=> (SELECT e2.issue_embedding FROM issue_embeddings e2 WHERE e2.issue_id = :issueId) AS similarity, " +
-            "           ROW_NUMBER() OVER (PARTITION BY i.fixer_id ORDER BY e.issue_embedding <=> (SELECT e2.issue_embedding FROM issue_embeddings e2 WHERE e2.issue_id = :issueId)) AS row_num " +
+    // 백필용: 그 사이 파이프라인이 저장한 최신 벡터를 덮어쓰지 않는다
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO issue_embeddings (issue_id, project_id, issue_embedding) " +
+            "SELECT b.issue_id, i.project_id, CAST(b.embedding AS vector) " +
+            "FROM unnest(CAST(:issueIds AS bigint[]), CAST(:embeddings AS text[])) AS b(issue_id, embedding) " +
+            "JOIN issues i ON i.id = b.issue_id " +
+            "ON CONFLICT (issue_id) DO NOTHING", nativeQuery = true)
+    void insertMissingEmbeddings(@Param("issueIds") Long[] issueIds, @Param("embeddings") String[] embeddings);
+
+    // 백필 대상 (id, title)을 id 순서로 afterId 다음부터 읽는다
+    @Query(value = "SELECT i.id, i.title FROM issues i WHERE i.id > :afterId ORDER BY i.id LIMIT :limit", nativeQuery = true)
+    List<Object[]> findTitlesAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    @Query(value = "SELECT i.id, i.title FROM issues i " +
+            "WHERE i.id > :afterId AND NOT EXISTS (SELECT 1 FROM issue_embeddings e WHERE e.issue_id = i.id) " +
+            "ORDER BY i.id LIMIT :limit", nativeQuery = true)
+    List<Object[]> findTitlesWithoutEmbeddingAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    // 추천 담당자: 대상 이슈와 가까운 이슈 :candidates개를 HNSW 인덱스(idx_issue_embeddings_hnsw)로 먼저 고른 뒤,
+    // 그중 해결된 이슈의 fixer를 가장 가까운 거리 순으로 중복 없이 :limit명 돌려준다.
+    // 대상 벡터는 InitPlan으로 한 번만 읽고, 정렬식이 인덱스의 연산자(<=>)와 같아야 인덱스 스캔이 된다.
+    String NEAREST_RESOLVED_FIXERS =
+            "SELECT i.fixer_id FROM nearest n " +
+            "JOIN issues i ON i.id = n.issue_id " +
+            "WHERE i.status IN ('RESOLVED', 'CLOSED') AND i.fixer_id IS NOT NULL " +
+            "GROUP BY i.fixer_id " +
+            "ORDER BY MIN(n.distance), i.fixer_id " +
+            "LIMIT :limit";
+
+    @Query(value = "WITH target AS (SELECT issue_embedding FROM issue_embeddings WHERE issue_id = :issueId), " +
+            "nearest AS (" +
+            "    SELECT e.issue_id, e.issue_embedding <=> (SELECT issue_embedding FROM target) AS distance " +
+            "    FROM issue_embeddings e " +
+            "    WHERE e.issue_id <> :issueId " +
+            "    ORDER BY e.issue_embedding <=> (SELECT issue_embedding FROM target) " +
+            "    LIMIT :candidates" +
+            ") " +
+            NEAREST_RESOLVED_FIXERS, nativeQuery = true)
+    List<Long> findRecommendedAssigneesByIssueId(@Param("issueId") Long issueId,
+                                                 @Param("candidates") int candidates, @Param("limit") int limit);
+
+    // 같은 프로젝트의 이슈에서만 고른다. 작은 프로젝트는 project_id 인덱스로, 큰 프로젝트는 HNSW로 읽게 플래너가 고른다.
+    @Query(value = "WITH target AS (SELECT issue_embedding, project_id FROM issue_embeddings WHERE issue_id = :issueId), " +
+            "nearest AS (" +
+            "    SELECT e.issue_id, e.issue_embedding <=> (SELECT issue_embedding FROM target) AS distance " +
             "    FROM issue_embeddings e " +
-            "    INNER JOIN issues i ON i.id = e.issue_id " +
-            "    WHERE (i.status = 'RESOLVED' OR i.status = 'CLOSED') " +
-            "), " +
-            "unique_fixers AS (" +
-            "    SELECT fixer_id, similarity " +
-            "    FROM ranked_fixers " +
-            "    WHERE row_num = 1 " +
+            "    WHERE e.project_id = (SELECT project_id FROM target) AND e.issue_id <> :issueId " +
+            "    ORDER BY e.issue_embedding <=> (SELECT issue_embedding FROM target) " +
+            "    LIMIT :candidates" +
             ") " +
-            "SELECT fixer_id " +
-            "FROM unique_fixers " +
-            "ORDER BY similarity " +
-            "LIMIT 3", nativeQuery = true)
-    List<Long> findRecommendedAssigneesByIssueId(@Param("issueId") Long issueId);
+            NEAREST_RESOLVED_FIXERS, nativeQuery = true)
+    List<Long> findRecommendedAssigneesInProjectByIssueId(@Param("issueId") Long issueId,
+                                                          @Param("candidates") int candidates, @Param("limit") int limit);
 
 
 }
\ No newline at end of file
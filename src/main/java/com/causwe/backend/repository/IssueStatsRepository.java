@@ -0,0 +1,318 @@
+package com.causwe.backend.repository;
+
+import com.causwe.backend.model.IssueDailyStat;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 통계 롤업 테이블(issue_daily_stats, issue_fixer_stats, issue_comment_stats) 읽기/증감.
+// 조회는 issues를 스캔하지 않고 프로젝트의 날짜 수만큼의 행만 읽는다.
+public interface IssueStatsRepository extends JpaRepository<IssueDailyStat, IssueDailyStat.Key> {
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO issue_daily_stats (project_id, stat_date, status, priority, issue_count, unassigned_count) " +
+            "VALUES (:projectId, :statDate, :status, :priority, :issueDelta, :unassignedDelta) " +
+            "ON CONFLICT (project_id, stat_date, status, priority) " +
+            "DO UPDATE SET issue_count = issue_daily_stats.issue_count + EXCLUDED.issue_count, " +
+            "unassigned_count = issue_daily_stats.unassigned_count + EXCLUDED.unassigned_count", nativeQuery = true)
+    void addDailyStat(@Param("projectId") Long projectId, @Param("statDate") LocalDate statDate,
+                      @Param("status") String status, @Param("priority") String priority,
+                      @Param("issueDelta") long issueDelta, @Param("unassignedDelta") long unassignedDelta);
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO issue_fixer_stats (project_id, fixer_id, status, issue_count) " +
+            "VALUES (:projectId, :fixerId, :status, :delta) " +
+            "ON CONFLICT (project_id, fixer_id, status) " +
+            "DO UPDATE SET issue_count = issue_fixer_stats.issue_count + EXCLUDED.issue_count", nativeQuery = true)
+    void addFixerStat(@Param("projectId") Long projectId, @Param("fixerId") Long fixerId,
+                      @Param("status") String status, @Param("delta") long delta);
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO issue_comment_stats (issue_id, project_id, comment_count) " +
+            "VALUES (:issueId, :projectId, :delta) " +
+            "ON CONFLICT (issue_id) " +
+            "DO UPDATE SET comment_count = issue_comment_stats.comment_count + EXCLUDED.comment_count", nativeQuery = true)
+    void addCommentStat(@Param("issueId") Long issueId, @Param("projectId") Long projectId, @Param("delta") long delta);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM issue_daily_stats WHERE project_id = :projectId", nativeQuery = true)
+    void deleteDailyStats(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM issue_fixer_stats WHERE project_id = :projectId", nativeQuery = true)
+    void deleteFixerStats(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM issue_comment_stats WHERE project_id = :projectId", nativeQuery = true)
+    void deleteCommentStats(@Param("projectId") Long projectId);
+
+    // 백필과 증분 반영을 프로젝트 단위로 나누는 트랜잭션 잠금 (커밋/롤백 때 풀린다).
+    // 증분 반영은 공유 잠금이라 서로 막지 않고, 백필은 배타 잠금이라 진행 중인 증분 반영이 끝나길 기다린다.
+    @Query(value = "SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock_shared(:namespace, :key)) l", nativeQuery = true)
+    long lockProjectShared(@Param("namespace") int namespace, @Param("key") int key);
+
+    @Query(value = "SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock(:namespace, :key)) l", nativeQuery = true)
+    long lockProjectExclusive(@Param("namespace") int namespace, @Param("key") int key);
+
+    @Query(value = "SELECT p.id FROM projects p " +
+            "WHERE NOT EXISTS (SELECT 1 FROM issue_stats_backfills b WHERE b.project_id = p.id) " +
+            "ORDER BY p.id", nativeQuery = true)
+    List<Long> findProjectsToBackfill();
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM issue_stats_backfills WHERE project_id = :projectId)", nativeQuery = true)
+    boolean isBackfilled(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO issue_stats_backfills (project_id, backfilled_at) VALUES (:projectId, now())", nativeQuery = true)
+    void markBackfilled(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM issue_stats_backfills WHERE project_id = :projectId", nativeQuery = true)
+    void deleteBackfillMarker(@Param("projectId") Long projectId);
+
+    // 프로젝트의 롤업을 issues/comments에서 채운다. 비운 뒤에 부른다 (기존 데이터 이관용)
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO issue_daily_stats (project_id, stat_date, status, priority, issue_count, unassigned_count) " +
+            "SELECT project_id, CAST(reported_date AS date), status, COALESCE(priority, ''), " +
+            "COUNT(*), SUM(CASE WHEN assignee_id IS NULL THEN 1 ELSE 0 END) " +
+            "FROM issues " +
+            "WHERE project_id = :projectId " +
+            "GROUP BY project_id, CAST(reported_date AS date), status, COALESCE(priority, '')", nativeQuery = true)
+    int backfillDailyStats(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO issue_fixer_stats (project_id, fixer_id, status, issue_count) " +
+            "SELECT project_id, fixer_id, status, COUNT(*) " +
+            "FROM issues " +
+            "WHERE project_id = :projectId AND fixer_id IS NOT NULL " +
+            "GROUP BY project_id, fixer_id, status", nativeQuery = true)
+    int backfillFixerStats(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO issue_comment_stats (issue_id, project_id, comment_count) " +
+            "SELECT i.id, i.project_id, COUNT(*) " +
+            "FROM issues i " +
+            "JOIN comments c ON i.id = c.issue_id " +
+            "WHERE i.project_id = :projectId " +
+            "GROUP BY i.id, i.project_id", nativeQuery = true)
+    int backfillCommentStats(@Param("projectId") Long projectId);
+
+    @Query(value = "SELECT TO_CHAR(DATE_TRUNC('month', stat_date), 'YYYY-MM') AS month, CAST(SUM(issue_count) AS bigint) AS issue_count " +
+            "FROM issue_daily_stats " +
+            "WHERE project_id = :projectId " +
+            "GROUP BY month " +
+            "HAVING SUM(issue_count) > 0 " +
+            "ORDER BY month ASC", nativeQuery = true)
+    List<Object[]> findByProjectPerMonth(@Param("projectId") Long projectId);
+
+    @Query(value = "SELECT status, CAST(SUM(issue_count) AS bigint) AS issue_count " +
+            "FROM issue_daily_stats " +
+            "WHERE project_id = :projectId " +
+            "GROUP BY status " +
+            "HAVING SUM(issue_count) > 0 " +
+            "ORDER BY status ASC", nativeQuery = true)
+    List<Object[]> findByProjectPerStatus(@Param("projectId") Long projectId);
+
+    @Query(value = "SELECT CAST(COALESCE(SUM(issue_count), 0) AS bigint) FROM issue_daily_stats " +
+            "WHERE project_id = :projectId AND status NOT IN ('RESOLVED', 'CLOSED')", nativeQuery = true)
+    Long countRemainingIssues(@Param("projectId") Long projectId);
+
+    @Query(value = "SELECT CAST(COALESCE(SUM(issue_count), 0) AS bigint) FROM issue_daily_stats " +
+            "WHERE project_id = :projectId AND status = :status", nativeQuery = true)
+    Long countByProjectAndStatus(@Param("projectId") Long projectId, @Param("status") String status);
+
+    @Query(value = "SELECT CAST(COALESCE(SUM(unassigned_count), 0) AS bigint) FROM issue_daily_stats " +
+            "WHERE project_id = :projectId", nativeQuery = true)
+    Long countByProjectAndAssigneeIsNull(@Param("projectId") Long projectId);
+
+    @Query(value = "SELECT CAST(COALESCE(SUM(issue_count), 0) AS bigint) FROM issue_daily_stats " +
+            "WHERE project_id = :projectId", nativeQuery = true)
+    Long countByProjectId(@Param("projectId") Long projectId);
+
+    @Query(value = "WITH dates AS (" +
+            "    SELECT generate_series(" +
+            "        current_date - interval '6 days', " +
+            "        current_date, " +
+            "        interval '1 day' " +
+            "    ) AS day" +
+            ") " +
+            "SELECT " +
+            "    TO_CHAR(d.day, 'MM-DD') AS day, " +
+            "    CAST(COALESCE(SUM(s.issue_count), 0) AS bigint) AS issue_count " +
+            "FROM " +
+            "    dates d " +
+            "LEFT JOIN " +
+            "    issue_daily_stats s " +
+            "ON " +
+            "    s.stat_date = CAST(d.day AS date) " +
+            "    AND s.project_id = :projectId " +
+            "    AND s.status = :status " +
+            "GROUP BY " +
+            "    d.day " +
+            "ORDER BY " +
+            "    d.day ASC", nativeQuery = true)
+    List<Object[]> findIssuesPerDayAndStatusInWeek(@Param("projectId") Long projectId, @Param("status") String status);
+
+    @Query(value = "SELECT u.username as fixer, " +
+            "s.status AS fixer_status, " +
+            "CAST(SUM(s.issue_count) AS bigint) AS issue_count " +
+            "FROM issue_fixer_stats s " +
+            "JOIN users u ON s.fixer_id = u.id " +
+            "WHERE s.project_id = :projectId " +
+            "AND s.status in ('RESOLVED', 'CLOSED') " +
+            "AND s.issue_count > 0 " +
+            "GROUP BY fixer, fixer_status " +
+            "ORDER BY fixer, fixer_status", nativeQuery = true)
+    List<Object[]> findByProjectPerFixer(@Param("projectId") Long projectId);
+
+    @Query(value = "SELECT i.title , CAST(SUM(s.comment_count) AS bigint) AS comment_count " +
+            "FROM issue_comment_stats s " +
+            "JOIN issues i ON i.id = s.issue_id " +
+            "WHERE s.project_id = :projectId " +
+            "AND s.comment_count > 0 " +
+            "GROUP BY i.title " +
+            "ORDER BY comment_count DESC " +
+            "LIMIT 3", nativeQuery = true)
+    List<Object[]> findByProjectOrderByComments(@Param("projectId") Long projectId);
+
+    @Query(value = "WITH dates AS (" +
+            "    SELECT generate_series(" +
+            "        current_date - interval '6 days', " +
+            "        current_date, " +
+            "        interval '1 day' " +
+            "    ) AS day" +
+            ") " +
+            "SELECT " +
+            "    TO_CHAR(d.day, 'MM-DD') AS day, " +
+            "    CAST(COALESCE(SUM(s.issue_count), 0) AS bigint) AS issue_count " +
+            "FROM " +
+            "    dates d " +
+            "LEFT JOIN " +
+            "    issue_daily_stats s " +
+            "ON " +
+            "    s.stat_date = CAST(d.day AS date) " +
+            "    AND s.project_id = :projectId " +
+            "    AND s.priority = :priority " +
+            "GROUP BY " +
+            "    d.day " +
+            "ORDER BY " +
+            "    d.day ASC", nativeQuery = true)
+    List<Object[]> findIssuesPerDayAndPriorityInWeek(@Param("projectId") Long projectId, @Param("priority") String priority);
+
+    @Query(value = "WITH dates AS (" +
+            "    SELECT generate_series(" +
+            "        current_date - interval '29 days', " +
+            "        current_date, " +
+            "        interval '1 day'" +
+            "    ) AS day" +
+            ") " +
+            "SELECT " +
+            "    TO_CHAR(d.day, 'MM-DD') AS day, " +
+            "    CAST(COALESCE(SUM(s.issue_count), 0) AS bigint) AS issue_count " +
+            "FROM " +
+            "    dates d " +
+            "LEFT JOIN " +
+            "    issue_daily_stats s " +
+            "ON " +
+            "    s.stat_date = CAST(d.day AS date) " +
+            "    AND s.project_id = :projectId " +
+            "GROUP BY " +
+            "    d.day " +
+            "ORDER BY " +
+            "    d.day ASC", nativeQuery = true)
+    List<Object[]> findByProjectPerDayInMonth(@Param("projectId") Long projectId);
+
+    @Query(value = "SELECT NULLIF(priority, '') AS priority, CAST(SUM(issue_count) AS bigint) AS issue_count " +
+            "FROM issue_daily_stats " +
+            "WHERE project_id = :projectId " +
+            "AND stat_date >= current_date - 30 " +
+            "GROUP BY priority " +
+            "HAVING SUM(issue_count) > 0 " +
+            "ORDER BY priority ASC", nativeQuery = true)
+    List<Object[]> findByProjectPerPriorityInMonth(@Param("projectId") Long projectId);
+
+    @Query(value = "WITH dates AS (" +
+            "    SELECT generate_series(" +
+            "        current_date - interval '6 days', " +
+            "        current_date, " +
+            "        interval '1 day' " +
+            "    ) AS day" +
+            ") " +
+            "SELECT " +
+            "    TO_CHAR(d.day, 'MM-DD') AS day, " +
+            "    CAST(COALESCE(SUM(CASE WHEN s.status = 'NEW' THEN s.issue_count END), 0) AS bigint) AS \"NEW\", " +
+            "    CAST(COALESCE(SUM(CASE WHEN s.status = 'ASSIGNED' THEN s.issue_count END), 0) AS bigint) AS \"ASSIGNED\", " +
+            "    CAST(COALESCE(SUM(CASE WHEN s.status = 'FIXED' THEN s.issue_count END), 0) AS bigint) AS \"FIXED\", " +
+            "    CAST(COALESCE(SUM(CASE WHEN s.status = 'RESOLVED' THEN s.issue_count END), 0) AS bigint) AS \"RESOLVED\", " +
+            "    CAST(COALESCE(SUM(CASE WHEN s.status = 'CLOSED' THEN s.issue_count END), 0) AS bigint) AS \"CLOSED\", " +
+            "    CAST(COALESCE(SUM(CASE WHEN s.status = 'REOPENED' THEN s.issue_count END), 0) AS bigint) AS \"REOPENED\" " +
+            "FROM " +
+            "    dates d " +
+            "LEFT JOIN " +
+            "    issue_daily_stats s " +
+            "ON " +
+            "    s.stat_date = CAST(d.day AS date) " +
+            "    AND s.project_id = :projectId " +
+            "GROUP BY " +
+            "    d.day " +
+            "ORDER BY " +
+            "    d.day ASC", nativeQuery = true)
+    List<Object[]> findIssuesPerDayAndStatusInWeek(@Param("projectId") Long projectId);
+
+    // 대시보드의 모든 시리즈를 한 번의 쿼리로 읽는다. 행은 (series, label, grp, issue_count, ord) 이고
+    // series 별로 ord, label, grp 순서로 정렬되어 있다. 일별 시리즈는 빈 날짜도 grp가 NULL인 행으로 나온다.
+    @Query(value = "WITH s AS (" +
+            "    SELECT stat_date, status, NULLIF(priority, '') AS priority, issue_count, unassigned_count " +
+            "    FROM issue_daily_stats WHERE project_id = :projectId" +
+            "), dates AS (" +
+            "    SELECT CAST(generate_series(current_date - interval '29 days', current_date, interval '1 day') AS date) AS day" +
+            ") " +
+            "SELECT 'status' AS series, status AS label, CAST(NULL AS varchar) AS grp, CAST(SUM(issue_count) AS bigint) AS issue_count, 0 AS ord " +
+            "FROM s GROUP BY status HAVING SUM(issue_count) > 0 " +
+            "UNION ALL " +
+            "SELECT 'unassigned', NULL, NULL, CAST(COALESCE(SUM(unassigned_count), 0) AS bigint), 0 FROM s " +
+            "UNION ALL " +
+            "SELECT 'month', TO_CHAR(DATE_TRUNC('month', stat_date), 'YYYY-MM'), NULL, CAST(SUM(issue_count) AS bigint), 0 " +
+            "FROM s GROUP BY 2 HAVING SUM(issue_count) > 0 " +
+            "UNION ALL " +
+            "SELECT 'priorityInMonth', priority, NULL, CAST(SUM(issue_count) AS bigint), 0 " +
+            "FROM s WHERE stat_date >= current_date - 30 GROUP BY priority HAVING SUM(issue_count) > 0 " +
+            "UNION ALL " +
+            "SELECT 'dayInMonth', TO_CHAR(d.day, 'MM-DD'), NULL, CAST(COALESCE(SUM(s.issue_count), 0) AS bigint), d.day - current_date " +
+            "FROM dates d LEFT JOIN s ON s.stat_date = d.day GROUP BY d.day " +
+            "UNION ALL " +
+            "SELECT 'dayStatusInWeek', TO_CHAR(d.day, 'MM-DD'), s.status, CAST(COALESCE(SUM(s.issue_count), 0) AS bigint), d.day - current_date " +
+            "FROM dates d LEFT JOIN s ON s.stat_date = d.day WHERE d.day >= current_date - 6 GROUP BY d.day, s.status " +
+            "UNION ALL " +
+            "SELECT 'dayPriorityInWeek', TO_CHAR(d.day, 'MM-DD'), s.priority, CAST(COALESCE(SUM(s.issue_count), 0) AS bigint), d.day - current_date " +
+            "FROM dates d LEFT JOIN s ON s.stat_date = d.day WHERE d.day >= current_date - 6 GROUP BY d.day, s.priority " +
+            "UNION ALL " +
+            "SELECT 'fixer', u.username, f.status, CAST(SUM(f.issue_count) AS bigint), 0 " +
+            "FROM issue_fixer_stats f JOIN users u ON f.fixer_id = u.id " +
+            "WHERE f.project_id = :projectId AND f.status IN ('RESOLVED', 'CLOSED') AND f.issue_count > 0 " +
+            "GROUP BY u.username, f.status " +
+            "UNION ALL " +
+            "(SELECT 'comments', i.title, NULL, CAST(SUM(c.comment_count) AS bigint), -CAST(SUM(c.comment_count) AS integer) " +
+            " FROM issue_comment_stats c JOIN issues i ON i.id = c.issue_id " +
+            " WHERE c.project_id = :projectId AND c.comment_count > 0 " +
+            " GROUP BY i.title ORDER BY 4 DESC LIMIT 3) " +
+            "ORDER BY series, ord, label, grp", nativeQuery = true)
+    List<Object[]> findDashboard(@Param("projectId") Long projectId);
+}
@@ -1,8 +1,31 @@
 package com.causwe.backend.repository;
 
+import com.causwe.backend.dto.UserResponseDTO;
 import com.causwe.backend.model.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     User findByUsername(String username);
-}
\ No newline at end of file
+
+    List<User> findByUsernameIn(Collection<String> usernames);
+
+    // 개발자 목록 한 페이지: role 판별 컬럼과 username 순서(idx_users_role_username)로 읽고, 비밀번호 등 나머지 컬럼은 읽지 않는다
+    @Query("SELECT new com.causwe.backend.dto.UserResponseDTO(u.username, u.role) FROM User u " +
+            "WHERE TYPE(u) = Developer AND u.username LIKE :pattern ESCAPE '\\' AND u.username > :after " +
+            "ORDER BY u.username")
+    List<UserResponseDTO> findDevelopers(@Param("pattern") String pattern, @Param("after") String after, Limit limit);
+
+    // 로그인 때 다시 만든 해시로 바꾼다. 그 사이 비밀번호가 바뀌었으면 아무것도 하지 않는다.
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE users SET password = :newPassword WHERE id = :userId AND password = :oldPassword", nativeQuery = true)
+    int updatePassword(@Param("userId") Long userId, @Param("oldPassword") String oldPassword, @Param("newPassword") String newPassword);
+}
@@ -0,0 +1,16 @@
+package com.causwe.backend.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 컨트롤러 파라미터에 로그인한 사용자를 넣는다. jwt 쿠키는 요청마다 한 번만 검증한다.
+//   @CurrentUser Long memberId - 토큰의 사용자 id
+//   @CurrentUser User user     - 사용자 (없으면 null)
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+}
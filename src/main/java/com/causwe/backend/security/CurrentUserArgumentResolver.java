@@ -0,0 +1,91 @@
+package com.causwe.backend.security;
+
+import com.causwe.backend.exceptions.UnauthorizedException;
+import com.causwe.backend.model.User;
+import com.causwe.backend.service.UserService;
+
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+// @CurrentUser 파라미터를 채운다. 검증한 사용자 id와 조회한 사용자는 요청 속성에 두고 같은 요청 안에서 다시 쓴다.
+// 토큰이 없거나 검증에 실패하면 UnauthorizedException(401)이다.
+@Component
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    static final String MEMBER_ID_ATTRIBUTE = CurrentUserArgumentResolver.class.getName() + ".memberId";
+    static final String USER_ATTRIBUTE = CurrentUserArgumentResolver.class.getName() + ".user";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserService userService;
+
+    @Autowired
+    public CurrentUserArgumentResolver(JwtTokenProvider jwtTokenProvider, UserService userService) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userService = userService;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        Class<?> type = parameter.getParameterType();
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && (type == Long.class || User.class.isAssignableFrom(type));
+    }
+
+    @Override
+    public Object resolveArgument(@NonNull MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  @NonNull NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Long memberId = memberId(webRequest);
+        if (parameter.getParameterType() == Long.class) {
+            return memberId;
+        }
+        Object user = webRequest.getAttribute(USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (user == null) {
+            user = userService.getUserById(memberId);
+            if (user != null) {
+                webRequest.setAttribute(USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+            }
+        }
+        return user;
+    }
+
+    // 컨트롤러 밖(인터셉터 등)에서도 같은 방법으로 사용자 id를 얻는다
+    public Long memberId(NativeWebRequest webRequest) {
+        Object memberId = webRequest.getAttribute(MEMBER_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (memberId != null) {
+            return (Long) memberId;
+        }
+        try {
+            Long resolved = jwtTokenProvider.getUserIdFromToken(token(webRequest));
+            if (resolved != null) {
+                webRequest.setAttribute(MEMBER_ID_ATTRIBUTE, resolved, RequestAttributes.SCOPE_REQUEST);
+            }
+            return resolved;
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new UnauthorizedException("User not logged in");
+        }
+    }
+
+    private static String token(NativeWebRequest webRequest) {
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        if (request == null || request.getCookies() == null) {
+            return null;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if ("jwt".equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+}
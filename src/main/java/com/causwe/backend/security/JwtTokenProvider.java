@@ -1,22 +1,67 @@
 package com.causwe.backend.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+
+import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Component
 public class JwtTokenProvider {
-    @Value("${jwt.secret}")
-    private String secret;
 
-    @Value("${jwt.expiration}")
-    private long expiration;
+    private final Key signingKey;
+    private final long expiration;
+    private final Ticker ticker;
+
+    // 불변이라 스레드 간에 공유한다 (요청마다 parser를 만들지 않는다)
+    private final JwtParser parser;
+
+    // 서명 검증을 통과한 토큰 -> (userId, 만료 시각). 항목은 토큰 만료 시각에 같이 사라진다.
+    // 만료 시각은 검증할 때 한 번만 벽시계로 남은 시간을 구해 ticker 시각으로 바꿔 두고, 캐시 만료와 확인 모두 ticker를 쓴다.
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    @Autowired
+    public JwtTokenProvider(@Value("${jwt.secret}") String secret,
+                            @Value("${jwt.expiration}") long expiration,
+                            @Value("${app.jwt.token-cache.max-size:10000}") long tokenCacheSize,
+                            ObjectProvider<MeterRegistry> meterRegistry) {
+        this(secret, expiration, tokenCacheSize, Ticker.systemTicker());
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, verifiedTokens, "jwtTokens"));
+    }
+
+    JwtTokenProvider(String secret, long expiration, long tokenCacheSize, Ticker ticker) {
+        // jwt.secret은 Base64로 인코딩한 32바이트 이상의 키다
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.expiration = expiration;
+        this.ticker = ticker;
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(tokenCacheSize)
+                .expireAfter(new UntilTokenExpiry())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
 
     public String generateToken(Long userId) {
         Map<String, Object> claims = new HashMap<>();
@@ -29,12 +74,25 @@ public class JwtTokenProvider {
                 .setSubject(String.valueOf(userId))
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration * 1000))
-                .signWith(SignatureAlgorithm.HS256, secret)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public Long getUserIdFromToken(String token) {
-        return Long.parseLong(extractClaim(token, Claims::getSubject));
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("JWT token is missing");
+        }
+        VerifiedToken verified = verifiedTokens.getIfPresent(token);
+        if (verified == null || verified.expiresAtNanos - ticker.read() <= 0) {
+            // 검증에 실패한 토큰은 예외가 그대로 나가고 캐시에 남지 않는다
+            Claims claims = extractAllClaims(token);
+            Date expiresAt = claims.getExpiration();
+            long remainingMillis = expiresAt != null ? expiresAt.getTime() - System.currentTimeMillis() : expiration * 1000;
+            verified = new VerifiedToken(Long.parseLong(claims.getSubject()),
+                    ticker.read() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis)));
+            verifiedTokens.put(token, verified);
+        }
+        return verified.userId;
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
@@ -43,6 +101,33 @@ public class JwtTokenProvider {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody();
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    long cachedTokenCount() {
+        verifiedTokens.cleanUp();
+        return verifiedTokens.estimatedSize();
+    }
+
+    // expiresAtNanos는 ticker 기준 시각이다
+    private record VerifiedToken(Long userId, long expiresAtNanos) {
+    }
+
+    private static class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+            return Math.max(0, verified.expiresAtNanos - currentTime);
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, verified, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,7 @@
 package com.causwe.backend.service;
 
+import com.causwe.backend.cache.ProjectChangedEvent;
+import com.causwe.backend.events.ProjectActivityEvent;
 import com.causwe.backend.exceptions.CommentNotFoundException;
 import com.causwe.backend.exceptions.UnauthorizedException;
 import com.causwe.backend.model.Comment;
@@ -7,7 +9,9 @@ import com.causwe.backend.model.Issue;
 import com.causwe.backend.model.User;
 import com.causwe.backend.repository.CommentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -17,12 +21,17 @@ public class CommentServiceImpl implements CommentService {
     private final CommentRepository commentRepository;
     private final UserService userService;
     private final IssueService issueService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IssueRollupService issueRollupService;
 
     @Autowired
-    public CommentServiceImpl(CommentRepository commentRepository, UserService userService, IssueService issueService) {
+    public CommentServiceImpl(CommentRepository commentRepository, UserService userService, IssueService issueService,
+                              ApplicationEventPublisher eventPublisher, IssueRollupService issueRollupService) {
         this.commentRepository = commentRepository;
         this.userService = userService;
         this.issueService = issueService;
+        this.eventPublisher = eventPublisher;
+        this.issueRollupService = issueRollupService;
     }
 
     @Override
@@ -32,6 +41,7 @@ public class CommentServiceImpl implements CommentService {
     }
 
     @Override
+    @Transactional
     public Comment addComment(Long issueId, Comment commentData, Long memberId) {
         User currentUser = userService.getUserById(memberId);
         if (currentUser == null) {
@@ -42,13 +52,18 @@ public class CommentServiceImpl implements CommentService {
 
         if (issue != null) {
             Comment comment = new Comment(issue, currentUser, commentData.getContent());
-            return commentRepository.save(comment);
+            Comment saved = commentRepository.save(comment);
+            issueRollupService.commentsChanged(issue, 1);
+            eventPublisher.publishEvent(ProjectChangedEvent.commentsChanged(issue.getProject().getId(), issue.getId(), true));
+            eventPublisher.publishEvent(ProjectActivityEvent.commentCreated(saved));
+            return saved;
         } else {
             return null;
         }
     }
 
     @Override
+    @Transactional
     public boolean deleteComment(Long id, Long memberId) {
         User currentUser = userService.getUserById(memberId);
         if (currentUser == null) {
@@ -60,6 +75,10 @@ public class CommentServiceImpl implements CommentService {
 
         if(currentUser.canDeleteComment(comment)){
             commentRepository.deleteById(id);
+            Issue issue = comment.getIssue();
+            issueRollupService.commentsChanged(issue, -1);
+            eventPublisher.publishEvent(ProjectChangedEvent.commentsChanged(issue.getProject().getId(), issue.getId(), true));
+            eventPublisher.publishEvent(ProjectActivityEvent.commentDeleted(issue, id));
             return true;
         }else{
             throw new UnauthorizedException("You are not authorized to delete this comment.");
@@ -81,6 +100,10 @@ public class CommentServiceImpl implements CommentService {
         }
 
         comment.setContent(commentData.getContent());
-        return commentRepository.save(comment);
+        Comment saved = commentRepository.save(comment);
+        Issue issue = comment.getIssue();
+        eventPublisher.publishEvent(ProjectChangedEvent.commentsChanged(issue.getProject().getId(), issue.getId(), false));
+        eventPublisher.publishEvent(ProjectActivityEvent.commentUpdated(saved));
+        return saved;
     }
 }
@@ -0,0 +1,11 @@
+package com.causwe.backend.service;
+
+import com.causwe.backend.model.Issue;
+
+public interface IssueRollupService {
+    void issueCreated(Issue issue);
+    void issueChanged(Issue before, Issue after);
+    void commentsChanged(Issue issue, long delta);
+    void projectDeleted(Long projectId);
+    void backfill();
+}
@@ -0,0 +1,129 @@
+package com.causwe.backend.service;
+
+import com.causwe.backend.config.ExecutorConfig;
+import com.causwe.backend.model.Issue;
+import com.causwe.backend.model.User;
+import com.causwe.backend.repository.IssueStatsRepository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+
+// 이슈/댓글 변경을 통계 롤업 테이블에 증분으로 반영한다.
+// 호출하는 서비스의 트랜잭션 안에서 실행되므로 이슈 저장과 롤업 갱신은 함께 커밋되거나 함께 롤백된다.
+// 증분 반영은 프로젝트 공유 잠금을, 백필은 배타 잠금을 잡아 같은 프로젝트에서 둘이 겹치지 않는다.
+@Service
+public class IssueRollupServiceImpl implements IssueRollupService {
+
+    // advisory lock의 첫 번째 키 (다른 용도의 잠금과 겹치지 않게 한다)
+    static final int LOCK_NAMESPACE = 0x526f6c6c;
+
+    private final IssueStatsRepository issueStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public IssueRollupServiceImpl(IssueStatsRepository issueStatsRepository, PlatformTransactionManager transactionManager) {
+        this.issueStatsRepository = issueStatsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Transactional
+    public void issueCreated(Issue issue) {
+        lockShared(issue);
+        addDaily(issue, 1);
+        addFixer(issue, 1);
+    }
+
+    @Override
+    @Transactional
+    public void issueChanged(Issue before, Issue after) {
+        boolean dailyChanged = before.getStatus() != after.getStatus()
+                || before.getPriority() != after.getPriority()
+                || (before.getAssignee() == null) != (after.getAssignee() == null);
+        boolean fixerChanged = before.getStatus() != after.getStatus()
+                || !Objects.equals(userId(before.getFixer()), userId(after.getFixer()));
+        if (dailyChanged || fixerChanged) {
+            lockShared(after);
+        }
+        if (dailyChanged) {
+            addDaily(before, -1);
+            addDaily(after, 1);
+        }
+        if (fixerChanged) {
+            addFixer(before, -1);
+            addFixer(after, 1);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void commentsChanged(Issue issue, long delta) {
+        lockShared(issue);
+        issueStatsRepository.addCommentStat(issue.getId(), issue.getProject().getId(), delta);
+    }
+
+    @Override
+    @Transactional
+    public void projectDeleted(Long projectId) {
+        issueStatsRepository.deleteDailyStats(projectId);
+        issueStatsRepository.deleteFixerStats(projectId);
+        issueStatsRepository.deleteCommentStats(projectId);
+        issueStatsRepository.deleteBackfillMarker(projectId);
+    }
+
+    // 백필 기록(issue_stats_backfills)이 없는 프로젝트의 롤업을 issues/comments에서 다시 만든다.
+    // 프로젝트마다 한 트랜잭션에서 배타 잠금을 잡고 비운 뒤 채우므로, 그 전에 커밋된 증분은 다시 센 값으로 바뀌고
+    // 잠금을 기다린 증분은 다시 센 값 위에 더해진다. 시작을 막지 않도록 statistics-refresh 풀에서 돈다.
+    @Override
+    @Async(ExecutorConfig.STATISTICS_REFRESH)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        for (Long projectId : issueStatsRepository.findProjectsToBackfill()) {
+            transactionTemplate.executeWithoutResult(status -> backfill(projectId));
+        }
+    }
+
+    private void backfill(Long projectId) {
+        issueStatsRepository.lockProjectExclusive(LOCK_NAMESPACE, Long.hashCode(projectId));
+        // 다른 인스턴스가 먼저 채웠다
+        if (issueStatsRepository.isBackfilled(projectId)) {
+            return;
+        }
+        issueStatsRepository.deleteDailyStats(projectId);
+        issueStatsRepository.deleteFixerStats(projectId);
+        issueStatsRepository.deleteCommentStats(projectId);
+        issueStatsRepository.backfillDailyStats(projectId);
+        issueStatsRepository.backfillFixerStats(projectId);
+        issueStatsRepository.backfillCommentStats(projectId);
+        issueStatsRepository.markBackfilled(projectId);
+    }
+
+    private void lockShared(Issue issue) {
+        issueStatsRepository.lockProjectShared(LOCK_NAMESPACE, Long.hashCode(issue.getProject().getId()));
+    }
+
+    private void addDaily(Issue issue, long delta) {
+        String priority = issue.getPriority() != null ? issue.getPriority().name() : "";
+        issueStatsRepository.addDailyStat(issue.getProject().getId(), issue.getReportedDate().toLocalDate(),
+                issue.getStatus().name(), priority, delta, issue.getAssignee() == null ? delta : 0);
+    }
+
+    private void addFixer(Issue issue, long delta) {
+        if (issue.getFixer() != null) {
+            issueStatsRepository.addFixerStat(issue.getProject().getId(), issue.getFixer().getId(),
+                    issue.getStatus().name(), delta);
+        }
+    }
+
+    private Long userId(User user) {
+        return user != null ? user.getId() : null;
+    }
+}
@@ -1,18 +1,21 @@
 // IssueService.java
 package com.causwe.backend.service;
 
+import com.causwe.backend.dto.IssueSummary;
 import com.causwe.backend.model.Issue;
 import com.causwe.backend.model.User;
+import com.causwe.backend.util.CursorPage;
 
 import java.io.IOException;
 import java.util.List;
 
 public interface IssueService {
-    List<Issue> getAllIssues(Long projectId, Long memberId);
+    List<IssueSummary> getAllIssues(Long projectId, Long memberId);
+    CursorPage<IssueSummary> getIssuesPage(Long projectId, Long memberId, String cursor, int size);
     Issue getIssueById(Long id);
     Issue createIssue(Long projectId, Issue issueData, Long memberId);
     Issue updateIssue(Long id, Issue updatedIssue, Long memberId);
-    List<Issue> searchIssues(Long projectId, String assigneeUsername, String reporterUsername, Issue.Status status, Long memberId);
+    List<IssueSummary> searchIssues(Long projectId, String assigneeUsername, String reporterUsername, Issue.Status status, Long memberId);
     List<Issue> searchIssuesByNL(Long projectId, String userMessage, Long memberId) throws IOException;
     List<User> getRecommendedAssignees(Long id);
 }
\ No newline at end of file
@@ -1,40 +1,65 @@
 package com.causwe.backend.service;
 
+import com.causwe.backend.cache.ProjectChangedEvent;
+import com.causwe.backend.client.ChatCompletionClient;
+import com.causwe.backend.dto.IssueSummary;
+import com.causwe.backend.embedding.IssueEmbeddingPipeline;
+import com.causwe.backend.exceptions.ChatCompletionBusyException;
+import com.causwe.backend.events.ProjectActivityEvent;
 import com.causwe.backend.exceptions.IssueNotFoundException;
 import com.causwe.backend.exceptions.UnauthorizedException;
+import com.causwe.backend.nlsearch.NlQueryValidator;
+import com.causwe.backend.nlsearch.PromptKey;
+import com.causwe.backend.nlsearch.ValidatedQuery;
 import com.causwe.backend.model.*;
 import com.causwe.backend.repository.IssueRepository;
+import com.causwe.backend.util.CursorPage;
+import com.causwe.backend.util.IssueCursor;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
 import lombok.Setter;
-import okhttp3.MediaType;
-import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import okhttp3.RequestBody;
-import okhttp3.Response;
-import org.json.JSONArray;
-import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Query;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 @Service
 public class IssueServiceImpl implements IssueService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final IssueRepository issueRepository;
     private final ProjectService projectService;
     private final UserService userService;
-    private final OkHttpClient httpClient = new OkHttpClient();
+    private final ApplicationEventPublisher eventPublisher;
+    private final IssueRollupService issueRollupService;
+    private final IssueEmbeddingPipeline issueEmbeddingPipeline;
+    private final UserLookup userLookup;
 
     @Setter
     @PersistenceContext
@@ -44,20 +69,121 @@ public class IssueServiceImpl implements IssueService {
     @Autowired
     private CacheManager cacheManager;
 
+    @Setter
+    @Autowired
+    private ChatCompletionClient chatCompletionClient;
+
+    @Setter
+    @Autowired
+    private NlQueryValidator nlQueryValidator;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setter
+    @Value("${app.nl-search.statement-timeout:5s}")
+    private Duration nlStatementTimeout = Duration.ofSeconds(5);
+
+    @Setter
+    @Value("${app.nl-search.completion-timeout:45s}")
+    private Duration nlCompletionTimeout = Duration.ofSeconds(45);
+
+    @Setter
+    @Value("${app.recommendation.same-project:false}")
+    private boolean recommendFromSameProject;
+
+    @Setter
+    @Value("${app.recommendation.top-k:3}")
+    private int recommendationCount = 3;
+
+    @Setter
+    @Value("${app.recommendation.candidates:100}")
+    private int recommendationCandidates = 100;
+
     @Autowired
-    public IssueServiceImpl(IssueRepository issueRepository, ProjectService projectService, UserService userService) {
+    public IssueServiceImpl(IssueRepository issueRepository, ProjectService projectService, UserService userService,
+                            ApplicationEventPublisher eventPublisher, IssueRollupService issueRollupService,
+                            IssueEmbeddingPipeline issueEmbeddingPipeline, UserLookup userLookup) {
         this.issueRepository = issueRepository;
         this.projectService = projectService;
         this.userService = userService;
+        this.eventPublisher = eventPublisher;
+        this.issueRollupService = issueRollupService;
+        this.issueEmbeddingPipeline = issueEmbeddingPipeline;
+        this.userLookup = userLookup;
+    }
+
+    @Autowired
+    public void setTransactionManager(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     @Override
-    public List<Issue> getAllIssues(Long projectId, Long memberId) {
-        List<Issue> issues = issueRepository.IssuesByProjectAndUser(projectId, memberId);
-        for(Issue issue: issues){
-            issue.setDescription(null);
+    public List<IssueSummary> getAllIssues(Long projectId, Long memberId) {
+        User currentUser = userService.getUserById(memberId);
+        return cached("issues", listCacheKey(projectId, currentUser), () ->
+                List.copyOf(findIssuesInListOrder(projectId, currentUser, IssueCursor.first(), Integer.MAX_VALUE)));
+    }
+
+    @Override
+    public CursorPage<IssueSummary> getIssuesPage(Long projectId, Long memberId, String cursor, int size) {
+        IssueCursor position = IssueCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        User currentUser = userService.getUserById(memberId);
+
+        // 한 건을 더 읽어서 다음 페이지가 있는지 판단한다
+        List<IssueSummary> issues = findIssuesInListOrder(projectId, currentUser, position, pageSize + 1);
+        String nextCursor = null;
+        if (issues.size() > pageSize) {
+            issues = issues.subList(0, pageSize);
+            IssueSummary last = issues.get(pageSize - 1);
+            nextCursor = new IssueCursor(last.getBucket(), last.getId()).encode();
+        }
+        return new CursorPage<>(issues, nextCursor);
+    }
+
+    // 목록 캐시 키는 (projectId, role, memberId). PL/ADMIN 목록은 사용자와 관계없이 같으므로 memberId 없이 역할 단위로 공유한다.
+    private List<Object> listCacheKey(Long projectId, User member) {
+        if (member == null || member.getRole() == User.Role.ADMIN) {
+            return Arrays.asList(projectId, User.Role.ADMIN, null);
+        }
+        if (member.getRole() == User.Role.PL) {
+            return Arrays.asList(projectId, User.Role.PL, null);
+        }
+        return Arrays.asList(projectId, member.getRole(), member.getId());
+    }
+
+    // 캐시가 설정되지 않은 환경(테스트 등)에서는 바로 조회한다
+    private <T> T cached(String cacheName, Object key, Supplier<T> loader) {
+        Cache cache = cacheManager != null ? cacheManager.getCache(cacheName) : null;
+        if (cache == null) {
+            return loader.get();
+        }
+        if (cache instanceof CaffeineCache caffeineCache) {
+            return loadOutsideLock(caffeineCache.getAsyncCache(), key, loader);
+        }
+        try {
+            return cache.get(key, loader::get);
+        } catch (Cache.ValueRetrievalException e) {
+            // 로더가 던진 예외(검증 실패 등)는 감싸지 않고 그대로 전달한다
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
         }
-        return issues;
+    }
+
+    // 역할은 이미 읽어 온 사용자에서 한 번만 확인하고, 역할별 쿼리로 바로 보낸다
+    private List<IssueSummary> findIssuesInListOrder(Long projectId, User member, IssueCursor position, int limit) {
+        if (member == null) {
+            return issueRepository.findIssuesForAdmin(projectId, position.getBucket(), position.getId(), limit);
+        }
+        return switch (member.getRole()) {
+            case PL -> issueRepository.findIssuesForProjectLead(projectId, position.getBucket(), position.getId(), limit);
+            case DEV -> issueRepository.findIssuesForDeveloper(projectId, member.getId(), position.getBucket(), position.getId(), limit);
+            case TESTER -> issueRepository.findIssuesForTester(projectId, member.getId(), position.getBucket(), position.getId(), limit);
+            case ADMIN -> issueRepository.findIssuesForAdmin(projectId, position.getBucket(), position.getId(), limit);
+        };
     }
 
     @Override
@@ -67,6 +193,7 @@ public class IssueServiceImpl implements IssueService {
     }
 
     @Override
+    @Transactional
     public Issue createIssue(Long projectId, Issue issueData, Long memberId) {
         User currentUser = userService.getUserById(memberId);
         if (currentUser == null) {
@@ -80,21 +207,23 @@ public class IssueServiceImpl implements IssueService {
         Issue issue = new Issue(issueData.getTitle(), issueData.getDescription(), issueData.getPriority(), currentUser);
         issue.setProject(project);
         Issue newIssue = issueRepository.save(issue);
+        issueRollupService.issueCreated(newIssue);
+        eventPublisher.publishEvent(ProjectChangedEvent.issueCreated(projectId));
+        eventPublisher.publishEvent(ProjectActivityEvent.issueCreated(newIssue));
 
-        CompletableFuture.runAsync(() ->
-                issueRepository.embedIssueTitle(newIssue.getId(), newIssue.getTitle())
-        );
+        afterCommit(() -> issueEmbeddingPipeline.submit(newIssue.getId(), newIssue.getTitle()));
 
         return newIssue;
     }
 
     @Override
+    @Transactional
     public Issue updateIssue(Long id, Issue updatedIssue, Long memberId) {
         User currentUser = userService.getUserById(memberId);
         if (currentUser == null) {
             throw new UnauthorizedException("User not logged in");
         }
-        Issue issue = issueRepository.findById(id)
+        Issue issue = issueRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new IssueNotFoundException(id));
 
         Issue originalIssueCopy = new Issue(issue);
@@ -103,33 +232,54 @@ public class IssueServiceImpl implements IssueService {
             throw new UnauthorizedException("Issue not changed");
         }
         if(!Objects.equals(originalIssueCopy.getTitle(), issue.getTitle())||!Objects.equals(originalIssueCopy.getDescription(), issue.getDescription())){
-            CompletableFuture.runAsync(() ->
-                    issueRepository.embedIssueTitle(issue.getId(), issue.getTitle())
-            );
+            afterCommit(() -> issueEmbeddingPipeline.submit(issue.getId(), issue.getTitle()));
         }
-        return issueRepository.save(issue);
+        Issue saved = issueRepository.save(issue);
+        issueRollupService.issueChanged(originalIssueCopy, saved);
+        eventPublisher.publishEvent(ProjectChangedEvent.issueUpdated(issue.getProject().getId(), issue.getId()));
+        eventPublisher.publishEvent(ProjectActivityEvent.issueUpdated(issue));
+        return saved;
+    }
+
+    // 임베딩은 파이프라인 스레드의 별도 커넥션에서 실행되므로 커밋 이후에 넣어야 새 이슈 행을 볼 수 있다
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
     }
 
     @Override
-    public List<Issue> searchIssues(Long projectId, String assigneeUsername, String reporterUsername, Issue.Status status, Long memberId) {
-        Project project = projectService.getProjectById(projectId);
+    public List<IssueSummary> searchIssues(Long projectId, String assigneeUsername, String reporterUsername, Issue.Status status, Long memberId) {
+        projectService.getProjectById(projectId);
 
-        if (assigneeUsername != null) {
-            User assignee = userService.getUserByUsername(assigneeUsername);
-            return issueRepository.findByProjectAndAssigneeOrderByIdDesc(project, assignee);
-        } else if (reporterUsername != null) {
-            User reporter = userService.getUserByUsername(reporterUsername);
-            return issueRepository.findByProjectAndReporterOrderByIdDesc(project, reporter);
-        } else if (status != null) {
-            return issueRepository.findByProjectAndStatusOrderByIdDesc(project, status);
-        } else {
-            return issueRepository.IssuesByProjectAndUser(projectId, memberId);
+        // 사용자 이름은 쿼리 안에서 조인으로 걸러서, 사용자 조회를 따로 하지 않는다
+        if (assigneeUsername == null && reporterUsername == null && status == null) {
+            return getAllIssues(projectId, memberId);
         }
+        // 조건 검색 결과는 요청한 사용자와 관계없으므로 검색 조건만으로 키를 만든다
+        List<Object> key = Arrays.asList(projectId, assigneeUsername, reporterUsername, status);
+        return cached("issuesBySearch", key, () -> {
+            if (assigneeUsername != null) {
+                return List.copyOf(issueRepository.findSummariesByAssignee(projectId, assigneeUsername));
+            } else if (reporterUsername != null) {
+                return List.copyOf(issueRepository.findSummariesByReporter(projectId, reporterUsername));
+            } else {
+                return List.copyOf(issueRepository.findSummariesByStatus(projectId, status.name()));
+            }
+        });
     }
 
     @Override
     public List<Issue> searchIssuesByNL(Long projectId, String userMessage, Long memberId) throws IOException {
-        String cacheKey = "sqlQuery::" + projectId + "::" + userMessage + "::" + memberId; // Create a cache key
+        // 정규화한 프롬프트로 키를 만들어, 표현만 다른 질문과 다른 사용자의 같은 질문이 생성된 SQL을 같이 쓴다
+        String cacheKey = "sqlQuery::" + projectId + "::" + PromptKey.of(userMessage, memberId);
         String cachedSqlQuery = cacheManager.getCache("sqlQueries").get(cacheKey, String.class);
 
         String sqlQuery;
@@ -155,56 +305,96 @@ public class IssueServiceImpl implements IssueService {
                     "  \"stop\": null,\n" +
                     "  \"seed\": 100\n" +
                     "}";
-            MediaType mediaType = MediaType.get("application/json; charset=utf-8");
-            RequestBody body = RequestBody.create(jsonPayload, mediaType);
-            Request request = new Request.Builder()
-                    .url("https://api.groq.com/openai/v1/chat/completions")
-                    .post(body)
-                    .addHeader("Content-Type", "application/json")
-                    .addHeader("Authorization", "Bearer " + System.getenv("GROQ_API_KEY"))
-                    .build();
-            try (Response response = httpClient.newCall(request).execute()) {
-                if (response.isSuccessful()) {
-                    JSONObject jsonObject = null;
-                    if (response.body() != null) {
-                        jsonObject = new JSONObject(response.body().string());
-                    }
-                    JSONArray choices = jsonObject.getJSONArray("choices");
-                    JSONObject messageObject = choices.getJSONObject(0).getJSONObject("message");
-                    String content = messageObject.getString("content");
-                    sqlQuery = content.replaceAll("^```sql\\n|\\n```$|;", "");
-                    System.out.println(sqlQuery);
-                    Objects.requireNonNull(cacheManager.getCache("sqlQueries")).put(cacheKey, sqlQuery);
-                } else {
-
-                    throw new IOException("Unexpected code" + response.code());
-                }
-            }
+            // 같은 키로 진행 중인 요청이 있으면 그 응답을 같이 기다린다 (대기 시간은 클라이언트 타임아웃으로 제한된다)
+            String content = awaitCompletion(chatCompletionClient.complete(cacheKey, jsonPayload));
+            sqlQuery = content.replaceAll("^```sql\\n|\\n```$|;", "");
+            Objects.requireNonNull(cacheManager.getCache("sqlQueries")).put(cacheKey, sqlQuery);
         }
-        if (sqlQuery.trim().toUpperCase().startsWith("SELECT")) {
-            Query query = entityManager.createNativeQuery(sqlQuery, Issue.class);
+
+        // 파싱과 리터럴 추출은 매번 하고, 검사/재작성 결과는 값을 뺀 템플릿으로 캐시한다.
+        // 프로젝트 id와 값은 파라미터이므로 값만 다른 쿼리는 프로젝트가 달라도 같은 계획과 prepared statement를 쓴다.
+        NlQueryValidator.Template template = nlQueryValidator.parse(sqlQuery);
+        String plan = cached("nlQueryPlans", template.getKey(), () -> nlQueryValidator.plan(template));
+        ValidatedQuery validated = nlQueryValidator.bind(plan, template, projectId);
+
+        // 검증을 빠져나간 함수가 있어도 쓰지 못하게 읽기 전용 트랜잭션에서 실행한다.
+        // LLM 응답을 기다리는 동안 커넥션을 잡지 않도록 메서드 전체가 아니라 쿼리만 감싼다.
+        return readOnly(() -> {
+            Query query = entityManager.createNativeQuery(validated.getSql(), Issue.class);
+            List<Object> parameters = validated.getParameters();
+            for (int i = 0; i < parameters.size(); i++) {
+                query.setParameter(i + 1, parameters.get(i));
+            }
+            query.setHint("jakarta.persistence.query.timeout", nlStatementTimeout.toMillis());
             return query.getResultList();
-        } else {
-            return new ArrayList<>();
+        });
+    }
+
+    // 트랜잭션 매니저가 없는 환경(테스트 등)에서는 바로 실행한다
+    private <T> T readOnly(Supplier<T> work) {
+        if (readOnlyTransaction == null) {
+            return work.get();
+        }
+        return readOnlyTransaction.execute(status -> work.get());
+    }
+
+    // 계산 중인 future만 잠깐 잠금을 잡고 등록한 뒤, 값은 잠금 밖에서 이 스레드가 계산한다.
+    // 같은 키를 동시에 요청한 스레드는 그 future를 기다리고, 계산 중에 무효화되면 결과는 캐시에 남지 않는다. 실패한 future는 Caffeine이 지운다.
+    @SuppressWarnings("unchecked")
+    private static <T> T loadOutsideLock(AsyncCache<Object, Object> cache, Object key, Supplier<T> loader) {
+        CompletableFuture<Object> loading = new CompletableFuture<>();
+        CompletableFuture<Object> future = cache.get(key, (k, executor) -> loading);
+        if (future == loading) {
+            // Error도 future를 끝내야 한다. 끝나지 않은 future가 캐시에 남으면 같은 키의 이후 요청이 모두 join()에서 멈춘다.
+            try {
+                loading.complete(loader.get());
+            } catch (Throwable e) {
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return (T) future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 응답을 nlCompletionTimeout까지만 기다린다. 넘으면 요청이 밀린 것으로 보고 ChatCompletionBusyException(503)으로 실패한다.
+    // 같은 키로 기다리는 다른 요청이 있을 수 있으므로 future는 취소하지 않는다 (호출 자체는 OkHttp callTimeout이 끊는다).
+    private String awaitCompletion(CompletableFuture<String> completion) throws IOException {
+        try {
+            return completion.get(nlCompletionTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ChatCompletionBusyException("Natural-language search timed out. Please try again later.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the chat completion");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IOException(e.getCause());
         }
     }
 
     @Override
     public List<User> getRecommendedAssignees(Long id) {
         if (issueRepository.existsById(id)) {
-            List<Long> assigneeIds = issueRepository.findRecommendedAssigneesByIssueId(id);
-            List<User> unorderedAssignees = new ArrayList<>();
-            for (int i = 0; i < assigneeIds.size(); i++) {
-                unorderedAssignees.add(userService.getUserById(assigneeIds.get(i)));
-            }
-
-            // ID 목록 순서대로 사용자를 정렬
-            return assigneeIds.stream()
-                    .map(assigneeId -> unorderedAssignees.stream()
-                            .filter(user -> user.getId().equals(assigneeId))
-                            .findFirst()
-                            .orElse(null))
-                    .collect(Collectors.toList());
+            List<Long> assigneeIds = recommendFromSameProject
+                    ? issueRepository.findRecommendedAssigneesInProjectByIssueId(id, recommendationCandidates, recommendationCount)
+                    : issueRepository.findRecommendedAssigneesByIssueId(id, recommendationCandidates, recommendationCount);
+            // 한 번의 조회로 읽고, 추천 순서를 유지한다
+            return userLookup.inOrder(assigneeIds);
         } else {
             throw new IssueNotFoundException(id);
         }
@@ -1,5 +1,7 @@
 package com.causwe.backend.service;
 
+import com.causwe.backend.dto.StatisticsDashboardDTO;
+
 import java.util.Map;
 
 public interface IssueStatisticsService {
@@ -13,4 +15,5 @@ public interface IssueStatisticsService {
     Map<String, Long> getIssuesPerDayAndPriorityInWeek(Long projectId, String priority);
     Map<String, Long> getIssuesPerPriorityInMonth(Long projectId);
     Map<String, Map<String, Long>> getIssuesPerDayAndStatusInWeek(Long projectId);
+    StatisticsDashboardDTO getDashboard(Long projectId);
 }
\ No newline at end of file
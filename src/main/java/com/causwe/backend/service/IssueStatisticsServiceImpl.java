@@ -1,8 +1,9 @@
 package com.causwe.backend.service;
-import com.causwe.backend.repository.IssueRepository;
+import com.causwe.backend.dto.StatisticsDashboardDTO;
+import com.causwe.backend.model.Issue;
+import com.causwe.backend.repository.IssueStatsRepository;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
@@ -14,16 +15,17 @@ import java.util.stream.Collectors;
 @Service
 public class IssueStatisticsServiceImpl implements IssueStatisticsService {
 
-    private final IssueRepository issueRepository;
+    // 모든 통계는 issues를 스캔하지 않고 롤업 테이블에서 읽는다 (IssueRollupService가 갱신)
+    private final IssueStatsRepository issueStatsRepository;
 
     @Autowired
-    public IssueStatisticsServiceImpl(IssueRepository issueRepository) {
-        this.issueRepository = issueRepository;
+    public IssueStatisticsServiceImpl(IssueStatsRepository issueStatsRepository) {
+        this.issueStatsRepository = issueStatsRepository;
     }
 
     @Override
     public Map<String, Long> getIssuesPerStatus(Long projectId) {
-        List<Object[]> results = issueRepository.findByProjectPerStatus(projectId);
+        List<Object[]> results = issueStatsRepository.findByProjectPerStatus(projectId);
         Map<String, Long> issuesPerStatus = new LinkedHashMap<>();
 
         for (Object[] result : results) {
@@ -39,18 +41,18 @@ public class IssueStatisticsServiceImpl implements IssueStatisticsService {
     @Override
     public Map<String, Long> getIssueStatusCounts(Long projectId) {
         Map<String, Long> issueCounts = new LinkedHashMap<>();
-        issueCounts.put("REMAINING", issueRepository.countRemainingIssues(projectId));
-        issueCounts.put("RESOLVED", issueRepository.countByProjectAndStatus(projectId, "RESOLVED"));
-        issueCounts.put("ASSIGNED", issueRepository.countByProjectAndStatus(projectId, "ASSIGNED"));
-        issueCounts.put("UNASSIGNED", issueRepository.countByProjectAndAssigneeIsNull(projectId));
-        issueCounts.put("Registered Issues", issueRepository.countByProjectId(projectId));
+        issueCounts.put("REMAINING", issueStatsRepository.countRemainingIssues(projectId));
+        issueCounts.put("RESOLVED", issueStatsRepository.countByProjectAndStatus(projectId, "RESOLVED"));
+        issueCounts.put("ASSIGNED", issueStatsRepository.countByProjectAndStatus(projectId, "ASSIGNED"));
+        issueCounts.put("UNASSIGNED", issueStatsRepository.countByProjectAndAssigneeIsNull(projectId));
+        issueCounts.put("Registered Issues", issueStatsRepository.countByProjectId(projectId));
 
         return issueCounts;
     }
 
     @Override
     public Map<String, Long> getIssuesPerDayAndStatusInWeek(Long projectId, String status) {
-        List<Object[]> results = issueRepository.findIssuesPerDayAndStatusInWeek(projectId, status);
+        List<Object[]> results = issueStatsRepository.findIssuesPerDayAndStatusInWeek(projectId, status);
         Map<String, Long> issuesPerDayAndStatusInWeek = new LinkedHashMap<>();
 
         for (Object[] result : results) {
@@ -65,7 +67,7 @@ public class IssueStatisticsServiceImpl implements IssueStatisticsService {
 
     @Override
     public Map<String, Map<String, Long>> getIssuesPerFixer(Long projectId) {
-        List<Object[]> results = issueRepository.findByProjectPerFixer(projectId);
+        List<Object[]> results = issueStatsRepository.findByProjectPerFixer(projectId);
         Map<String, Map<String, Long>> issuesPerFixer = new LinkedHashMap<>();
 
         for (Object[] result : results) {
@@ -77,6 +79,10 @@ public class IssueStatisticsServiceImpl implements IssueStatisticsService {
                     .put(statusKey, count);
         }
 
+        return sortByTotalDesc(issuesPerFixer);
+    }
+
+    private Map<String, Map<String, Long>> sortByTotalDesc(Map<String, Map<String, Long>> issuesPerFixer) {
         return issuesPerFixer.entrySet().stream()
                 .sorted((e1, e2) -> {
                     long count1 = e1.getValue().values().stream().reduce(0L, Long::sum);
@@ -89,7 +95,7 @@ public class IssueStatisticsServiceImpl implements IssueStatisticsService {
 
     @Override
     public Map<String, Long> getIssuesOrderByComments(Long projectId) {
-        List<Object[]> results = issueRepository.findByProjectOrderByComments(projectId);
+        List<Object[]> results = issueStatsRepository.findByProjectOrderByComments(projectId);
         Map<String, Long> issuesOrderedByComments = new LinkedHashMap<>();
 
         for (Object[] result : results) {
@@ -104,7 +110,7 @@ public class IssueStatisticsServiceImpl implements IssueStatisticsService {
 
     @Override
     public Map<String, Long> getIssuesPerDayInMonth(Long projectId) {
-        List<Object[]> results = issueRepository.findByProjectPerDayInMonth(projectId);
+        List<Object[]> results = issueStatsRepository.findByProjectPerDayInMonth(projectId);
         Map<String, Long> issuesPerDayInMonth = new LinkedHashMap<>();
 
         for (Object[] result : results) {
@@ -119,7 +125,7 @@ public class IssueStatisticsServiceImpl implements IssueStatisticsService {
 
     @Override
     public Map<String, Long> getIssuesPerDayAndPriorityInWeek(Long projectId, String priority) {
-        List<Object[]> results = issueRepository.findIssuesPerDayAndPriorityInWeek(projectId, priority);
+        List<Object[]> results = issueStatsRepository.findIssuesPerDayAndPriorityInWeek(projectId, priority);
         Map<String, Long> issuesPerDayAndPriorityInWeek = new LinkedHashMap<>();
 
         for (Object[] result : results) {
@@ -132,10 +138,9 @@ public class IssueStatisticsServiceImpl implements IssueStatisticsService {
         return issuesPerDayAndPriorityInWeek;
     }
   
-    @Cacheable("issuesPerMonth")
     @Override
     public Map<String, Long> getIssuesPerMonth(Long projectId) {
-        List<Object[]> results = issueRepository.findByProjectPerMonth(projectId);
+        List<Object[]> results = issueStatsRepository.findByProjectPerMonth(projectId);
         Map<String, Long> issuesPerMonth = new LinkedHashMap<>();
 
         for (Object[] result : results) {
@@ -150,7 +155,7 @@ public class IssueStatisticsServiceImpl implements IssueStatisticsService {
 
     @Override
     public Map<String, Long> getIssuesPerPriorityInMonth(Long projectId) {
-        List<Object[]> results = issueRepository.findByProjectPerPriorityInMonth(projectId);
+        List<Object[]> results = issueStatsRepository.findByProjectPerPriorityInMonth(projectId);
         Map<String, Long> issuesPerPriorityInMonth = new LinkedHashMap<>();
 
         for (Object[] result : results) {
@@ -165,7 +170,7 @@ public class IssueStatisticsServiceImpl implements IssueStatisticsService {
 
     @Override
     public Map<String, Map<String, Long>> getIssuesPerDayAndStatusInWeek(Long projectId) {
-        List<Object[]> results = issueRepository.findIssuesPerDayAndStatusInWeek(projectId);
+        List<Object[]> results = issueStatsRepository.findIssuesPerDayAndStatusInWeek(projectId);
         Map<String, Map<String, Long>> issuesPerDayAndStatus = new LinkedHashMap<>();
 
         for (Object[] result : results) {
@@ -182,4 +187,58 @@ public class IssueStatisticsServiceImpl implements IssueStatisticsService {
 
         return issuesPerDayAndStatus;
     }
-}
\ No newline at end of file
+
+    // 개별 통계 API 열 개를 한 번의 쿼리로 대신한다
+    @Override
+    public StatisticsDashboardDTO getDashboard(Long projectId) {
+        List<Object[]> results = issueStatsRepository.findDashboard(projectId);
+        StatisticsDashboardDTO dashboard = new StatisticsDashboardDTO();
+        long unassigned = 0L;
+
+        for (Object[] result : results) {
+            String series = (String) result[0];
+            String label = (String) result[1];
+            String group = (String) result[2];
+            Long count = (Long) result[3];
+
+            switch (series) {
+                case "status" -> dashboard.getIssuesPerStatus().put(label, count);
+                case "unassigned" -> unassigned = count;
+                case "month" -> dashboard.getIssuesPerMonth().put(label, count);
+                case "priorityInMonth" -> dashboard.getIssuesPerPriorityInMonth().put(label, count);
+                case "dayInMonth" -> dashboard.getIssuesPerDayInMonth().put(label, count);
+                case "dayStatusInWeek" -> putDayCount(dashboard.getIssuesPerDayAndStatusInWeek(), label, group, count, Issue.Status.values());
+                case "dayPriorityInWeek" -> putDayCount(dashboard.getIssuesPerDayAndPriorityInWeek(), label, group, count, Issue.Priority.values());
+                case "fixer" -> dashboard.getIssuesPerFixer().computeIfAbsent(label, k -> new LinkedHashMap<>()).put(group, count);
+                case "comments" -> dashboard.getIssuesOrderByComments().put(label, count);
+                default -> throw new IllegalStateException("Unknown dashboard series: " + series);
+            }
+        }
+
+        Map<String, Long> perStatus = dashboard.getIssuesPerStatus();
+        long total = perStatus.values().stream().reduce(0L, Long::sum);
+        long closed = perStatus.getOrDefault("RESOLVED", 0L) + perStatus.getOrDefault("CLOSED", 0L);
+        dashboard.getIssueStatusCounts().put("REMAINING", total - closed);
+        dashboard.getIssueStatusCounts().put("RESOLVED", perStatus.getOrDefault("RESOLVED", 0L));
+        dashboard.getIssueStatusCounts().put("ASSIGNED", perStatus.getOrDefault("ASSIGNED", 0L));
+        dashboard.getIssueStatusCounts().put("UNASSIGNED", unassigned);
+        dashboard.getIssueStatusCounts().put("Registered Issues", total);
+
+        dashboard.setIssuesPerFixer(sortByTotalDesc(dashboard.getIssuesPerFixer()));
+        return dashboard;
+    }
+
+    // 일별 시리즈는 이슈가 없는 날짜/값도 0으로 채운다. 빈 날짜는 group이 null인 행으로 온다.
+    private void putDayCount(Map<String, Map<String, Long>> perDay, String day, String group, Long count, Enum<?>[] groups) {
+        Map<String, Long> counts = perDay.computeIfAbsent(day, k -> {
+            Map<String, Long> zeros = new LinkedHashMap<>();
+            for (Enum<?> g : groups) {
+                zeros.put(g.name(), 0L);
+            }
+            return zeros;
+        });
+        if (group != null) {
+            counts.put(group, count);
+        }
+    }
+}
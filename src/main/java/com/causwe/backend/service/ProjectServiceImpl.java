@@ -1,12 +1,15 @@
 package com.causwe.backend.service;
 
+import com.causwe.backend.cache.ProjectChangedEvent;
 import com.causwe.backend.exceptions.UnauthorizedException;
 import com.causwe.backend.exceptions.ProjectNotFoundException;
 import com.causwe.backend.model.Project;
 import com.causwe.backend.model.User;
 import com.causwe.backend.repository.ProjectRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -15,11 +18,16 @@ public class ProjectServiceImpl implements ProjectService {
 
     private final ProjectRepository projectRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IssueRollupService issueRollupService;
 
     @Autowired
-    public ProjectServiceImpl(ProjectRepository projectRepository, UserService userService) {
+    public ProjectServiceImpl(ProjectRepository projectRepository, UserService userService, ApplicationEventPublisher eventPublisher,
+                              IssueRollupService issueRollupService) {
         this.projectRepository = projectRepository;
         this.userService = userService;
+        this.eventPublisher = eventPublisher;
+        this.issueRollupService = issueRollupService;
     }
 
     @Override
@@ -45,6 +53,7 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
+    @Transactional
     public boolean deleteProject(Long id, Long memberId) {
         User currentUser = userService.getUserById(memberId);
         if (currentUser == null) {
@@ -54,6 +63,8 @@ public class ProjectServiceImpl implements ProjectService {
         if (currentUser.canDeleteProject()) {
             if (projectRepository.existsById(id)) {
                 projectRepository.deleteById(id);
+                issueRollupService.projectDeleted(id);
+                eventPublisher.publishEvent(ProjectChangedEvent.projectDeleted(id));
                 return true;
             } else {
                 throw new ProjectNotFoundException(id);
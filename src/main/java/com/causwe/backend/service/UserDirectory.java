@@ -0,0 +1,101 @@
+package com.causwe.backend.service;
+
+import com.causwe.backend.model.User;
+import com.causwe.backend.repository.UserRepository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 요청마다 읽는 사용자 정보를 메모리에 둔다. id와 username 두 색인을 같이 채운다.
+//   - 없는 사용자도 기억한다 (매퍼가 잘못된 username으로 계속 묻는 경우 등)
+//   - 사용자가 바뀌면 invalidate()로 버전을 올린다. 이전 버전 항목은 읽을 때 버려지므로,
+//     버전을 올리기 전에 시작된 조회가 끝나면서 예전 결과를 다시 넣어도 쓰이지 않는다
+//   - DB에서 직접 바꾼 값(권한 등)은 ttl이 지나면 반영된다
+@Component
+public class UserDirectory {
+
+    private final UserRepository userRepository;
+    private final AtomicLong version = new AtomicLong();
+    private final Cache<Long, Entry> byId;
+    private final Cache<String, Entry> byUsername;
+
+    @Autowired
+    public UserDirectory(UserRepository userRepository,
+                         @Value("${app.user-cache.max-size:10000}") long maxSize,
+                         @Value("${app.user-cache.ttl:10m}") Duration ttl,
+                         ObjectProvider<MeterRegistry> meterRegistry) {
+        this.userRepository = userRepository;
+        this.byId = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+        this.byUsername = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+        meterRegistry.ifAvailable(registry -> {
+            CaffeineCacheMetrics.monitor(registry, byId, "usersById");
+            CaffeineCacheMetrics.monitor(registry, byUsername, "usersByUsername");
+        });
+    }
+
+    public User findById(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        Entry entry = byId.getIfPresent(userId);
+        if (entry != null && entry.version == version.get()) {
+            return entry.user;
+        }
+        return load(() -> userRepository.findById(userId).orElse(null), userId, null);
+    }
+
+    public User findByUsername(String username) {
+        if (username == null) {
+            return null;
+        }
+        Entry entry = byUsername.getIfPresent(username);
+        if (entry != null && entry.version == version.get()) {
+            return entry.user;
+        }
+        return load(() -> userRepository.findByUsername(username), null, username);
+    }
+
+    // 사용자가 추가/변경되면 호출한다
+    public void invalidate() {
+        version.incrementAndGet();
+        byId.invalidateAll();
+        byUsername.invalidateAll();
+    }
+
+    // 한 사용자의 값만 바뀌었을 때 (비밀번호 재해시 등) 그 사용자의 두 색인 항목만 지운다.
+    // 동시에 진행 중이던 조회가 예전 값을 다시 넣을 수 있으므로, 다른 요청이 바로 새 값을 봐야 하는 변경에는 invalidate()를 쓴다.
+    public void evict(User user) {
+        byId.invalidate(user.getId());
+        byUsername.invalidate(user.getUsername());
+    }
+
+    private User load(Supplier<User> query, Long userId, String username) {
+        long loadedAt = version.get();
+        User user = query.get();
+        Entry entry = new Entry(user, loadedAt);
+        if (user != null) {
+            byId.put(user.getId(), entry);
+            byUsername.put(user.getUsername(), entry);
+        } else if (userId != null) {
+            byId.put(userId, entry);
+        } else {
+            byUsername.put(username, entry);
+        }
+        return user;
+    }
+
+    private record Entry(User user, long version) {
+    }
+}
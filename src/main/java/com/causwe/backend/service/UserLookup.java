@@ -0,0 +1,67 @@
+package com.causwe.backend.service;
+
+import com.causwe.backend.model.User;
+import com.causwe.backend.repository.UserRepository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+// 여러 사용자를 쿼리 한 번으로 찾는다. id/이름 목록을 하나씩 getUserById로 찾는 대신 쓴다.
+@Component
+public class UserLookup {
+
+    private final UserRepository userRepository;
+
+    @Autowired
+    public UserLookup(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    public Map<Long, User> byIds(Collection<Long> ids) {
+        Map<Long, User> users = new HashMap<>();
+        if (ids.isEmpty()) {
+            return users;
+        }
+        for (User user : userRepository.findAllById(new LinkedHashSet<>(ids))) {
+            users.put(user.getId(), user);
+        }
+        return users;
+    }
+
+    public Map<String, User> byUsernames(Collection<String> usernames) {
+        Map<String, User> users = new HashMap<>();
+        if (usernames.isEmpty()) {
+            return users;
+        }
+        for (User user : userRepository.findByUsernameIn(new LinkedHashSet<>(usernames))) {
+            users.put(user.getUsername(), user);
+        }
+        return users;
+    }
+
+    // ids 순서대로 사용자를 돌려준다. 없는 id는 건너뛴다.
+    public List<User> inOrder(List<Long> ids) {
+        Map<Long, Integer> positions = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            positions.putIfAbsent(ids.get(i), i);
+        }
+        User[] ordered = new User[ids.size()];
+        for (User user : byIds(positions.keySet()).values()) {
+            ordered[positions.get(user.getId())] = user;
+        }
+        List<User> result = new ArrayList<>(ordered.length);
+        for (User user : ordered) {
+            if (user != null) {
+                result.add(user);
+            }
+        }
+        return result;
+    }
+}
@@ -1,7 +1,9 @@
 // UserService.java
 package com.causwe.backend.service;
 
+import com.causwe.backend.dto.UserResponseDTO;
 import com.causwe.backend.model.User;
+import com.causwe.backend.util.CursorPage;
 import java.util.List;
 
 public interface UserService {
@@ -9,7 +11,8 @@ public interface UserService {
     User getUserByUsername(String username);
     User createUser(String username, String password, User.Role role);
     User login(String username, String password);
-    List<User> getAllDevs();
+    List<UserResponseDTO> getAllDevs();
+    CursorPage<UserResponseDTO> getDevsPage(String prefix, String cursor, int size);
     //List<User> getAllUsers();
     //void deleteUser(Long userId);
 }
\ No newline at end of file
@@ -1,24 +1,30 @@
 package com.causwe.backend.service;
 
+import com.causwe.backend.dto.UserResponseDTO;
 import com.causwe.backend.model.*;
 import com.causwe.backend.repository.UserRepository;
+import com.causwe.backend.security.PasswordHasher;
+import com.causwe.backend.util.CursorPage;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 public class UserServiceImpl implements UserService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final UserDirectory userDirectory;
 
     @Autowired
-    public UserServiceImpl(UserRepository userRepository, BCryptPasswordEncoder passwordEncoder) {
+    public UserServiceImpl(UserRepository userRepository, PasswordHasher passwordHasher, UserDirectory userDirectory) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
+        this.userDirectory = userDirectory;
     }
 
     @Override
@@ -26,12 +32,12 @@ public class UserServiceImpl implements UserService {
         // if (userId == null) {
         //     return null;
         // }
-        return userRepository.findById(userId).orElse(null);
+        return userDirectory.findById(userId);
     }
 
     @Override
     public User getUserByUsername(String username) {
-        return userRepository.findByUsername(username);
+        return userDirectory.findByUsername(username);
     }
 
     @Override
@@ -46,24 +52,58 @@ public class UserServiceImpl implements UserService {
             case TESTER -> new Tester();
         };
         newUser.setUsername(username);
-        newUser.setPassword(passwordEncoder.encode(password));
-        return userRepository.save(newUser);
+        newUser.setPassword(passwordHasher.encode(password));
+        User savedUser = userRepository.save(newUser);
+        userDirectory.invalidate();
+        return savedUser;
     }
 
     @Override
     public User login(String username, String password) {
         User existingUser = userRepository.findByUsername(username);
-        if (existingUser != null && passwordEncoder.matches(password, existingUser.getPassword())) {
-            return existingUser;
+        if (existingUser == null || !passwordHasher.matches(password, existingUser.getPassword())) {
+            return null;
+        }
+        // cost나 해시 형식이 바뀌었으면 응답과 별개로 새 해시를 만들어 저장한다.
+        // 비밀번호 확인은 디렉터리를 거치지 않으므로 전체를 비우지 않고 이 사용자의 항목만 지운다
+        // (cost를 바꾼 뒤 로그인이 몰릴 때 매 로그인이 모든 사용자의 캐시를 비우지 않게 한다).
+        String oldPassword = existingUser.getPassword();
+        if (passwordHasher.needsRehash(oldPassword)) {
+            passwordHasher.encodeLater(password)
+                    .thenAccept(newPassword -> {
+                        if (userRepository.updatePassword(existingUser.getId(), oldPassword, newPassword) > 0) {
+                            userDirectory.evict(existingUser);
+                        }
+                    })
+                    .exceptionally(e -> null);
         }
-        return null;
+        return existingUser;
+    }
+
+    @Override
+    public List<UserResponseDTO> getAllDevs() {
+        return userRepository.findDevelopers("%", "", Limit.unlimited());
     }
 
+    // cursor는 이전 페이지의 마지막 username이다
     @Override
-    public List<User> getAllDevs() {
-        return userRepository.findAll().stream()
-                .filter(User::isDeveloper)
-                .collect(Collectors.toList());
+    public CursorPage<UserResponseDTO> getDevsPage(String prefix, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        String pattern = prefix == null ? "%" : escapeLike(prefix) + "%";
+        String after = cursor == null ? "" : cursor;
+
+        // 한 건을 더 읽어서 다음 페이지가 있는지 판단한다
+        List<UserResponseDTO> devs = userRepository.findDevelopers(pattern, after, Limit.of(pageSize + 1));
+        String nextCursor = null;
+        if (devs.size() > pageSize) {
+            devs = devs.subList(0, pageSize);
+            nextCursor = devs.get(pageSize - 1).getUsername();
+        }
+        return new CursorPage<>(devs, nextCursor);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
     }
     /*
     @Override
@@ -0,0 +1,17 @@
+package com.causwe.backend.util;
+
+import java.util.List;
+
+import lombok.Getter;
+
+@Getter
+public class CursorPage<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+}
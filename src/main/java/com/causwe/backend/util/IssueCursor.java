@@ -0,0 +1,43 @@
+package com.causwe.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import lombok.Getter;
+
+// 이슈 목록 키셋 페이지네이션의 위치 (정렬 우선순위 bucket, 마지막 이슈 id)
+@Getter
+public class IssueCursor {
+
+    private static final IssueCursor FIRST = new IssueCursor(-1, Long.MAX_VALUE);
+
+    private final int bucket;
+    private final long id;
+
+    public IssueCursor(int bucket, long id) {
+        this.bucket = bucket;
+        this.id = id;
+    }
+
+    public static IssueCursor first() {
+        return FIRST;
+    }
+
+    public String encode() {
+        String raw = bucket + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static IssueCursor decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new IssueCursor(Integer.parseInt(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
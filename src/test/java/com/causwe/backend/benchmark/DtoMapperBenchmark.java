@@ -0,0 +1,95 @@
+package com.causwe.backend.benchmark;
+
+import com.causwe.backend.config.ModelMapperConfig;
+import com.causwe.backend.dto.CommentDTO;
+import com.causwe.backend.dto.IssueDTO;
+import com.causwe.backend.mapper.DtoMapper;
+import com.causwe.backend.mapper.ManualDtoMapper;
+import com.causwe.backend.mapper.ModelMapperDtoMapper;
+import com.causwe.backend.model.Comment;
+import com.causwe.backend.model.Developer;
+import com.causwe.backend.model.Issue;
+import com.causwe.backend.model.Tester;
+import com.causwe.backend.model.User;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 10k 건 목록을 DTO로 바꾸는 비용 비교 (ModelMapper vs 수동 매퍼)
+// 실행: mvn test-compile 후 테스트 클래스패스로 main 실행
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMapperBenchmark {
+
+    @Param({"manual", "modelmapper"})
+    public String mapper;
+
+    @Param({"10000"})
+    public int size;
+
+    private DtoMapper dtoMapper;
+    private List<Issue> issues;
+    private List<Comment> comments;
+
+    @Setup
+    public void setUp() {
+        // 역방향(IssueDTO -> Issue) 변환은 측정하지 않으므로 UserService는 필요 없다
+        dtoMapper = "manual".equals(mapper)
+                ? new ManualDtoMapper(null)
+                : new ModelMapperDtoMapper(new ModelMapperConfig().modelMapper());
+
+        User reporter = new Tester();
+        reporter.setUsername("tester");
+        User assignee = new Developer();
+        assignee.setUsername("dev");
+
+        issues = new ArrayList<>(size);
+        comments = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Issue issue = new Issue("Issue " + i, "Issue Description " + i, Issue.Priority.MAJOR, reporter);
+            issue.setId((long) i);
+            issue.setAssignee(assignee);
+            issues.add(issue);
+
+            Comment comment = new Comment(issue, assignee, "Comment " + i);
+            comment.setId((long) i);
+            comments.add(comment);
+        }
+    }
+
+    @Benchmark
+    public List<IssueDTO> issuesToDTOs() {
+        List<IssueDTO> result = new ArrayList<>(issues.size());
+        for (Issue issue : issues) {
+            result.add(dtoMapper.toIssueDTO(issue));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<CommentDTO> commentsToDTOs() {
+        List<CommentDTO> result = new ArrayList<>(comments.size());
+        for (Comment comment : comments) {
+            result.add(dtoMapper.toCommentDTO(comment));
+        }
+        return result;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(DtoMapperBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,82 @@
+package com.causwe.backend.benchmark;
+
+import com.causwe.backend.security.JwtTokenProvider;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.concurrent.TimeUnit;
+
+// 요청 한 번의 인증 비용 (쿠키의 토큰 -> userId) 비교
+//   legacyParser: 요청마다 parser를 새로 만들고 서명을 검증 (이전 방식)
+//   prebuiltParser: 미리 만든 parser로 서명만 검증
+//   cachedProvider: JwtTokenProvider (검증된 토큰 캐시)
+// 실행: mvn test-compile 후 테스트 클래스패스로 main 실행
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthBenchmark {
+
+    private static final String SECRET = "Y2F1c3dlLWJhY2tlbmQtdGVzdC1zZWNyZXQta2V5LTMyYnl0ZXM=";
+
+    // 동시에 로그인해 있는 사용자 수
+    @Param({"1000"})
+    public int users;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtParser parser;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 3600, 10000,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        parser = Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET))).build();
+        tokens = new String[users];
+        for (int i = 0; i < users; i++) {
+            tokens[i] = jwtTokenProvider.generateToken((long) i);
+        }
+    }
+
+    private String nextToken() {
+        next = (next + 1) % tokens.length;
+        return tokens[next];
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public Long legacyParser() {
+        return Long.parseLong(Jwts.parser().setSigningKey(SECRET).parseClaimsJws(nextToken()).getBody().getSubject());
+    }
+
+    @Benchmark
+    public Long prebuiltParser() {
+        return Long.parseLong(parser.parseClaimsJws(nextToken()).getBody().getSubject());
+    }
+
+    @Benchmark
+    public Long cachedProvider() {
+        return jwtTokenProvider.getUserIdFromToken(nextToken());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtAuthBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
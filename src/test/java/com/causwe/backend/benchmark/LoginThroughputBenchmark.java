@@ -0,0 +1,65 @@
+package com.causwe.backend.benchmark;
+
+import com.causwe.backend.config.SecurityConfiguration;
+import com.causwe.backend.security.PasswordHasher;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// 로그인이 몰릴 때(요청 스레드 64개)의 비밀번호 확인 처리량
+//   requestThread: 요청 스레드에서 바로 bcrypt (이전 방식)
+//   boundedPool: PasswordHasher 전용 풀 (CPU 수만큼만 동시에 계산)
+// strength별로 비교해 app.security.bcrypt-strength를 정할 때 쓴다.
+// 실행: mvn test-compile 후 테스트 클래스패스로 main 실행
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Threads(64)
+@Fork(1)
+public class LoginThroughputBenchmark {
+
+    @Param({"10", "12"})
+    public int strength;
+
+    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new SecurityConfiguration().passwordEncoder(strength);
+        passwordHasher = new PasswordHasher(passwordEncoder, 0, 1000, Duration.ofMinutes(1));
+        encoded = passwordEncoder.encode("password");
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Benchmark
+    public boolean requestThread() {
+        return passwordEncoder.matches("password", encoded);
+    }
+
+    @Benchmark
+    public boolean boundedPool() {
+        return passwordHasher.matches("password", encoded);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(LoginThroughputBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,121 @@
+package com.causwe.backend.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 실행 중인 서버에 목록/검색/통계 요청을 섞어 보내고 처리량과 p50/p99 지연을 출력한다.
+// 같은 DB에서 spring.threads.virtual.enabled=false/true로 서버를 띄워 각각 실행해 비교한다.
+// 실행: mvn test-compile 후 테스트 클래스패스로 main 실행
+//   인자: <baseUrl> <projectId> <jwt> [동시 사용자 수=200] [측정 시간(초)=60]
+//   예: http://localhost:8080 1 eyJhbGciOi... 400 60
+public class MixedLoadBenchmark {
+
+    // 요청 종류별 비율 (목록 60%, 검색 25%, 통계 15%)
+    private static final String[][] MIX = {
+            {"list", "60", "/api/projects/%d/issues/page?size=50"},
+            {"search", "25", "/api/projects/%d/issues/search?status=NEW"},
+            {"statistics", "15", "/api/projects/%d/statistics/dashboard"},
+    };
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("usage: MixedLoadBenchmark <baseUrl> <projectId> <jwt> [users] [seconds]");
+            return;
+        }
+        String baseUrl = args[0];
+        long projectId = Long.parseLong(args[1]);
+        String token = args[2];
+        int users = args.length > 3 ? Integer.parseInt(args[3]) : 200;
+        int seconds = args.length > 4 ? Integer.parseInt(args[4]) : 60;
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        Map<String, List<long[]>> samples = new LinkedHashMap<>();
+        for (String[] kind : MIX) {
+            samples.put(kind[0], new ArrayList<>());
+        }
+
+        // 워밍업 10초는 기록하지 않는다
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(seconds);
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                workers.submit(() -> {
+                    Map<String, List<long[]>> local = new LinkedHashMap<>();
+                    while (System.nanoTime() < end) {
+                        String[] kind = pick();
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + String.format(kind[2], projectId)))
+                                .header("Cookie", "jwt=" + token)
+                                .timeout(Duration.ofSeconds(30))
+                                .GET()
+                                .build();
+                        long start = System.nanoTime();
+                        int status;
+                        try {
+                            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        } catch (Exception e) {
+                            status = -1;
+                        }
+                        long elapsed = System.nanoTime() - start;
+                        if (start >= warmupEnd) {
+                            local.computeIfAbsent(kind[0], k -> new ArrayList<>()).add(new long[]{elapsed, status});
+                        }
+                    }
+                    synchronized (samples) {
+                        local.forEach((kind, list) -> samples.get(kind).addAll(list));
+                    }
+                    return null;
+                });
+            }
+        }
+
+        List<long[]> all = new ArrayList<>();
+        System.out.printf("%-12s %10s %10s %10s %10s %8s%n", "request", "count", "req/s", "p50(ms)", "p99(ms)", "errors");
+        for (Map.Entry<String, List<long[]>> entry : samples.entrySet()) {
+            print(entry.getKey(), entry.getValue(), seconds);
+            all.addAll(entry.getValue());
+        }
+        print("total", all, seconds);
+    }
+
+    private static String[] pick() {
+        int roll = ThreadLocalRandom.current().nextInt(100);
+        for (String[] kind : MIX) {
+            roll -= Integer.parseInt(kind[1]);
+            if (roll < 0) {
+                return kind;
+            }
+        }
+        return MIX[0];
+    }
+
+    private static void print(String name, List<long[]> samples, int seconds) {
+        long[] latencies = samples.stream().mapToLong(sample -> sample[0]).toArray();
+        long errors = samples.stream().filter(sample -> sample[1] < 200 || sample[1] >= 300).count();
+        Arrays.sort(latencies);
+        System.out.printf("%-12s %10d %10.1f %10.1f %10.1f %8d%n", name, latencies.length,
+                (double) latencies.length / seconds, percentile(latencies, 0.50), percentile(latencies, 0.99), errors);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
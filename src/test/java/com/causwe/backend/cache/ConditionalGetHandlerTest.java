@@ -0,0 +1,212 @@
+package com.causwe.backend.cache;
+
+import com.causwe.backend.controller.CommentController;
+import com.causwe.backend.controller.IssueController;
+import com.causwe.backend.controller.IssueStatisticsController;
+import com.causwe.backend.dto.CommentDTO;
+import com.causwe.backend.dto.IssueDTO;
+import com.causwe.backend.dto.IssueSummary;
+import com.causwe.backend.exceptions.GlobalExceptionHandler;
+import com.causwe.backend.exceptions.ProjectNotFoundException;
+import com.causwe.backend.mapper.DtoMapper;
+import com.causwe.backend.model.Comment;
+import com.causwe.backend.security.CurrentUserArgumentResolver;
+import com.causwe.backend.security.JwtTokenProvider;
+import com.causwe.backend.service.CommentService;
+import com.causwe.backend.service.IssueService;
+import com.causwe.backend.service.IssueStatisticsService;
+import com.causwe.backend.service.UserService;
+
+import jakarta.servlet.http.Cookie;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ConditionalGetHandlerTest {
+
+    @Mock
+    private CommentService commentService;
+
+    @Mock
+    private IssueService issueService;
+
+    @Mock
+    private DtoMapper dtoMapper;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private IssueStatisticsService issueStatisticsService;
+
+    @InjectMocks
+    private CommentController commentController;
+
+    @InjectMocks
+    private IssueController issueController;
+
+    @InjectMocks
+    private IssueStatisticsController issueStatisticsController;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-05-01T23:59:00Z"));
+    private ResourceVersions resourceVersions;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setUp() {
+        resourceVersions = new ResourceVersions(100);
+        CurrentUserArgumentResolver currentUserArgumentResolver = new CurrentUserArgumentResolver(jwtTokenProvider, userService);
+        ConditionalGetHandler handler = new ConditionalGetHandler(resourceVersions, currentUserArgumentResolver, clock);
+        mockMvc = MockMvcBuilders.standaloneSetup(commentController, issueController, issueStatisticsController)
+                .setCustomArgumentResolvers(currentUserArgumentResolver)
+                .setControllerAdvice(new GlobalExceptionHandler(), handler)
+                .addInterceptors(handler)
+                .build();
+    }
+
+    @Test
+    public void testNotModifiedSkipsController() throws Exception {
+        when(commentService.getAllComments(7L)).thenReturn(List.of(new Comment()));
+        when(dtoMapper.toCommentDTO(any())).thenReturn(new CommentDTO());
+
+        String etag = mockMvc.perform(get("/api/projects/1/issues/7/comments"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/projects/1/issues/7/comments").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+
+        verify(commentService, times(1)).getAllComments(7L);
+    }
+
+    @Test
+    public void testChangeInvalidatesEtag() throws Exception {
+        when(commentService.getAllComments(7L)).thenReturn(List.of());
+
+        String etag = mockMvc.perform(get("/api/projects/1/issues/7/comments"))
+                .andReturn().getResponse().getHeader("ETag");
+        resourceVersions.onProjectChanged(ProjectChangedEvent.commentsChanged(1L, 7L, false));
+
+        String changed = mockMvc.perform(get("/api/projects/1/issues/7/comments").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotEquals(etag, changed);
+
+        // 다른 이슈의 변경은 영향이 없다
+        resourceVersions.onProjectChanged(ProjectChangedEvent.commentsChanged(1L, 8L, false));
+        mockMvc.perform(get("/api/projects/1/issues/7/comments").header("If-None-Match", changed))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    public void testIssueListEtagIsPerUser() throws Exception {
+        when(jwtTokenProvider.getUserIdFromToken("token1")).thenReturn(1L);
+        when(jwtTokenProvider.getUserIdFromToken("token2")).thenReturn(2L);
+        when(issueService.getAllIssues(any(), any())).thenReturn(List.<IssueSummary>of());
+
+        String etag = mockMvc.perform(get("/api/projects/1/issues").cookie(new Cookie("jwt", "token1")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/projects/1/issues").cookie(new Cookie("jwt", "token1")).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/projects/1/issues").cookie(new Cookie("jwt", "token2")).header("If-None-Match", etag))
+                .andExpect(status().isOk());
+
+        resourceVersions.onProjectChanged(ProjectChangedEvent.issueCreated(1L));
+        mockMvc.perform(get("/api/projects/1/issues").cookie(new Cookie("jwt", "token1")).header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testNoEtagWithoutLoginOrOnError() throws Exception {
+        when(jwtTokenProvider.getUserIdFromToken(null)).thenThrow(new IllegalArgumentException("JWT token is missing"));
+        mockMvc.perform(get("/api/projects/1/issues"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().doesNotExist("ETag"));
+
+        when(jwtTokenProvider.getUserIdFromToken("token1")).thenReturn(1L);
+        when(issueService.getAllIssues(9L, 1L)).thenThrow(new ProjectNotFoundException(9L));
+        mockMvc.perform(get("/api/projects/9/issues").cookie(new Cookie("jwt", "token1")))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist("ETag"));
+    }
+
+    @Test
+    public void testDailyEtagChangesWithDate() throws Exception {
+        when(issueStatisticsService.getIssuesPerDayInMonth(1L)).thenReturn(Map.of("05-01", 1L));
+        when(issueStatisticsService.getIssuesPerMonth(1L)).thenReturn(Map.of("2024-05", 1L));
+
+        String daily = mockMvc.perform(get("/api/projects/1/statistics/issuesPerDayInMonth"))
+                .andReturn().getResponse().getHeader("ETag");
+        String monthly = mockMvc.perform(get("/api/projects/1/statistics/issuesPerMonth"))
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/api/projects/1/statistics/issuesPerDayInMonth").header("If-None-Match", daily))
+                .andExpect(status().isNotModified());
+
+        // 자정이 지나면 변경이 없어도 기간 통계는 다시 계산하고, 기간과 상관없는 통계는 그대로 304다
+        clock.advance(Duration.ofMinutes(2));
+        String nextDay = mockMvc.perform(get("/api/projects/1/statistics/issuesPerDayInMonth").header("If-None-Match", daily))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotEquals(daily, nextDay);
+        mockMvc.perform(get("/api/projects/1/statistics/issuesPerMonth").header("If-None-Match", monthly))
+                .andExpect(status().isNotModified());
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
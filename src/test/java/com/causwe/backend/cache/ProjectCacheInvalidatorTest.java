@@ -0,0 +1,79 @@
+package com.causwe.backend.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProjectCacheInvalidatorTest {
+
+    private CacheManager cacheManager;
+    private ProjectCacheInvalidator invalidator;
+
+    @BeforeEach
+    public void setUp() {
+        cacheManager = new ConcurrentMapCacheManager();
+        invalidator = new ProjectCacheInvalidator(cacheManager);
+
+        cacheManager.getCache("issues").put(Arrays.asList(1L, "PL", null), "p1 issues");
+        cacheManager.getCache("issues").put(Arrays.asList(2L, "PL", null), "p2 issues");
+        cacheManager.getCache("issuesPerStatus").put(1L, "p1 stats");
+        cacheManager.getCache("issuesPerStatus").put(2L, "p2 stats");
+        cacheManager.getCache("issuesPerDayAndStatusInWeek").put(List.of(1L, "NEW"), "p1 weekly");
+        cacheManager.getCache("issuesOrderByComments").put(1L, "p1 comments");
+        cacheManager.getCache("comments").put(7L, "issue 7 comments");
+        cacheManager.getCache("comments").put(8L, "issue 8 comments");
+        cacheManager.getCache("issueById").put(7L, "issue 7");
+    }
+
+    @Test
+    public void testEvictProjectIssuesOnly() {
+        invalidator.evictTag("project:1:issues");
+
+        assertNull(cacheManager.getCache("issues").get(Arrays.asList(1L, "PL", null)));
+        assertNotNull(cacheManager.getCache("issues").get(Arrays.asList(2L, "PL", null)));
+        assertNotNull(cacheManager.getCache("issuesPerStatus").get(1L));
+    }
+
+    @Test
+    public void testEvictProjectStats() {
+        invalidator.evictTag("project:1:stats");
+
+        assertNull(cacheManager.getCache("issuesPerStatus").get(1L));
+        assertNull(cacheManager.getCache("issuesPerDayAndStatusInWeek").get(List.of(1L, "NEW")));
+        assertNull(cacheManager.getCache("issuesOrderByComments").get(1L));
+        assertNotNull(cacheManager.getCache("issuesPerStatus").get(2L));
+        assertNotNull(cacheManager.getCache("issues").get(Arrays.asList(1L, "PL", null)));
+    }
+
+    @Test
+    public void testEvictIssue() {
+        invalidator.evictTag("issue:7");
+
+        assertNull(cacheManager.getCache("comments").get(7L));
+        assertNull(cacheManager.getCache("issueById").get(7L));
+        assertNotNull(cacheManager.getCache("comments").get(8L));
+    }
+
+    @Test
+    public void testProjectDeletedEvent() {
+        invalidator.onProjectChanged(ProjectChangedEvent.projectDeleted(1L));
+
+        assertNull(cacheManager.getCache("issues").get(Arrays.asList(1L, "PL", null)));
+        assertNull(cacheManager.getCache("issuesPerStatus").get(1L));
+        assertNull(cacheManager.getCache("comments").get(8L));
+        assertNotNull(cacheManager.getCache("issuesPerStatus").get(2L));
+    }
+
+    @Test
+    public void testUnknownTag() {
+        assertThrows(IllegalArgumentException.class, () -> invalidator.evictTag("project:1:unknown"));
+        assertThrows(IllegalArgumentException.class, () -> invalidator.evictTag("user:1"));
+    }
+}
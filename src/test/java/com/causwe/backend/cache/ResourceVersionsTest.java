@@ -0,0 +1,53 @@
+package com.causwe.backend.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResourceVersionsTest {
+
+    @Test
+    public void testEventBumpsOnlyItsTags() {
+        ResourceVersions versions = new ResourceVersions(100);
+        long issues = versions.version(CacheTags.project(1L, CacheTags.ISSUES));
+        long stats = versions.version(CacheTags.project(1L, CacheTags.STATS));
+        long comments = versions.version(CacheTags.project(1L, CacheTags.COMMENTS));
+        long otherProject = versions.version(CacheTags.project(2L, CacheTags.ISSUES));
+
+        versions.onProjectChanged(ProjectChangedEvent.issueCreated(1L));
+
+        assertNotEquals(issues, versions.version(CacheTags.project(1L, CacheTags.ISSUES)));
+        assertNotEquals(stats, versions.version(CacheTags.project(1L, CacheTags.STATS)));
+        assertEquals(comments, versions.version(CacheTags.project(1L, CacheTags.COMMENTS)));
+        assertEquals(otherProject, versions.version(CacheTags.project(2L, CacheTags.ISSUES)));
+    }
+
+    @Test
+    public void testProjectDeletedBumpsAllGroupsAndIssues() {
+        ResourceVersions versions = new ResourceVersions(100);
+        versions.bump(CacheTags.issue(7L));
+        long issue = versions.version(CacheTags.issue(7L));
+        long comments = versions.version(CacheTags.project(1L, CacheTags.COMMENTS));
+
+        versions.onProjectChanged(ProjectChangedEvent.projectDeleted(1L));
+
+        assertTrue(versions.version(CacheTags.issue(7L)) > issue);
+        assertTrue(versions.version(CacheTags.issue(8L)) > issue);
+        assertTrue(versions.version(CacheTags.project(1L, CacheTags.COMMENTS)) > comments);
+    }
+
+    @Test
+    public void testEvictedTagNeverGoesBack() {
+        ResourceVersions versions = new ResourceVersions(1);
+        versions.bump(CacheTags.issue(1L));
+        long first = versions.version(CacheTags.issue(1L));
+        versions.bump(CacheTags.issue(2L));
+        long second = versions.version(CacheTags.issue(2L));
+        versions.bump(CacheTags.issue(3L));
+
+        // 밀려난 태그는 마지막 버전 이상을 돌려준다
+        assertTrue(versions.version(CacheTags.issue(1L)) >= first);
+        assertTrue(versions.version(CacheTags.issue(2L)) >= second);
+        assertTrue(versions.version(CacheTags.issue(1L)) > 0);
+    }
+}
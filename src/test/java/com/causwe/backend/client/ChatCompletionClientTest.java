@@ -0,0 +1,118 @@
+package com.causwe.backend.client;
+
+import com.causwe.backend.exceptions.ChatCompletionBusyException;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChatCompletionClientTest {
+
+    private static final String RESPONSE = "{\"choices\":[{\"message\":{\"content\":\"SELECT 1\"}}]}";
+
+    private MockWebServer mockWebServer;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    private ChatCompletionClient client(Duration readTimeout, int maxConcurrent) {
+        return client(readTimeout, Duration.ofSeconds(10), maxConcurrent);
+    }
+
+    private ChatCompletionClient client(Duration readTimeout, Duration callTimeout, int maxConcurrent) {
+        return new ChatCompletionClient(mockWebServer.url("/v1").toString(), "test-key",
+                Duration.ofSeconds(1), readTimeout, callTimeout, maxConcurrent);
+    }
+
+    @Test
+    public void testComplete_ReturnsMessageContent() throws Exception {
+        mockWebServer.enqueue(new MockResponse().setBody(RESPONSE));
+
+        String content = client(Duration.ofSeconds(5), 2).complete("key", "{}").get(5, TimeUnit.SECONDS);
+
+        assertEquals("SELECT 1", content);
+        RecordedRequest request = mockWebServer.takeRequest();
+        assertEquals("/v1/chat/completions", request.getPath());
+        assertEquals("Bearer test-key", request.getHeader("Authorization"));
+    }
+
+    @Test
+    public void testComplete_CoalescesSameKey() throws Exception {
+        mockWebServer.enqueue(new MockResponse().setBody(RESPONSE).setBodyDelay(300, TimeUnit.MILLISECONDS));
+        ChatCompletionClient client = client(Duration.ofSeconds(5), 2);
+
+        CompletableFuture<String> first = client.complete("same", "{}");
+        CompletableFuture<String> second = client.complete("same", "{}");
+
+        assertSame(first, second);
+        assertEquals("SELECT 1", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    public void testComplete_RejectsWhenBulkheadFull() throws Exception {
+        mockWebServer.enqueue(new MockResponse().setBody(RESPONSE).setBodyDelay(300, TimeUnit.MILLISECONDS));
+        ChatCompletionClient client = client(Duration.ofSeconds(5), 1);
+
+        CompletableFuture<String> first = client.complete("first", "{}");
+        CompletableFuture<String> second = client.complete("second", "{}");
+
+        CompletionException rejected = assertThrows(CompletionException.class, second::join);
+        assertInstanceOf(ChatCompletionBusyException.class, rejected.getCause());
+        assertEquals("SELECT 1", first.get(5, TimeUnit.SECONDS));
+        assertEquals(1, client.availablePermits());
+    }
+
+    @Test
+    public void testComplete_ReadTimeout() {
+        mockWebServer.enqueue(new MockResponse().setBody(RESPONSE).setHeadersDelay(2, TimeUnit.SECONDS));
+        ChatCompletionClient client = client(Duration.ofMillis(200), 1);
+
+        CompletionException failed = assertThrows(CompletionException.class, () -> client.complete("key", "{}").join());
+
+        assertInstanceOf(IOException.class, failed.getCause());
+        assertEquals(1, client.availablePermits());
+    }
+
+    @Test
+    public void testComplete_CallTimeoutBoundsSlowBody() {
+        // 바이트가 조금씩 계속 오면 read timeout에는 걸리지 않으므로 호출 전체 제한으로 끊어야 한다
+        mockWebServer.enqueue(new MockResponse().setBody(RESPONSE).throttleBody(1, 100, TimeUnit.MILLISECONDS));
+        ChatCompletionClient client = client(Duration.ofSeconds(5), Duration.ofMillis(300), 1);
+
+        CompletionException failed = assertThrows(CompletionException.class, () -> client.complete("key", "{}").join());
+
+        assertInstanceOf(IOException.class, failed.getCause());
+        assertEquals(1, client.availablePermits());
+    }
+
+    @Test
+    public void testComplete_ErrorStatus() {
+        mockWebServer.enqueue(new MockResponse().setResponseCode(401));
+
+        CompletionException failed = assertThrows(CompletionException.class,
+                () -> client(Duration.ofSeconds(5), 1).complete("key", "{}").join());
+
+        assertInstanceOf(IOException.class, failed.getCause());
+    }
+}
@@ -0,0 +1,66 @@
+package com.causwe.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CacheConfigTest {
+
+    private MeterRegistry registry;
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", registry));
+        cacheManager = new CacheConfig().cacheManager("maximumSize=100", 10, Duration.ofHours(1), beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    public void testHitRatioGaugePerCache() {
+        Cache issues = cacheManager.getCache("issues");
+        issues.put("key", "value");
+        issues.get("key");
+        issues.get("key");
+        issues.get("missing");
+
+        Cache comments = cacheManager.getCache("comments");
+        comments.get("missing");
+
+        assertEquals(2.0 / 3.0, registry.get("cache.hit.ratio").tag("cache", "issues").gauge().value(), 0.0001);
+        assertEquals(0.0, registry.get("cache.hit.ratio").tag("cache", "comments").gauge().value(), 0.0001);
+        assertEquals(2.0, registry.get("cache.gets").tags("cache", "issues", "result", "hit").functionCounter().count(), 0.0001);
+    }
+
+    @Test
+    public void testSpecWithRecordStats() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", registry));
+        CacheManager manager = new CacheConfig().cacheManager("maximumSize=100,recordStats", 10, Duration.ofHours(1), beanFactory.getBeanProvider(MeterRegistry.class));
+
+        assertNotNull(manager.getCache("projects"));
+    }
+
+    @Test
+    public void testPromptCacheIsBoundedSeparately() {
+        Cache sqlQueries = cacheManager.getCache("sqlQueries");
+        for (int i = 0; i < 50; i++) {
+            sqlQueries.put("sqlQuery::1::prompt " + i, "SELECT * FROM issues");
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache = (com.github.benmanes.caffeine.cache.Cache<?, ?>) sqlQueries.getNativeCache();
+        nativeCache.cleanUp();
+        assertTrue(nativeCache.estimatedSize() <= 10);
+        assertNotNull(registry.find("cache.hit.ratio").tag("cache", "sqlQueries").gauge());
+    }
+}
@@ -5,12 +5,15 @@ import com.causwe.backend.exceptions.CommentNotFoundException;
 import com.causwe.backend.exceptions.GlobalExceptionHandler;
 import com.causwe.backend.exceptions.IssueNotFoundException;
 import com.causwe.backend.exceptions.UnauthorizedException;
+import com.causwe.backend.mapper.DtoMapper;
 import com.causwe.backend.model.Comment;
 import com.causwe.backend.model.Developer;
 import com.causwe.backend.model.Issue;
 import com.causwe.backend.model.User;
+import com.causwe.backend.security.CurrentUserArgumentResolver;
 import com.causwe.backend.security.JwtTokenProvider;
 import com.causwe.backend.service.CommentService;
+import com.causwe.backend.service.UserService;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.Cookie;
@@ -21,7 +24,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -52,11 +54,14 @@ public class CommentControllerTest {
     private CommentService commentService;
 
     @Mock
-    private ModelMapper modelMapper;
+    private DtoMapper dtoMapper;
 
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private UserService userService;
+
     @InjectMocks
     private CommentController commentController;
 
@@ -68,6 +73,7 @@ public class CommentControllerTest {
     @BeforeEach
     public void setUp() {
         mockMvc = MockMvcBuilders.standaloneSetup(commentController)
+                .setCustomArgumentResolvers(new CurrentUserArgumentResolver(jwtTokenProvider, userService))
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build();
         
@@ -89,7 +95,7 @@ public class CommentControllerTest {
         List<Comment> comments = new ArrayList<>();
         comments.add(comment);
         
-        when(modelMapper.map(comment, CommentDTO.class)).thenReturn(commentDTO);
+        when(dtoMapper.toCommentDTO(comment)).thenReturn(commentDTO);
 
         when(commentService.getAllComments(1L)).thenReturn(comments);
 
@@ -104,8 +110,8 @@ public class CommentControllerTest {
     public void testAddComment_Success() throws Exception {
 
         when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(3L);
-        when(modelMapper.map(any(CommentDTO.class), eq(Comment.class))).thenReturn(comment);
-        when(modelMapper.map(comment, CommentDTO.class)).thenReturn(commentDTO);
+        when(dtoMapper.toComment(any(CommentDTO.class))).thenReturn(comment);
+        when(dtoMapper.toCommentDTO(comment)).thenReturn(commentDTO);
         when(commentService.addComment(1L, comment, 3L)).thenReturn(comment);
 
         mockMvc.perform(post("/api/projects/1/issues/1/comments")
@@ -132,7 +138,7 @@ public class CommentControllerTest {
     public void testAddComment_NotFound() throws Exception {
 
         when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(3L);
-        when(modelMapper.map(any(CommentDTO.class), eq(Comment.class))).thenReturn(comment);
+        when(dtoMapper.toComment(any(CommentDTO.class))).thenReturn(comment);
         when(commentService.addComment(2L, comment, 3L)).thenThrow(new IssueNotFoundException(2L));
 
         mockMvc.perform(post("/api/projects/1/issues/2/comments")
@@ -146,7 +152,7 @@ public class CommentControllerTest {
     public void testAddComment_Unauthorized() throws Exception {
         
         when(jwtTokenProvider.getUserIdFromToken("")).thenReturn(null);
-        when(modelMapper.map(any(CommentDTO.class), eq(Comment.class))).thenReturn(comment);
+        when(dtoMapper.toComment(any(CommentDTO.class))).thenReturn(comment);
         when(commentService.addComment(1L, comment, null)).thenThrow(new UnauthorizedException("User not logged in"));
 
         mockMvc.perform(post("/api/projects/1/issues/1/comments")
@@ -163,8 +169,8 @@ public class CommentControllerTest {
         comment.setContent("Updated Comment");
 
         when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(3L);
-        when(modelMapper.map(any(CommentDTO.class), eq(Comment.class))).thenReturn(comment);
-        when(modelMapper.map(any(Comment.class), eq(CommentDTO.class))).thenReturn(commentDTO);
+        when(dtoMapper.toComment(any(CommentDTO.class))).thenReturn(comment);
+        when(dtoMapper.toCommentDTO(any(Comment.class))).thenReturn(commentDTO);
 
         when(commentService.updateComment(1L, comment, 3L)).thenReturn(comment);
 
@@ -191,7 +197,7 @@ public class CommentControllerTest {
     @Test
     public void testUpdateComment_NotFound() throws Exception {
         when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(3L);
-        when(modelMapper.map(any(CommentDTO.class), eq(Comment.class))).thenReturn(comment);
+        when(dtoMapper.toComment(any(CommentDTO.class))).thenReturn(comment);
         when(commentService.updateComment(1L, comment, 3L)).thenThrow(new CommentNotFoundException(1L));
 
         mockMvc.perform(put("/api/projects/1/issues/1/comments/1")
@@ -209,7 +215,7 @@ public class CommentControllerTest {
         dev.setId(2L);
 
         when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(2L);
-        when(modelMapper.map(any(CommentDTO.class), eq(Comment.class))).thenReturn(comment);
+        when(dtoMapper.toComment(any(CommentDTO.class))).thenReturn(comment);
         when(commentService.updateComment(1L, comment, 2L)).thenThrow(new UnauthorizedException("Only the author of the comment can update the comment."));
 
         mockMvc.perform(put("/api/projects/1/issues/1/comments/1")
@@ -223,7 +229,7 @@ public class CommentControllerTest {
     public void testUpdateComment_Unauthorized_NotLoggedIn() throws Exception {
 
         when(jwtTokenProvider.getUserIdFromToken("")).thenReturn(null);
-        when(modelMapper.map(any(CommentDTO.class), eq(Comment.class))).thenReturn(comment);
+        when(dtoMapper.toComment(any(CommentDTO.class))).thenReturn(comment);
         when(commentService.updateComment(1L, comment, null)).thenThrow(new UnauthorizedException("User not logged in"));
 
         mockMvc.perform(put("/api/projects/1/issues/1/comments/1")
@@ -1,18 +1,25 @@
 package com.causwe.backend.controller;
 
 import com.causwe.backend.dto.IssueDTO;
+import com.causwe.backend.dto.IssueSummary;
 import com.causwe.backend.dto.UserResponseDTO;
+import com.causwe.backend.exceptions.ChatCompletionBusyException;
 import com.causwe.backend.exceptions.GlobalExceptionHandler;
+import com.causwe.backend.exceptions.InvalidQueryException;
 import com.causwe.backend.exceptions.IssueNotFoundException;
 import com.causwe.backend.exceptions.UnauthorizedException;
+import com.causwe.backend.mapper.DtoMapper;
 import com.causwe.backend.model.Admin;
 import com.causwe.backend.model.Developer;
 import com.causwe.backend.model.Issue;
 import com.causwe.backend.model.Project;
 import com.causwe.backend.model.Tester;
 import com.causwe.backend.model.User;
+import com.causwe.backend.security.CurrentUserArgumentResolver;
 import com.causwe.backend.security.JwtTokenProvider;
 import com.causwe.backend.service.IssueService;
+import com.causwe.backend.service.UserService;
+import com.causwe.backend.util.CursorPage;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.Cookie;
@@ -23,9 +30,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -33,7 +40,9 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -55,11 +64,14 @@ public class IssueControllerTest {
     private IssueService issueService;
 
     @Mock
-    private ModelMapper modelMapper;
+    private DtoMapper dtoMapper;
 
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private UserService userService;
+
     @InjectMocks
     private IssueController issueController;
 
@@ -75,6 +87,7 @@ public class IssueControllerTest {
     @BeforeEach
     public void setUp() {
         mockMvc = MockMvcBuilders.standaloneSetup(issueController)
+                .setCustomArgumentResolvers(new CurrentUserArgumentResolver(jwtTokenProvider, userService))
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build();
 
@@ -120,12 +133,11 @@ public class IssueControllerTest {
 
     @Test
     public void testGetAllIssues() throws Exception {
-        List<Issue> issues = Arrays.asList(issue1, issue2);
+        List<IssueSummary> issues = Arrays.asList(summary(issue1), summary(issue2));
 
         when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(3L);
         when(issueService.getAllIssues(1L, 3L)).thenReturn(issues);
-        when(modelMapper.map(issue1, IssueDTO.class)).thenReturn(issueDTO1);
-        when(modelMapper.map(issue2, IssueDTO.class)).thenReturn(issueDTO2);
+        when(dtoMapper.toIssueDTO(any(IssueSummary.class))).thenReturn(issueDTO1, issueDTO2);
 
         mockMvc.perform(get("/api/projects/1/issues")
                 .cookie(new Cookie("jwt", "token")))
@@ -133,10 +145,37 @@ public class IssueControllerTest {
                 .andExpect(jsonPath("$[0].title").value(issueDTO1.getTitle()));
     }
 
+    @Test
+    public void testGetIssuesPage() throws Exception {
+        CursorPage<IssueSummary> page = new CursorPage<>(Arrays.asList(summary(issue1), summary(issue2)), "next");
+
+        when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(3L);
+        when(issueService.getIssuesPage(1L, 3L, null, 2)).thenReturn(page);
+        when(dtoMapper.toIssueDTO(any(IssueSummary.class))).thenReturn(issueDTO1, issueDTO2);
+
+        mockMvc.perform(get("/api/projects/1/issues/page")
+                .param("size", "2")
+                .cookie(new Cookie("jwt", "token")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.issues[1].title").value(issueDTO2.getTitle()))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    public void testGetIssuesPage_InvalidCursor() throws Exception {
+        when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(3L);
+        when(issueService.getIssuesPage(1L, 3L, "bad", 50)).thenThrow(new IllegalArgumentException("Invalid cursor: bad"));
+
+        mockMvc.perform(get("/api/projects/1/issues/page")
+                .param("cursor", "bad")
+                .cookie(new Cookie("jwt", "token")))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     public void testGetIssueById_Success() throws Exception {
         when(issueService.getIssueById(1L)).thenReturn(issue1);
-        when(modelMapper.map(issue1, IssueDTO.class)).thenReturn(issueDTO1);
+        when(dtoMapper.toIssueDTO(issue1)).thenReturn(issueDTO1);
 
         mockMvc.perform(get("/api/projects/1/issues/1"))
                 .andExpect(status().isOk())
@@ -154,9 +193,9 @@ public class IssueControllerTest {
     @Test
     public void testCreateIssue_Success() throws Exception {
         when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(3L);
-        when(modelMapper.map(any(IssueDTO.class), eq(Issue.class))).thenReturn(issue2);
+        when(dtoMapper.toIssue(any(IssueDTO.class))).thenReturn(issue2);
         when(issueService.createIssue(1L, issue2, 3L)).thenReturn(issue2);
-        when(modelMapper.map(any(Issue.class), eq(IssueDTO.class))).thenReturn(issueDTO2);
+        when(dtoMapper.toIssueDTO(any(Issue.class))).thenReturn(issueDTO2);
 
         mockMvc.perform(post("/api/projects/1/issues")
                 .cookie(new Cookie("jwt", "token"))
@@ -180,7 +219,7 @@ public class IssueControllerTest {
     @Test
     public void testCreateIssue_Unauthorized_NotPermitted() throws Exception {
         when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(2L);
-        when(modelMapper.map(any(IssueDTO.class), eq(Issue.class))).thenReturn(issue2);
+        when(dtoMapper.toIssue(any(IssueDTO.class))).thenReturn(issue2);
         when(issueService.createIssue(1L, issue2, 2L)).thenThrow(new UnauthorizedException("User not authorized to create issue"));
 
         mockMvc.perform(post("/api/projects/1/issues")
@@ -193,7 +232,7 @@ public class IssueControllerTest {
     @Test
     public void testCreateIssue_Unauthorized_NotLoggedIn() throws Exception {
         when(jwtTokenProvider.getUserIdFromToken("")).thenReturn(null);
-        when(modelMapper.map(any(IssueDTO.class), eq(Issue.class))).thenReturn(issue2);
+        when(dtoMapper.toIssue(any(IssueDTO.class))).thenReturn(issue2);
         when(issueService.createIssue(1L, issue2, null)).thenThrow(new UnauthorizedException("User not logged in"));
 
         mockMvc.perform(post("/api/projects/1/issues")
@@ -227,9 +266,9 @@ public class IssueControllerTest {
         issueDTO1.setPriority(IssueDTO.Priority.MINOR);
 
         when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(1L);
-        when(modelMapper.map(any(IssueDTO.class), eq(Issue.class))).thenReturn(issue2);
+        when(dtoMapper.toIssue(any(IssueDTO.class))).thenReturn(issue2);
         when(issueService.updateIssue(1L, issue2, 1L)).thenReturn(issue1);
-        when(modelMapper.map(any(Issue.class), eq(IssueDTO.class))).thenReturn(issueDTO1);
+        when(dtoMapper.toIssueDTO(any(Issue.class))).thenReturn(issueDTO1);
 
         mockMvc.perform(put("/api/projects/1/issues/1")
                 .cookie(new Cookie("jwt", "token"))
@@ -265,7 +304,7 @@ public class IssueControllerTest {
         issue2.setPriority(Issue.Priority.MINOR);
 
         when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(1L);
-        when(modelMapper.map(any(IssueDTO.class), eq(Issue.class))).thenReturn(issue2);
+        when(dtoMapper.toIssue(any(IssueDTO.class))).thenReturn(issue2);
         when(issueService.updateIssue(3L, issue2, 1L)).thenThrow(new IssueNotFoundException(3L));
 
         mockMvc.perform(put("/api/projects/1/issues/3")
@@ -279,7 +318,7 @@ public class IssueControllerTest {
     public void testUpdateIssue_Unauthorized_NotChanged() throws Exception {
 
         when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(1L);
-        when(modelMapper.map(any(IssueDTO.class), eq(Issue.class))).thenReturn(issue2);
+        when(dtoMapper.toIssue(any(IssueDTO.class))).thenReturn(issue2);
         when(issueService.updateIssue(1L, issue2, 1L)).thenThrow(new UnauthorizedException("Issue not changed"));
 
         mockMvc.perform(put("/api/projects/1/issues/1")
@@ -303,7 +342,7 @@ public class IssueControllerTest {
         issue2.setPriority(Issue.Priority.MINOR);
 
         when(jwtTokenProvider.getUserIdFromToken("")).thenReturn(null);
-        when(modelMapper.map(any(IssueDTO.class), eq(Issue.class))).thenReturn(issue2);
+        when(dtoMapper.toIssue(any(IssueDTO.class))).thenReturn(issue2);
         when(issueService.updateIssue(1L, issue2, null)).thenThrow(new UnauthorizedException("User not logged in"));
 
         mockMvc.perform(put("/api/projects/1/issues/1")
@@ -317,11 +356,11 @@ public class IssueControllerTest {
     public void testSearchIssues_ByAssignee() throws Exception {
         issue1.setAssignee(dev);
         issue2.setAssignee(dev);
-        List<Issue> issues = Arrays.asList(issue1, issue2);
+        List<IssueSummary> issues = Arrays.asList(summary(issue1), summary(issue2));
 
         when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(3L);
         when(issueService.searchIssues(1L, dev.getUsername(), null, null, 3L)).thenReturn(issues);
-        when(modelMapper.map(any(Issue.class), eq(IssueDTO.class))).thenReturn(issueDTO1, issueDTO2);
+        when(dtoMapper.toIssueDTO(any(IssueSummary.class))).thenReturn(issueDTO1, issueDTO2);
 
         mockMvc.perform(get("/api/projects/1/issues/search")
                 .cookie(new Cookie("jwt", "token"))
@@ -332,11 +371,11 @@ public class IssueControllerTest {
 
     @Test
     public void testSearchIssues_ByReporter() throws Exception {
-        List<Issue> issues = Arrays.asList(issue1, issue2);
+        List<IssueSummary> issues = Arrays.asList(summary(issue1), summary(issue2));
 
         when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(3L);
         when(issueService.searchIssues(1L, null, tester.getUsername(), null, 3L)).thenReturn(issues);
-        when(modelMapper.map(any(Issue.class), eq(IssueDTO.class))).thenReturn(issueDTO1, issueDTO2);
+        when(dtoMapper.toIssueDTO(any(IssueSummary.class))).thenReturn(issueDTO1, issueDTO2);
 
         mockMvc.perform(get("/api/projects/1/issues/search")
                 .cookie(new Cookie("jwt", "token"))
@@ -350,11 +389,11 @@ public class IssueControllerTest {
         issue1.setStatus(Issue.Status.ASSIGNED);
         issue2.setStatus(Issue.Status.ASSIGNED);
 
-        List<Issue> issues = Arrays.asList(issue1, issue2);
+        List<IssueSummary> issues = Arrays.asList(summary(issue1), summary(issue2));
 
         when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(3L);
         when(issueService.searchIssues(1L, null, null, Issue.Status.ASSIGNED, 3L)).thenReturn(issues);
-        when(modelMapper.map(any(Issue.class), eq(IssueDTO.class))).thenReturn(issueDTO1, issueDTO2);
+        when(dtoMapper.toIssueDTO(any(IssueSummary.class))).thenReturn(issueDTO1, issueDTO2);
 
         mockMvc.perform(get("/api/projects/1/issues/search")
                 .cookie(new Cookie("jwt", "token"))
@@ -365,11 +404,11 @@ public class IssueControllerTest {
 
     @Test
     public void testSearchIssues_Default() throws Exception {
-        List<Issue> issues = Arrays.asList(issue1, issue2);
+        List<IssueSummary> issues = Arrays.asList(summary(issue1), summary(issue2));
 
         when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(3L);
         when(issueService.searchIssues(1L, null, null, null, 3L)).thenReturn(issues);
-        when(modelMapper.map(any(Issue.class), eq(IssueDTO.class))).thenReturn(issueDTO1, issueDTO2);
+        when(dtoMapper.toIssueDTO(any(IssueSummary.class))).thenReturn(issueDTO1, issueDTO2);
 
         mockMvc.perform(get("/api/projects/1/issues/search")
                 .cookie(new Cookie("jwt", "token")))
@@ -383,7 +422,7 @@ public class IssueControllerTest {
 
         when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(1L);
         when(issueService.searchIssuesByNL(1L, "test message", 1L)).thenReturn(issues);
-        when(modelMapper.map(any(Issue.class), eq(IssueDTO.class))).thenReturn(issueDTO1);
+        when(dtoMapper.toIssueDTO(any(Issue.class))).thenReturn(issueDTO1);
 
         mockMvc.perform(get("/api/projects/1/issues/searchbynl")
                     .param("userMessage", "test message")
@@ -403,6 +442,28 @@ public class IssueControllerTest {
                     .andExpect(status().isInternalServerError());
     }
 
+    @Test
+    public void testSearchIssuesbyNL_Busy() throws Exception {
+
+        when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(1L);
+        when(issueService.searchIssuesByNL(1L, "test message", 1L)).thenThrow(new ChatCompletionBusyException());
+        mockMvc.perform(get("/api/projects/1/issues/searchbynl")
+                    .param("userMessage", "test message")
+                    .cookie(new Cookie("jwt", "token")))
+                    .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    public void testSearchIssuesbyNL_InvalidQuery() throws Exception {
+
+        when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(1L);
+        when(issueService.searchIssuesByNL(1L, "test message", 1L)).thenThrow(new InvalidQueryException("table users is not allowed"));
+        mockMvc.perform(get("/api/projects/1/issues/searchbynl")
+                    .param("userMessage", "test message")
+                    .cookie(new Cookie("jwt", "token")))
+                    .andExpect(status().isBadRequest());
+    }
+
     @Test
     public void testGetRecommendedAssignees_Success() throws Exception {
 
@@ -414,7 +475,7 @@ public class IssueControllerTest {
         List<UserResponseDTO> userResponseDTOs = Arrays.asList(devDTO);
 
         when(issueService.getRecommendedAssignees(3L)).thenReturn(recommendedAssignees);
-        when(modelMapper.map(any(User.class), eq(UserResponseDTO.class))).thenReturn(userResponseDTOs.get(0));
+        when(dtoMapper.toUserResponseDTO(any(User.class))).thenReturn(userResponseDTOs.get(0));
 
         mockMvc.perform(get("/api/projects/1/issues/3/recommendedAssignees"))
                 .andExpect(status().isOk())
@@ -428,4 +489,16 @@ public class IssueControllerTest {
         mockMvc.perform(get("/api/projects/1/issues/3/recommendedAssignees"))
                 .andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+
+    private IssueSummary summary(Issue issue) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", issue.getId());
+        row.put("title", issue.getTitle());
+        row.put("reportedDate", issue.getReportedDate());
+        row.put("reporterUsername", issue.getReporter() != null ? issue.getReporter().getUsername() : null);
+        row.put("assigneeUsername", issue.getAssignee() != null ? issue.getAssignee().getUsername() : null);
+        row.put("priority", issue.getPriority());
+        row.put("status", issue.getStatus());
+        return new SpelAwareProxyProjectionFactory().createProjection(IssueSummary.class, row);
+    }
+}
@@ -1,5 +1,6 @@
 package com.causwe.backend.controller;
 
+import com.causwe.backend.dto.StatisticsDashboardDTO;
 import com.causwe.backend.exceptions.GlobalExceptionHandler;
 import com.causwe.backend.model.Issue;
 import com.causwe.backend.service.IssueStatisticsService;
@@ -191,4 +192,18 @@ public class IssueStatisticsControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(content().json("{\"MAJOR\":4,\"MINOR\":3}"));
     }
+
+    @Test
+    public void testGetDashboard() throws Exception {
+        StatisticsDashboardDTO dashboard = new StatisticsDashboardDTO();
+        dashboard.getIssuesPerStatus().put("NEW", 5L);
+        dashboard.getIssuesPerMonth().put("2024-05", 5L);
+
+        when(issueStatisticsService.getDashboard(1L)).thenReturn(dashboard);
+
+        mockMvc.perform(get("/api/projects/1/statistics/dashboard"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("{\"issuesPerStatus\":{\"NEW\":5},\"issuesPerMonth\":{\"2024-05\":5},\"issuesOrderByComments\":{}}"));
+    }
 }
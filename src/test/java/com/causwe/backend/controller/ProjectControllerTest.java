@@ -4,9 +4,12 @@ import com.causwe.backend.dto.ProjectDTO;
 import com.causwe.backend.exceptions.GlobalExceptionHandler;
 import com.causwe.backend.exceptions.ProjectNotFoundException;
 import com.causwe.backend.exceptions.UnauthorizedException;
+import com.causwe.backend.mapper.DtoMapper;
 import com.causwe.backend.model.Project;
+import com.causwe.backend.security.CurrentUserArgumentResolver;
 import com.causwe.backend.security.JwtTokenProvider;
 import com.causwe.backend.service.ProjectService;
+import com.causwe.backend.service.UserService;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.Cookie;
@@ -17,7 +20,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -50,11 +52,14 @@ public class ProjectControllerTest {
     private ProjectService projectService;
 
     @Mock
-    private ModelMapper modelMapper;
+    private DtoMapper dtoMapper;
 
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private UserService userService;
+
     @InjectMocks
     private ProjectController projectController;
 
@@ -64,6 +69,7 @@ public class ProjectControllerTest {
     @BeforeEach
     public void setUp() {
         mockMvc = MockMvcBuilders.standaloneSetup(projectController)
+                .setCustomArgumentResolvers(new CurrentUserArgumentResolver(jwtTokenProvider, userService))
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build();
 
@@ -81,9 +87,9 @@ public class ProjectControllerTest {
     @Test
     public void testCreateProject_Success() throws Exception {
         when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(1L);
-        when(modelMapper.map(any(ProjectDTO.class), eq(Project.class))).thenReturn(project);
+        when(dtoMapper.toProject(any(ProjectDTO.class))).thenReturn(project);
         when(projectService.createProject(project, 1L)).thenReturn(project);
-        when(modelMapper.map(any(Project.class), eq(ProjectDTO.class))).thenReturn(projectDTO);
+        when(dtoMapper.toProjectDTO(any(Project.class))).thenReturn(projectDTO);
         
         mockMvc.perform(post("/api/projects")
                 .cookie(new Cookie("jwt", "token"))
@@ -107,7 +113,7 @@ public class ProjectControllerTest {
     @Test
     public void testCreateProject_Unauthorized_NotPermitted() throws Exception {
         when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(1L);
-        when(modelMapper.map(any(ProjectDTO.class), eq(Project.class))).thenReturn(project);
+        when(dtoMapper.toProject(any(ProjectDTO.class))).thenReturn(project);
         when(projectService.createProject(project, 1L)).thenThrow(new UnauthorizedException("User not authorized to create a project."));
 
         mockMvc.perform(post("/api/projects")
@@ -120,7 +126,7 @@ public class ProjectControllerTest {
     @Test
     public void testCreateProject_Unauthorized_NotLoggedIn() throws Exception {
         when(jwtTokenProvider.getUserIdFromToken("")).thenReturn(null);
-        when(modelMapper.map(any(ProjectDTO.class), eq(Project.class))).thenReturn(project);
+        when(dtoMapper.toProject(any(ProjectDTO.class))).thenReturn(project);
         when(projectService.createProject(project, null)).thenThrow(new UnauthorizedException("User not logged in"));
 
         mockMvc.perform(post("/api/projects")
@@ -149,7 +155,7 @@ public class ProjectControllerTest {
         projectDTOs.add(projectDTO2);
 
         when(projectService.getAllProjects()).thenReturn(projects);
-        when(modelMapper.map(any(Project.class), eq(ProjectDTO.class))).thenReturn(projectDTOs.get(0), projectDTOs.get(1));
+        when(dtoMapper.toProjectDTO(any(Project.class))).thenReturn(projectDTOs.get(0), projectDTOs.get(1));
 
         mockMvc.perform(get("/api/projects"))
                 .andExpect(status().isOk())
@@ -159,7 +165,7 @@ public class ProjectControllerTest {
     @Test
     public void testGetProjectById_Success() throws Exception {
         when(projectService.getProjectById(1L)).thenReturn(project);
-        when(modelMapper.map(any(Project.class), eq(ProjectDTO.class))).thenReturn(projectDTO);
+        when(dtoMapper.toProjectDTO(any(Project.class))).thenReturn(projectDTO);
 
         mockMvc.perform(get("/api/projects/1"))
                 .andExpect(status().isOk())
@@ -0,0 +1,86 @@
+package com.causwe.backend.controller;
+
+import com.causwe.backend.events.ProjectEventBroadcaster;
+import com.causwe.backend.exceptions.GlobalExceptionHandler;
+import com.causwe.backend.exceptions.ProjectNotFoundException;
+import com.causwe.backend.model.Project;
+import com.causwe.backend.security.CurrentUserArgumentResolver;
+import com.causwe.backend.security.JwtTokenProvider;
+import com.causwe.backend.service.ProjectService;
+import com.causwe.backend.service.UserService;
+
+import jakarta.servlet.http.Cookie;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProjectEventControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private ProjectEventBroadcaster projectEventBroadcaster;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private UserService userService;
+
+    @InjectMocks
+    private ProjectEventController projectEventController;
+
+    @BeforeEach
+    public void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(projectEventController)
+                .setCustomArgumentResolvers(new CurrentUserArgumentResolver(jwtTokenProvider, userService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    public void testSubscribeWithLastEventId() throws Exception {
+        when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(1L);
+        when(projectService.getProjectById(1L)).thenReturn(new Project());
+        when(projectEventBroadcaster.subscribe(1L, "abc-3")).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/projects/1/events").cookie(new Cookie("jwt", "token")).header("Last-Event-ID", "abc-3"))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    public void testSubscribe_ProjectNotFound() throws Exception {
+        when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(1L);
+        when(projectService.getProjectById(9L)).thenThrow(new ProjectNotFoundException(9L));
+
+        mockMvc.perform(get("/api/projects/9/events").cookie(new Cookie("jwt", "token")))
+                .andExpect(status().isNotFound());
+        verify(projectEventBroadcaster, never()).subscribe(any(), any());
+    }
+
+    @Test
+    public void testSubscribe_NotLoggedIn() throws Exception {
+        when(jwtTokenProvider.getUserIdFromToken(null)).thenThrow(new IllegalArgumentException("JWT String argument cannot be null or empty."));
+
+        mockMvc.perform(get("/api/projects/1/events"))
+                .andExpect(status().isUnauthorized());
+    }
+}
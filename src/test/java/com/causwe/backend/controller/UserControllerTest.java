@@ -3,12 +3,16 @@ package com.causwe.backend.controller;
 import com.causwe.backend.dto.UserRequestDTO;
 import com.causwe.backend.dto.UserResponseDTO;
 import com.causwe.backend.exceptions.GlobalExceptionHandler;
+import com.causwe.backend.exceptions.PasswordHashingBusyException;
 import com.causwe.backend.exceptions.UserNotFoundException;
+import com.causwe.backend.mapper.DtoMapper;
 import com.causwe.backend.model.Admin;
 import com.causwe.backend.model.Developer;
 import com.causwe.backend.model.User;
+import com.causwe.backend.security.CurrentUserArgumentResolver;
 import com.causwe.backend.security.JwtTokenProvider;
 import com.causwe.backend.service.UserService;
+import com.causwe.backend.util.CursorPage;
 import com.causwe.backend.util.RoleConverter;
 
 import jakarta.servlet.http.Cookie;
@@ -19,7 +23,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.http.MediaType;
@@ -55,7 +58,7 @@ public class UserControllerTest {
     private UserService userService;
 
     @Mock
-    private ModelMapper modelMapper;
+    private DtoMapper dtoMapper;
 
     @Mock
     private JwtTokenProvider jwtTokenProvider;
@@ -71,6 +74,7 @@ public class UserControllerTest {
     @BeforeEach
     public void setUp() {
         mockMvc = MockMvcBuilders.standaloneSetup(userController)
+                .setCustomArgumentResolvers(new CurrentUserArgumentResolver(jwtTokenProvider, userService))
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build();
 
@@ -100,7 +104,7 @@ public class UserControllerTest {
     public void testGetUserById_Success() throws Exception {
         when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(2L);
         when(userService.getUserById(2L)).thenReturn(dev);
-        when(modelMapper.map(dev, UserResponseDTO.class)).thenReturn(userResponseDTO);
+        when(dtoMapper.toUserResponseDTO(dev)).thenReturn(userResponseDTO);
 
         mockMvc.perform(get("/api/users")
                 .cookie(new Cookie("jwt", "token")))
@@ -128,7 +132,7 @@ public class UserControllerTest {
             userRequestDTO.getPassword(), 
             RoleConverter.convertToUserRole(userRequestDTO.getRole()))
         ).thenReturn(dev);
-        when(modelMapper.map(dev, UserResponseDTO.class)).thenReturn(userResponseDTO);
+        when(dtoMapper.toUserResponseDTO(dev)).thenReturn(userResponseDTO);
 
         mockMvc.perform(
             post("/api/users/signup")
@@ -167,7 +171,7 @@ public class UserControllerTest {
     @Test
     public void testLogin_Success() throws Exception {
         when(userService.login(userRequestDTO.getUsername(), userRequestDTO.getPassword())).thenReturn(dev);
-        when(modelMapper.map(dev, UserResponseDTO.class)).thenReturn(userResponseDTO);
+        when(dtoMapper.toUserResponseDTO(dev)).thenReturn(userResponseDTO);
 
         mockMvc.perform(
             post("/api/users/login")
@@ -176,6 +180,17 @@ public class UserControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    public void testLogin_Busy() throws Exception {
+        when(userService.login(userRequestDTO.getUsername(), userRequestDTO.getPassword())).thenThrow(new PasswordHashingBusyException());
+
+        mockMvc.perform(
+            post("/api/users/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(userRequestDTO)))
+                .andExpect(status().isServiceUnavailable());
+    }
+
     @Test
     public void testLogin_Failure() throws Exception {
         when(userService.login(userRequestDTO.getUsername(), userRequestDTO.getPassword())).thenReturn(null);
@@ -189,24 +204,32 @@ public class UserControllerTest {
 
     @Test
     public void testGetAllDevs() throws Exception {
-        User dev2 = new Developer();
-        dev2.setUsername("dev2");
-        dev2.setPassword("dev2");
-        dev2.setId(3L);
-
         UserResponseDTO dev2ResponseDTO = new UserResponseDTO();
         dev2ResponseDTO.setUsername("testUser2");
         dev2ResponseDTO.setRole(UserResponseDTO.Role.DEV);
 
-        List<User> devUsers = Arrays.asList(dev, dev2);
-        when(userService.getAllDevs()).thenReturn(devUsers);
-        when(modelMapper.map(any(User.class), eq(UserResponseDTO.class))).thenReturn(userResponseDTO, dev2ResponseDTO);
+        when(userService.getAllDevs()).thenReturn(Arrays.asList(userResponseDTO, dev2ResponseDTO));
 
         mockMvc.perform(
             get("/api/users/devs")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].username").value(dev.getUsername()));
+                .andExpect(jsonPath("$[0].username").value(dev.getUsername()))
+                .andExpect(jsonPath("$[1].username").value("testUser2"));
+    }
+
+    @Test
+    public void testGetDevsPage() throws Exception {
+        when(userService.getDevsPage("de", null, 1)).thenReturn(new CursorPage<>(List.of(userResponseDTO), "dev"));
+
+        mockMvc.perform(
+            get("/api/users/devs/page")
+                .param("prefix", "de")
+                .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users[0].username").value("dev"))
+                .andExpect(jsonPath("$.users[0].role").value("DEV"))
+                .andExpect(jsonPath("$.nextCursor").value("dev"));
     }
 
     @Test
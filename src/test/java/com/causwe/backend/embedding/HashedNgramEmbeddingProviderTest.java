@@ -0,0 +1,47 @@
+package com.causwe.backend.embedding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HashedNgramEmbeddingProviderTest {
+
+    private final HashedNgramEmbeddingProvider provider = new HashedNgramEmbeddingProvider(256, 3);
+
+    @Test
+    public void testDeterministicUnitVectors() {
+        List<float[]> vectors = provider.embed(List.of("Login fails on Safari", "Login fails on Safari"));
+
+        assertEquals(2, vectors.size());
+        assertEquals(256, vectors.get(0).length);
+        assertArrayEquals(vectors.get(0), vectors.get(1));
+        assertEquals(1.0, dot(vectors.get(0), vectors.get(0)), 1e-5);
+    }
+
+    @Test
+    public void testSimilarTitlesAreCloser() {
+        float[] login = provider.embed("Login fails on Safari");
+        float[] similar = provider.embed("login failure in safari");
+        float[] unrelated = provider.embed("Export statistics as CSV");
+
+        assertTrue(dot(login, similar) > dot(login, unrelated));
+    }
+
+    @Test
+    public void testVectorTextRoundTrip() {
+        float[] vector = provider.embed("Export statistics as CSV");
+
+        assertArrayEquals(vector, EmbeddingVectors.parse(EmbeddingVectors.format(vector)));
+        assertArrayEquals(new float[]{1.0f, 1.5f}, EmbeddingVectors.parse("{1,1.5}"));
+    }
+
+    private static double dot(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,50 @@
+package com.causwe.backend.embedding;
+
+import com.causwe.backend.repository.IssueRepository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class IssueEmbeddingBackfillTest {
+
+    @Mock
+    private IssueRepository issueRepository;
+
+    private final EmbeddingProvider embeddingProvider = texts -> texts.stream()
+            .map(text -> new float[]{text.length()})
+            .toList();
+
+    @Test
+    public void testBackfillsMissingInPages() {
+        IssueEmbeddingBackfill backfill = new IssueEmbeddingBackfill(issueRepository, embeddingProvider, "missing", 2, Runnable::run);
+        when(issueRepository.findTitlesWithoutEmbeddingAfter(0L, 2)).thenReturn(List.of(new Object[]{1L, "a"}, new Object[]{4L, "bb"}));
+        when(issueRepository.findTitlesWithoutEmbeddingAfter(4L, 2)).thenReturn(List.<Object[]>of(new Object[]{7L, "ccc"}));
+        when(issueRepository.findTitlesWithoutEmbeddingAfter(7L, 2)).thenReturn(List.of());
+
+        assertEquals(3, backfill.backfill(false));
+
+        verify(issueRepository).insertMissingEmbeddings(new Long[]{1L, 4L}, new String[]{"[1.0]", "[2.0]"});
+        verify(issueRepository).insertMissingEmbeddings(new Long[]{7L}, new String[]{"[3.0]"});
+        verify(issueRepository, never()).upsertEmbeddings(any(), any());
+    }
+
+    @Test
+    public void testBackfillAllOverwrites() {
+        IssueEmbeddingBackfill backfill = new IssueEmbeddingBackfill(issueRepository, embeddingProvider, "all", 2, Runnable::run);
+        when(issueRepository.findTitlesAfter(0L, 2)).thenReturn(List.<Object[]>of(new Object[]{1L, "a"}));
+        when(issueRepository.findTitlesAfter(1L, 2)).thenReturn(List.of());
+
+        assertEquals(1, backfill.backfill(true));
+
+        verify(issueRepository).upsertEmbeddings(new Long[]{1L}, new String[]{"[1.0]"});
+    }
+}
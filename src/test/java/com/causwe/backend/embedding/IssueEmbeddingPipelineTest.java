@@ -0,0 +1,141 @@
+package com.causwe.backend.embedding;
+
+import com.causwe.backend.repository.IssueRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class IssueEmbeddingPipelineTest {
+
+    @Mock
+    private IssueRepository issueRepository;
+
+    private final EmbeddingProvider embeddingProvider = texts -> texts.stream()
+            .map(text -> new float[]{text.length()})
+            .toList();
+
+    private MeterRegistry registry;
+    private IssueEmbeddingPipeline pipeline;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        // start()를 부르지 않으면 처리 작업을 풀에 넣지 않으므로 flush를 직접 호출한다
+        pipeline = pipeline(Runnable::run);
+    }
+
+    private IssueEmbeddingPipeline pipeline(Executor executor) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", registry));
+        return new IssueEmbeddingPipeline(issueRepository, embeddingProvider, 2, Duration.ofMillis(10), 3, 2, Duration.ZERO,
+                executor, beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    public void testBatchesAndKeepsLatestTitlePerIssue() {
+        pipeline.submit(1L, "first");
+        pipeline.submit(2L, "second");
+        pipeline.submit(1L, "first (edited)");
+        pipeline.submit(3L, "third");
+
+        assertEquals(2, pipeline.flush());
+        verify(issueRepository).upsertEmbeddings(new Long[]{1L, 2L}, new String[]{"[14.0]", "[6.0]"});
+        assertEquals(1, pipeline.flush());
+        verify(issueRepository).upsertEmbeddings(new Long[]{3L}, new String[]{"[5.0]"});
+        assertEquals(0, pipeline.flush());
+        assertEquals(3, registry.get("embedding.lag").timer().count());
+    }
+
+    @Test
+    public void testRejectsWhenFull() {
+        assertTrue(pipeline.submit(1L, "a"));
+        assertTrue(pipeline.submit(2L, "b"));
+        assertTrue(pipeline.submit(3L, "c"));
+        assertFalse(pipeline.submit(4L, "d"));
+        assertTrue(pipeline.submit(3L, "c2"));
+
+        assertEquals(3.0, registry.get("embedding.queue.depth").gauge().value());
+        assertEquals(1.0, registry.get("embedding.queue.rejected").counter().count());
+    }
+
+    @Test
+    public void testRetriesFailedBatchUntilMaxAttempts() {
+        doThrow(new RuntimeException("embedding service unavailable"))
+                .when(issueRepository).upsertEmbeddings(any(), any());
+        pipeline.submit(1L, "a");
+
+        assertEquals(-1, pipeline.flush());
+        assertEquals(List.of(1L), pipeline.pendingIssueIds());
+        assertEquals(-1, pipeline.flush());
+        assertEquals(List.of(), pipeline.pendingIssueIds());
+        assertEquals(2.0, registry.get("embedding.batch.failed").counter().count());
+        assertEquals(1.0, registry.get("embedding.dropped").counter().count());
+    }
+
+    @Test
+    public void testNewerTitleWinsOverRetriedOne() {
+        doThrow(new RuntimeException("embedding service unavailable"))
+                .doNothing()
+                .when(issueRepository).upsertEmbeddings(any(), any());
+        pipeline.submit(1L, "old");
+        assertEquals(-1, pipeline.flush());
+        pipeline.submit(1L, "newer");
+
+        assertEquals(1, pipeline.flush());
+        verify(issueRepository).upsertEmbeddings(new Long[]{1L}, new String[]{"[5.0]"});
+    }
+
+    @Test
+    public void testSubmitRunsDrainOnExecutorUntilQueueIsEmpty() {
+        pipeline.start();
+
+        pipeline.submit(1L, "a");
+
+        verify(issueRepository).upsertEmbeddings(new Long[]{1L}, new String[]{"[1.0]"});
+        assertEquals(List.of(), pipeline.pendingIssueIds());
+    }
+
+    @Test
+    public void testRejectedDrainIsRetriedOnNextSubmit() {
+        List<Runnable> accepted = new ArrayList<>();
+        boolean[] full = {true};
+        IssueEmbeddingPipeline rejecting = pipeline(task -> {
+            if (full[0]) {
+                throw new RejectedExecutionException("embedding pool is full");
+            }
+            accepted.add(task);
+        });
+        rejecting.start();
+
+        assertTrue(rejecting.submit(1L, "a"));
+        assertEquals(List.of(1L), rejecting.pendingIssueIds());
+
+        full[0] = false;
+        rejecting.submit(2L, "b");
+        rejecting.submit(3L, "c");
+        assertEquals(1, accepted.size());
+
+        accepted.get(0).run();
+        verify(issueRepository).upsertEmbeddings(new Long[]{1L, 2L}, new String[]{"[1.0]", "[1.0]"});
+        verify(issueRepository).upsertEmbeddings(new Long[]{3L}, new String[]{"[1.0]"});
+        assertEquals(List.of(), rejecting.pendingIssueIds());
+    }
+}
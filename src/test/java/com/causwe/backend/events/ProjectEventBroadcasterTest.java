@@ -0,0 +1,293 @@
+package com.causwe.backend.events;
+
+import com.causwe.backend.dto.CommentDTO;
+import com.causwe.backend.dto.ProjectEventDTO;
+import com.causwe.backend.mapper.DtoMapper;
+import com.causwe.backend.model.Comment;
+import com.causwe.backend.model.Issue;
+import com.causwe.backend.model.Project;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProjectEventBroadcasterTest {
+
+    @Mock
+    private DtoMapper dtoMapper;
+
+    private MeterRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    private ProjectEventBroadcaster broadcaster(Executor executor, int bufferSize, int replaySize) {
+        return broadcaster(executor, bufferSize, replaySize, Duration.ofSeconds(10), Duration.ofMinutes(5));
+    }
+
+    private ProjectEventBroadcaster broadcaster(Executor executor, int bufferSize, int replaySize,
+                                                Duration sendTimeout, Duration channelIdleTimeout) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", registry));
+        return new ProjectEventBroadcaster(dtoMapper, new ObjectMapper().findAndRegisterModules(), executor,
+                Duration.ofMinutes(30), Duration.ofSeconds(15), bufferSize, replaySize, sendTimeout, channelIdleTimeout,
+                beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    private static ProjectEventDTO issueEvent(String type, Long issueId) {
+        return new ProjectEventDTO(type, issueId, null, null, null);
+    }
+
+    @Test
+    public void testReadyThenDeltas() {
+        ProjectEventBroadcaster broadcaster = broadcaster(Runnable::run, 10, 10);
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(1L, null, emitter);
+
+        broadcaster.publish(1L, issueEvent("issue.created", 7L));
+        broadcaster.publish(2L, issueEvent("issue.created", 8L));
+
+        assertEquals(2, emitter.events.size());
+        assertTrue(emitter.events.get(0).contains("event:ready"));
+        assertTrue(emitter.events.get(0).matches("(?s)id:\\w+\\.\\w+-0\n.*"));
+        assertTrue(emitter.events.get(1).contains("event:issue.created"));
+        assertTrue(emitter.events.get(1).contains("\"issueId\":7"));
+        assertEquals(1.0, registry.get("sse.connections").gauge().value());
+    }
+
+    @Test
+    public void testResumesAfterLastEventId() {
+        ProjectEventBroadcaster broadcaster = broadcaster(Runnable::run, 10, 10);
+        RecordingEmitter first = new RecordingEmitter();
+        broadcaster.subscribe(1L, null, first);
+        broadcaster.publish(1L, issueEvent("issue.created", 1L));
+        broadcaster.publish(1L, issueEvent("issue.updated", 1L));
+        broadcaster.publish(1L, issueEvent("issue.created", 2L));
+        String lastSeen = first.id(1);
+
+        RecordingEmitter resumed = new RecordingEmitter();
+        broadcaster.subscribe(1L, lastSeen, resumed);
+
+        assertEquals(3, resumed.events.size());
+        assertEquals(first.id(2), resumed.id(0));
+        assertEquals(first.id(3), resumed.id(1));
+        assertTrue(resumed.events.get(2).contains("event:ready"));
+        assertEquals(first.id(3), resumed.id(2));
+    }
+
+    @Test
+    public void testResetWhenResumeIsImpossible() {
+        ProjectEventBroadcaster broadcaster = broadcaster(Runnable::run, 10, 2);
+        broadcaster.subscribe(1L, null, new RecordingEmitter());
+        for (long i = 1; i <= 4; i++) {
+            broadcaster.publish(1L, issueEvent("issue.created", i));
+        }
+
+        // 이전 실행의 id
+        RecordingEmitter restarted = new RecordingEmitter();
+        broadcaster.subscribe(1L, "0-3", restarted);
+        assertEquals(1, restarted.events.size());
+        assertTrue(restarted.events.get(0).contains("event:reset"));
+
+        // 기록(replay-size=2)에서 밀려난 id
+        RecordingEmitter behind = new RecordingEmitter();
+        broadcaster.subscribe(1L, epoch(restarted) + "-1", behind);
+        assertTrue(behind.events.get(0).contains("event:reset"));
+
+        // 밀려나지 않았으면 이어 받는다
+        RecordingEmitter recent = new RecordingEmitter();
+        broadcaster.subscribe(1L, epoch(restarted) + "-2", recent);
+        assertEquals(3, recent.events.size());
+    }
+
+    @Test
+    public void testOverflowClosesOnlyTheSlowConnection() {
+        List<Runnable> pending = new ArrayList<>();
+        ProjectEventBroadcaster broadcaster = broadcaster(pending::add, 2, 10);
+        RecordingEmitter slow = new RecordingEmitter();
+        broadcaster.subscribe(1L, null, slow);
+
+        broadcaster.publish(1L, issueEvent("issue.created", 1L));
+        assertFalse(slow.completed);
+        broadcaster.publish(1L, issueEvent("issue.created", 2L));
+
+        assertTrue(slow.completed);
+        assertEquals(0, broadcaster.connectionCount());
+        assertEquals(1.0, registry.get("sse.overflow").counter().count());
+
+        // 끊긴 연결의 전송 작업은 아무것도 보내지 않는다
+        pending.forEach(Runnable::run);
+        assertEquals(List.of(), slow.events);
+    }
+
+    @Test
+    public void testHeartbeatOnlyWhenIdle() {
+        ProjectEventBroadcaster broadcaster = broadcaster(Runnable::run, 10, 10);
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(1L, null, emitter);
+
+        broadcaster.sendHeartbeats();
+
+        assertEquals(2, emitter.events.size());
+        assertEquals(":heartbeat\n\n", emitter.events.get(1));
+    }
+
+    @Test
+    public void testActivityMappedOnlyForSubscribedProjects() {
+        ProjectEventBroadcaster broadcaster = broadcaster(Runnable::run, 10, 10);
+        Project project = new Project();
+        project.setId(1L);
+        Issue issue = new Issue();
+        issue.setId(7L);
+        issue.setProject(project);
+        Comment comment = new Comment();
+        comment.setId(3L);
+        comment.setIssue(issue);
+
+        broadcaster.onProjectActivity(ProjectActivityEvent.commentCreated(comment));
+        verify(dtoMapper, never()).toCommentDTO(any());
+
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(1L, null, emitter);
+        when(dtoMapper.toCommentDTO(comment)).thenReturn(new CommentDTO(3L, "dev", "hello", null));
+        broadcaster.onProjectActivity(ProjectActivityEvent.commentCreated(comment));
+        broadcaster.onProjectActivity(ProjectActivityEvent.commentDeleted(issue, 3L));
+
+        assertTrue(emitter.events.get(1).contains("event:comment.created"));
+        assertTrue(emitter.events.get(1).contains("\"content\":\"hello\""));
+        assertTrue(emitter.events.get(2).contains("event:comment.deleted"));
+        assertTrue(emitter.events.get(2).contains("\"commentId\":3,\"comment\":null"));
+        verify(dtoMapper, never()).toIssueDTO(any(Issue.class));
+    }
+
+    @Test
+    public void testSlowWriteClosesConnectionWithoutWaitingForIt() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ProjectEventBroadcaster broadcaster = broadcaster(task -> new Thread(task).start(), 10, 10, Duration.ZERO, Duration.ofMinutes(5));
+        RecordingEmitter stalled = new RecordingEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) {
+                sending.countDown();
+                await(release);
+                super.send(builder);
+            }
+        };
+        broadcaster.subscribe(1L, null, stalled);
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+
+        // heartbeat 스레드는 막힌 쓰기를 기다리지 않고 연결만 정리한다
+        broadcaster.sendHeartbeats();
+        assertEquals(0, broadcaster.connectionCount());
+        assertEquals(1.0, registry.get("sse.slow").counter().count());
+        assertFalse(stalled.completed);
+
+        // 쓰기가 끝나면 전송 작업이 연결을 닫는다
+        broadcaster.publish(1L, issueEvent("issue.created", 1L));
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!stalled.completed && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(stalled.completed);
+        assertEquals(1, stalled.events.size());
+    }
+
+    @Test
+    public void testIdleChannelIsEvictedAndOldIdsReset() {
+        ProjectEventBroadcaster broadcaster = broadcaster(Runnable::run, 10, 10, Duration.ofSeconds(10), Duration.ZERO);
+        RecordingEmitter first = new RecordingEmitter();
+        broadcaster.subscribe(1L, null, first);
+        broadcaster.publish(1L, issueEvent("issue.created", 1L));
+
+        // 구독자가 있으면 버리지 않는다
+        broadcaster.sendHeartbeats();
+        assertEquals(1, broadcaster.channelCount());
+
+        first.disconnect();
+        broadcaster.sendHeartbeats();
+        assertEquals(0, broadcaster.channelCount());
+        assertEquals(0, broadcaster.connectionCount());
+
+        // 다시 만든 채널은 순번이 처음부터라 예전 id로는 이어 받지 못한다
+        RecordingEmitter resumed = new RecordingEmitter();
+        broadcaster.subscribe(1L, first.id(1), resumed);
+        assertTrue(resumed.events.get(0).contains("event:reset"));
+        assertNotEquals(epoch(first), epoch(resumed));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String epoch(RecordingEmitter emitter) {
+        String id = emitter.id(0);
+        return id.substring(0, id.lastIndexOf('-'));
+    }
+
+    // 보낸 이벤트를 SSE 텍스트로 모은다
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private volatile boolean completed;
+        private Runnable completionCallback;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            events.add(builder.build().stream()
+                    .map(data -> data.getData().toString())
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        @Override
+        public void onCompletion(Runnable callback) {
+            completionCallback = callback;
+        }
+
+        // 클라이언트가 연결을 끊었을 때 컨테이너가 부르는 콜백
+        private void disconnect() {
+            completionCallback.run();
+        }
+
+        private String id(int index) {
+            if (index >= events.size()) {
+                return null;
+            }
+            String event = events.get(index);
+            return event.substring(3, event.indexOf('\n'));
+        }
+    }
+}
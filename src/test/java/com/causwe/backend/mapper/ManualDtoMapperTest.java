@@ -0,0 +1,180 @@
+package com.causwe.backend.mapper;
+
+import com.causwe.backend.dto.CommentDTO;
+import com.causwe.backend.dto.IssueDTO;
+import com.causwe.backend.dto.IssueSummary;
+import com.causwe.backend.dto.ProjectDTO;
+import com.causwe.backend.dto.UserResponseDTO;
+import com.causwe.backend.model.Comment;
+import com.causwe.backend.model.Developer;
+import com.causwe.backend.model.Issue;
+import com.causwe.backend.model.Project;
+import com.causwe.backend.model.Tester;
+import com.causwe.backend.model.User;
+import com.causwe.backend.service.UserService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ManualDtoMapperTest {
+
+    @Mock
+    private UserService userService;
+
+    @InjectMocks
+    private ManualDtoMapper dtoMapper;
+
+    private User dev;
+    private User tester;
+    private Issue issue;
+
+    @BeforeEach
+    public void setUp() {
+        dev = new Developer();
+        dev.setUsername("dev");
+        dev.setId(2L);
+
+        tester = new Tester();
+        tester.setUsername("tester");
+        tester.setId(3L);
+
+        issue = new Issue("Test Issue", "Issue Description", Issue.Priority.MAJOR, tester);
+        issue.setId(1L);
+        issue.setAssignee(dev);
+        issue.setStatus(Issue.Status.ASSIGNED);
+    }
+
+    @Test
+    public void testToIssueDTO() {
+        IssueDTO issueDTO = dtoMapper.toIssueDTO(issue);
+
+        assertEquals(1L, issueDTO.getId());
+        assertEquals("Test Issue", issueDTO.getTitle());
+        assertEquals("Issue Description", issueDTO.getDescription());
+        assertEquals(issue.getReportedDate(), issueDTO.getReportedDate());
+        assertEquals("tester", issueDTO.getReporterUsername());
+        assertEquals("dev", issueDTO.getAssigneeUsername());
+        assertNull(issueDTO.getFixerUsername());
+        assertEquals(IssueDTO.Priority.MAJOR, issueDTO.getPriority());
+        assertEquals(IssueDTO.Status.ASSIGNED, issueDTO.getStatus());
+    }
+
+    @Test
+    public void testToIssueDTO_FromSummary() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", 1L);
+        row.put("title", "Test Issue");
+        row.put("reporterUsername", "tester");
+        row.put("priority", "MAJOR");
+        row.put("status", "NEW");
+        IssueSummary summary = new SpelAwareProxyProjectionFactory().createProjection(IssueSummary.class, row);
+
+        IssueDTO issueDTO = dtoMapper.toIssueDTO(summary);
+
+        assertEquals(1L, issueDTO.getId());
+        assertEquals("tester", issueDTO.getReporterUsername());
+        assertNull(issueDTO.getAssigneeUsername());
+        assertNull(issueDTO.getDescription());
+        assertEquals(IssueDTO.Priority.MAJOR, issueDTO.getPriority());
+        assertEquals(IssueDTO.Status.NEW, issueDTO.getStatus());
+    }
+
+    @Test
+    public void testToIssue_ResolvesAssigneeOnly() {
+        IssueDTO issueDTO = new IssueDTO();
+        issueDTO.setTitle("Updated");
+        issueDTO.setReporterUsername("tester");
+        issueDTO.setFixerUsername("dev");
+        issueDTO.setAssigneeUsername("dev");
+        issueDTO.setPriority(IssueDTO.Priority.CRITICAL);
+        issueDTO.setStatus(IssueDTO.Status.ASSIGNED);
+
+        when(userService.getUserByUsername("dev")).thenReturn(dev);
+
+        Issue mapped = dtoMapper.toIssue(issueDTO);
+
+        assertEquals("Updated", mapped.getTitle());
+        assertEquals(dev, mapped.getAssignee());
+        assertEquals(Issue.Priority.CRITICAL, mapped.getPriority());
+        assertEquals(Issue.Status.ASSIGNED, mapped.getStatus());
+        verify(userService, times(1)).getUserByUsername(anyString());
+    }
+
+    @Test
+    public void testToIssue_NoAssignee() {
+        IssueDTO issueDTO = new IssueDTO();
+        issueDTO.setTitle("Updated");
+
+        Issue mapped = dtoMapper.toIssue(issueDTO);
+
+        assertNull(mapped.getAssignee());
+        assertNull(mapped.getStatus());
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    public void testToCommentDTO() {
+        Comment comment = new Comment(issue, dev, "Comment");
+        comment.setId(5L);
+
+        CommentDTO commentDTO = dtoMapper.toCommentDTO(comment);
+
+        assertEquals(5L, commentDTO.getId());
+        assertEquals("dev", commentDTO.getUsername());
+        assertEquals("Comment", commentDTO.getContent());
+        assertEquals(comment.getCreatedAt(), commentDTO.getCreatedAt());
+    }
+
+    @Test
+    public void testToComment() {
+        CommentDTO commentDTO = new CommentDTO(null, "dev", "Comment", null);
+
+        Comment comment = dtoMapper.toComment(commentDTO);
+
+        assertEquals("Comment", comment.getContent());
+        assertNull(comment.getUser());
+    }
+
+    @Test
+    public void testToUserResponseDTO() {
+        UserResponseDTO userDTO = dtoMapper.toUserResponseDTO(dev);
+
+        assertEquals("dev", userDTO.getUsername());
+        assertEquals(UserResponseDTO.Role.DEV, userDTO.getRole());
+    }
+
+    @Test
+    public void testProjectRoundTrip() {
+        ProjectDTO projectDTO = new ProjectDTO();
+        projectDTO.setId(7L);
+        projectDTO.setName("Test Project");
+
+        Project project = dtoMapper.toProject(projectDTO);
+        ProjectDTO mapped = dtoMapper.toProjectDTO(project);
+
+        assertEquals(7L, mapped.getId());
+        assertEquals("Test Project", mapped.getName());
+    }
+
+    @Test
+    public void testNullSource() {
+        assertNull(dtoMapper.toIssueDTO((Issue) null));
+        assertNull(dtoMapper.toCommentDTO(null));
+        assertNull(dtoMapper.toUserResponseDTO(null));
+        assertNull(dtoMapper.toProjectDTO(null));
+    }
+}
@@ -0,0 +1,192 @@
+package com.causwe.backend.nlsearch;
+
+import com.causwe.backend.exceptions.InvalidQueryException;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NlQueryValidatorTest {
+
+    private final NlQueryValidator validator = new NlQueryValidator(100);
+
+    @Test
+    public void testScopesToProjectAndAddsLimit() {
+        ValidatedQuery query = validator.validate("SELECT * FROM issues WHERE status = 'NEW' ORDER BY reported_date DESC", 1L);
+
+        assertEquals("SELECT issues.* FROM issues WHERE issues.project_id = ?2 AND (status = ?1) ORDER BY reported_date DESC LIMIT ?3",
+                query.getSql());
+        assertEquals(List.of("NEW", 1L, 100L), query.getParameters());
+    }
+
+    @Test
+    public void testSameShapeSharesTemplate() {
+        ValidatedQuery first = validator.validate("SELECT * FROM issues WHERE project_id = 1 AND priority = 'MAJOR'", 1L);
+        ValidatedQuery second = validator.validate("select *   from issues where project_id = 2 and priority = 'MINOR'", 2L);
+
+        assertEquals(first.getSql(), second.getSql());
+        assertEquals(List.of(2L, "MINOR", 2L, 100L), second.getParameters());
+    }
+
+    @Test
+    public void testTemplateKeyIgnoresValuesAndLimit() {
+        NlQueryValidator.Template first = validator.parse("SELECT * FROM issues WHERE status = 'NEW' AND assignee_id = 7 LIMIT 5");
+        NlQueryValidator.Template second = validator.parse("SELECT * FROM issues WHERE status = 'CLOSED' AND assignee_id = 9 LIMIT 50");
+
+        assertEquals(first.getKey(), second.getKey());
+        ValidatedQuery query = validator.bind(validator.plan(first), second, 4L);
+        assertEquals(List.of("CLOSED", 9L, 4L, 50L), query.getParameters());
+    }
+
+    @Test
+    public void testKeepsOffsetAsParameter() {
+        NlQueryValidator.Template paged = validator.parse("SELECT * FROM issues WHERE status = 'NEW' LIMIT 10 OFFSET 20");
+        NlQueryValidator.Template first = validator.parse("SELECT * FROM issues WHERE status = 'NEW' LIMIT 10");
+
+        assertNotEquals(paged.getKey(), first.getKey());
+        ValidatedQuery query = validator.bind(validator.plan(paged), paged, 1L);
+        assertEquals("SELECT issues.* FROM issues WHERE issues.project_id = ?2 AND (status = ?1) LIMIT ?3 OFFSET ?4", query.getSql());
+        assertEquals(List.of("NEW", 1L, 10L, 20L), query.getParameters());
+
+        assertEquals(List.of(1L, 100L, 5L), validator.validate("SELECT * FROM issues OFFSET 5", 1L).getParameters());
+        assertThrows(InvalidQueryException.class, () -> validator.validate("SELECT * FROM issues LIMIT 10 OFFSET (SELECT 1)", 1L));
+    }
+
+    @Test
+    public void testJoinAliasAndInList() {
+        ValidatedQuery query = validator.validate("SELECT i.*, u.username FROM issues i JOIN users u ON i.assignee_id = u.id " +
+                "WHERE u.username IN ('dev1', 'dev2') LIMIT 500", 3L);
+
+        assertEquals("SELECT i.* FROM issues i JOIN users u ON i.assignee_id = u.id " +
+                "WHERE i.project_id = ?3 AND (u.username IN (?1, ?2)) LIMIT ?4", query.getSql());
+        assertEquals(List.of("dev1", "dev2", 3L, 100L), query.getParameters());
+    }
+
+    @Test
+    public void testKeepsSmallerLimitAndDateLiterals() {
+        ValidatedQuery query = validator.validate("SELECT * FROM issues WHERE reported_date >= '2024-05-01' LIMIT 5", 1L);
+
+        assertEquals("SELECT issues.* FROM issues WHERE issues.project_id = ?1 AND (reported_date >= '2024-05-01') LIMIT ?2",
+                query.getSql());
+        assertEquals(List.of(1L, 5L), query.getParameters());
+    }
+
+    @Test
+    public void testKeepsOriginalConditionGrouped() {
+        ValidatedQuery query = validator.validate("SELECT * FROM issues WHERE status = 'NEW' OR 1 = 1", 1L);
+
+        assertEquals("SELECT issues.* FROM issues WHERE issues.project_id = ?2 AND (status = ?1 OR 1 = 1) LIMIT ?3",
+                query.getSql());
+    }
+
+    @Test
+    public void testSubqueryOnAllowedTable() {
+        ValidatedQuery query = validator.validate("SELECT * FROM issues WHERE assignee_id = (SELECT id FROM users WHERE username = 'dev')", 1L);
+
+        assertEquals(List.of("dev", 1L, 100L), query.getParameters());
+    }
+
+    @Test
+    public void testRejectsWrites() {
+        assertThrows(InvalidQueryException.class, () -> validator.validate("DELETE FROM issues", 1L));
+        assertThrows(InvalidQueryException.class, () -> validator.validate("UPDATE issues SET status = 'CLOSED'", 1L));
+        assertThrows(InvalidQueryException.class, () -> validator.validate("SELECT * INTO backup FROM issues", 1L));
+        assertThrows(InvalidQueryException.class, () -> validator.validate("SELECT * FROM issues FOR UPDATE", 1L));
+        assertThrows(InvalidQueryException.class,
+                () -> validator.validate("WITH d AS (DELETE FROM issues RETURNING *) SELECT * FROM issues", 1L));
+        assertThrows(InvalidQueryException.class, () -> validator.validate("SELECT * FROM issues; DELETE FROM issues", 1L));
+    }
+
+    @Test
+    public void testRejectsOtherTablesAndFunctions() {
+        assertThrows(InvalidQueryException.class, () -> validator.validate("SELECT * FROM users", 1L));
+        assertThrows(InvalidQueryException.class, () -> validator.validate("SELECT * FROM issues JOIN pg_user ON true", 1L));
+        assertThrows(InvalidQueryException.class,
+                () -> validator.validate("SELECT * FROM issues WHERE id IN (SELECT issue_id FROM issue_embeddings)", 1L));
+        assertThrows(InvalidQueryException.class, () -> validator.validate("SELECT * FROM issues WHERE pg_sleep(10) IS NULL", 1L));
+        assertThrows(InvalidQueryException.class,
+                () -> validator.validate("SELECT * FROM issues, pg_read_file('/etc/passwd')", 1L));
+        assertThrows(InvalidQueryException.class,
+                () -> validator.validate("SELECT * FROM issues UNION SELECT * FROM issues", 1L));
+        assertThrows(InvalidQueryException.class, () -> validator.validate("Sorry, I cannot help with that.", 1L));
+    }
+
+    @Test
+    public void testRejectsGroupingAndAggregatesInOuterQuery() {
+        assertThrows(InvalidQueryException.class, () -> validator.validate("SELECT status, count(*) FROM issues GROUP BY status", 1L));
+        assertThrows(InvalidQueryException.class,
+                () -> validator.validate("SELECT * FROM issues GROUP BY id HAVING count(*) > 1", 1L));
+        assertThrows(InvalidQueryException.class, () -> validator.validate("SELECT count(*) FROM issues", 1L));
+        assertThrows(InvalidQueryException.class, () -> validator.validate("SELECT DISTINCT status FROM issues", 1L));
+        assertThrows(InvalidQueryException.class, () -> validator.validate("SELECT DISTINCT ON (status) * FROM issues", 1L));
+    }
+
+    @Test
+    public void testAllowsAggregatesInSubquery() {
+        ValidatedQuery query = validator.validate("SELECT * FROM issues WHERE id IN " +
+                "(SELECT issue_id FROM comments GROUP BY issue_id HAVING count(*) > 3)", 1L);
+
+        assertEquals(List.of(1L, 100L), query.getParameters());
+    }
+
+    @Test
+    public void testRejectsHiddenUserColumns() {
+        assertThrows(InvalidQueryException.class, () -> validator.validate("SELECT * FROM issues i JOIN users u " +
+                "ON i.reporter_id = u.id WHERE u.password LIKE 'a%'", 1L));
+        assertThrows(InvalidQueryException.class, () -> validator.validate("SELECT * FROM issues WHERE reporter_id IN " +
+                "(SELECT id FROM users WHERE password LIKE 'a%')", 1L));
+        assertThrows(InvalidQueryException.class, () -> validator.validate("SELECT * FROM issues i JOIN users u " +
+                "ON i.reporter_id = u.id WHERE to_json(u)::text LIKE '%a%'", 1L));
+        assertThrows(InvalidQueryException.class, () -> validator.validate("SELECT * FROM issues WHERE title IN " +
+                "(SELECT * FROM users)", 1L));
+    }
+
+    @Test
+    public void testAllowsOnlyListedFunctions() {
+        ValidatedQuery query = validator.validate("SELECT * FROM issues WHERE lower(title) LIKE '%login%' " +
+                "AND date_trunc('day', reported_date) >= now() - INTERVAL '7 days'", 1L);
+        assertEquals(List.of(1L, 100L), query.getParameters());
+
+        assertThrows(InvalidQueryException.class, () -> validator.validate("SELECT * FROM issues WHERE nextval('issues_seq') > 0", 1L));
+        assertThrows(InvalidQueryException.class,
+                () -> validator.validate("SELECT * FROM issues WHERE setval('issues_seq', 1) > 0", 1L));
+        assertThrows(InvalidQueryException.class,
+                () -> validator.validate("SELECT * FROM issues WHERE azure_ai.set_setting('azure_openai.auth_type', 'x') IS NULL", 1L));
+        assertThrows(InvalidQueryException.class,
+                () -> validator.validate("SELECT * FROM issues WHERE azure_openai.create_embeddings('m', title) IS NULL", 1L));
+        assertThrows(InvalidQueryException.class, () -> validator.validate("SELECT * FROM issues WHERE public.lower(title) = 'x'", 1L));
+    }
+
+    @Test
+    public void testScopesIssuesInExistsToProject() {
+        ValidatedQuery query = validator.validate("SELECT * FROM issues WHERE EXISTS " +
+                "(SELECT 1 FROM issues x WHERE x.project_id = 99 AND x.title LIKE 'secret%')", 1L);
+
+        assertEquals("SELECT issues.* FROM issues WHERE issues.project_id = ?3 AND EXISTS ( SELECT 1 FROM issues x " +
+                "WHERE x.project_id = ?3 AND (x.project_id = ?1 AND x.title LIKE ?2) ) LIMIT ?4", query.getSql());
+        assertEquals(List.of(99L, "secret%", 1L, 100L), query.getParameters());
+    }
+
+    @Test
+    public void testScopesEverySelfJoinedIssuesToProject() {
+        ValidatedQuery query = validator.validate("SELECT i.* FROM issues i JOIN issues j ON j.id = i.id " +
+                "WHERE j.title LIKE 'secret%'", 1L);
+
+        assertEquals("SELECT i.* FROM issues i JOIN issues j ON j.id = i.id " +
+                "WHERE i.project_id = ?2 AND j.project_id = ?2 AND (j.title LIKE ?1) LIMIT ?3", query.getSql());
+    }
+
+    @Test
+    public void testScopesCommentsThroughTheirIssue() {
+        ValidatedQuery query = validator.validate("SELECT i.* FROM issues i LEFT JOIN comments c ON c.issue_id = i.id OR true " +
+                "WHERE c.content LIKE '%crash%' OR i.id IN (SELECT issue_id FROM comments WHERE content LIKE '%npe%')", 1L);
+
+        assertEquals("SELECT i.* FROM issues i LEFT JOIN comments c " +
+                "ON c.issue_id IN ( SELECT issues.id FROM issues WHERE issues.project_id = ?3 ) AND (c.issue_id = i.id OR true) " +
+                "WHERE i.project_id = ?3 AND (c.content LIKE ?1 OR i.id IN ( SELECT issue_id FROM comments " +
+                "WHERE comments.issue_id IN ( SELECT issues.id FROM issues WHERE issues.project_id = ?3 ) AND (content LIKE ?2) )) " +
+                "LIMIT ?4", query.getSql());
+    }
+}
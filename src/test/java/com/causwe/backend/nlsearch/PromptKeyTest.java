@@ -0,0 +1,46 @@
+package com.causwe.backend.nlsearch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PromptKeyTest {
+
+    @Test
+    public void testFoldsCaseWhitespaceAndStopWords() {
+        assertEquals("new issues", PromptKey.of("Show me all NEW issues!", 1L));
+        assertEquals(PromptKey.of("show all new issues", 1L), PromptKey.of("  Please   list the new   issues. ", 2L));
+    }
+
+    @Test
+    public void testKeepsWordsThatChangeMeaning() {
+        assertNotEquals(PromptKey.of("issues not closed", 1L), PromptKey.of("issues closed", 1L));
+        assertNotEquals(PromptKey.of("issues assigned to dev1", 1L), PromptKey.of("issues reported by dev1", 1L));
+    }
+
+    @Test
+    public void testPersonalPromptsAreKeyedPerMember() {
+        assertEquals("issues assigned to::3", PromptKey.of("Issues assigned to me", 3L));
+        assertNotEquals(PromptKey.of("issues assigned to me", 3L), PromptKey.of("issues assigned to me", 4L));
+        assertNotEquals(PromptKey.of("my open issues", 3L), PromptKey.of("my open issues", 4L));
+        assertEquals(PromptKey.of("show me critical issues", 3L), PromptKey.of("show me critical issues", 4L));
+    }
+
+    @Test
+    public void testAnyFirstPersonWordIsPersonal() {
+        assertNotEquals(PromptKey.of("issues I reported", 3L), PromptKey.of("issues I reported", 4L));
+        assertNotEquals(PromptKey.of("Issues I created", 3L), PromptKey.of("Issues I created", 4L));
+        assertNotEquals(PromptKey.of("what am I fixing?", 3L), PromptKey.of("what am I fixing?", 4L));
+        assertNotEquals(PromptKey.of("show me issues I'm assigned", 3L), PromptKey.of("show me issues I'm assigned", 4L));
+        assertNotEquals(PromptKey.of("issues reported", 3L), PromptKey.of("issues I reported", 3L));
+    }
+
+    @Test
+    public void testKeepsCaseOfLiterals() {
+        assertNotEquals(PromptKey.of("issues reported by dev1", 1L), PromptKey.of("issues reported by Dev1", 1L));
+        assertNotEquals(PromptKey.of("issues titled 'Login Bug'", 1L), PromptKey.of("issues titled 'login bug'", 1L));
+        assertNotEquals(PromptKey.of("issues titled 'login bug!'", 1L), PromptKey.of("issues titled 'login bug'", 1L));
+        assertEquals("issues titled 'my issue'", PromptKey.of("Issues titled 'my issue'", 1L));
+        assertEquals(PromptKey.of("ISSUES reported BY dev1", 1L), PromptKey.of("issues reported by dev1", 2L));
+    }
+}
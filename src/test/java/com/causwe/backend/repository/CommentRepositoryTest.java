@@ -0,0 +1,86 @@
+package com.causwe.backend.repository;
+
+import com.causwe.backend.model.Comment;
+import com.causwe.backend.model.Developer;
+import com.causwe.backend.model.Issue;
+import com.causwe.backend.model.Project;
+import com.causwe.backend.model.Tester;
+import com.causwe.backend.model.User;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class CommentRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Statistics statistics;
+    private Issue issue;
+    private Long commentId;
+
+    @BeforeEach
+    public void setUp() {
+        Project project = entityManager.persist(new Project("Comment Project"));
+
+        User tester = new Tester();
+        tester.setUsername("tester");
+        tester.setPassword("tester");
+        entityManager.persist(tester);
+
+        issue = new Issue("Issue", "Issue Description", Issue.Priority.MAJOR, tester);
+        issue.setProject(project);
+        entityManager.persist(issue);
+
+        for (int i = 0; i < 4; i++) {
+            User dev = new Developer();
+            dev.setUsername("dev" + i);
+            dev.setPassword("dev");
+            entityManager.persist(dev);
+            commentId = entityManager.persist(new Comment(issue, dev, "Comment" + i)).getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void testFindByIssueOrderByCreatedAtAsc_LoadsUsersInOneStatement() {
+        List<Comment> comments = commentRepository.findByIssueOrderByCreatedAtAsc(issue);
+
+        assertEquals(4, comments.size());
+        for (Comment comment : comments) {
+            assertTrue(comment.getUser().getUsername().startsWith("dev"));
+        }
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testFindById_LoadsUserInOneStatement() {
+        Comment comment = commentRepository.findById(commentId).orElseThrow();
+
+        assertEquals("dev3", comment.getUser().getUsername());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
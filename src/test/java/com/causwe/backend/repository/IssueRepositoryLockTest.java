@@ -0,0 +1,109 @@
+package com.causwe.backend.repository;
+
+import com.causwe.backend.model.Issue;
+import com.causwe.backend.model.Project;
+import com.causwe.backend.model.Tester;
+import com.causwe.backend.model.User;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 두 트랜잭션이 실제로 동시에 실행되어야 하므로 테스트 트랜잭션 없이 커밋하고, 만든 행은 직접 지운다
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class IssueRepositoryLockTest {
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Issue issue;
+
+    @BeforeEach
+    public void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        issue = transaction.execute(status -> {
+            Project project = projectRepository.save(new Project("Lock Project"));
+            User reporter = new Tester();
+            reporter.setUsername("lock-tester");
+            reporter.setPassword("tester");
+            userRepository.save(reporter);
+
+            Issue created = new Issue("Lock Issue", "Issue Description", Issue.Priority.MAJOR, reporter);
+            created.setProject(project);
+            return issueRepository.save(created);
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        transaction.executeWithoutResult(status -> {
+            issueRepository.deleteById(issue.getId());
+            userRepository.deleteById(issue.getReporter().getId());
+            projectRepository.deleteById(issue.getProject().getId());
+        });
+    }
+
+    @Test
+    public void testFindByIdForUpdate_ConcurrentUpdatesSeeEachOthersChanges() throws Exception {
+        CountDownLatch firstLocked = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Issue.Status> first = executor.submit(() -> transaction.execute(status -> {
+                Issue locked = issueRepository.findByIdForUpdate(issue.getId()).orElseThrow();
+                firstLocked.countDown();
+                sleep(300);
+                Issue.Status original = locked.getStatus();
+                locked.setStatus(Issue.Status.ASSIGNED);
+                return original;
+            }));
+            assertTrue(firstLocked.await(5, TimeUnit.SECONDS));
+            Future<Issue.Status> second = executor.submit(() -> transaction.execute(status -> {
+                Issue locked = issueRepository.findByIdForUpdate(issue.getId()).orElseThrow();
+                Issue.Status original = locked.getStatus();
+                locked.setStatus(Issue.Status.FIXED);
+                return original;
+            }));
+
+            // 두 번째 수정은 첫 번째가 커밋할 때까지 기다렸다가 바뀐 값을 원래 값으로 읽는다
+            assertEquals(Issue.Status.NEW, first.get(5, TimeUnit.SECONDS));
+            assertEquals(Issue.Status.ASSIGNED, second.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(Issue.Status.FIXED, issueRepository.findById(issue.getId()).orElseThrow().getStatus());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.causwe.backend.repository;
+
+import com.causwe.backend.model.Developer;
+import com.causwe.backend.model.Issue;
+import com.causwe.backend.model.Project;
+import com.causwe.backend.model.Tester;
+import com.causwe.backend.model.User;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class IssueRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    private Statistics statistics;
+    private List<Long> issueIds;
+
+    @BeforeEach
+    public void setUp() {
+        Project project = entityManager.persist(new Project("Fetch Project"));
+
+        issueIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            User reporter = new Tester();
+            reporter.setUsername("tester" + i);
+            reporter.setPassword("tester");
+            entityManager.persist(reporter);
+
+            User assignee = new Developer();
+            assignee.setUsername("dev" + i);
+            assignee.setPassword("dev");
+            entityManager.persist(assignee);
+
+            Issue issue = new Issue("Issue" + i, "Issue Description", Issue.Priority.MAJOR, reporter);
+            issue.setAssignee(assignee);
+            issue.setFixer(assignee);
+            issue.setProject(project);
+            issueIds.add(entityManager.persist(issue).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void testFindById_LoadsUsersInOneStatement() {
+        Issue issue = issueRepository.findById(issueIds.get(0)).orElseThrow();
+
+        assertEquals("tester0", issue.getReporter().getUsername());
+        assertEquals("dev0", issue.getAssignee().getUsername());
+        assertEquals("dev0", issue.getFixer().getUsername());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testFindById_DoesNotLoadProject() {
+        Issue issue = issueRepository.findById(issueIds.get(0)).orElseThrow();
+
+        assertNotNull(issue.getProject().getId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testFindAllById_BatchesLazyUsers() {
+        List<Issue> issues = issueRepository.findAllById(issueIds);
+
+        for (Issue issue : issues) {
+            assertNotNull(issue.getReporter().getUsername());
+            assertNotNull(issue.getAssignee().getUsername());
+        }
+        // 이슈 조회 1번 + 사용자 IN 조회 1번 (이슈마다 사용자 조회가 늘어나지 않는다)
+        assertEquals(5, issues.size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+}
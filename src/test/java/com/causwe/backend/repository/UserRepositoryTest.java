@@ -0,0 +1,71 @@
+package com.causwe.backend.repository;
+
+import com.causwe.backend.dto.UserResponseDTO;
+import com.causwe.backend.model.Developer;
+import com.causwe.backend.model.Tester;
+import com.causwe.backend.model.User;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+public class UserRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    public void setUp() {
+        for (String username : List.of("dev_b", "dev_a", "devx", "dave")) {
+            User dev = new Developer();
+            dev.setUsername(username);
+            dev.setPassword("dev");
+            entityManager.persist(dev);
+        }
+        User tester = new Tester();
+        tester.setUsername("dev_tester");
+        tester.setPassword("tester");
+        entityManager.persist(tester);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void testFindDevelopers_OnlyDevelopersInUsernameOrder() {
+        List<UserResponseDTO> devs = userRepository.findDevelopers("%", "", Limit.unlimited());
+
+        assertEquals(List.of("dave", "dev_a", "dev_b", "devx"), devs.stream().map(UserResponseDTO::getUsername).toList());
+        assertTrue(devs.stream().allMatch(dev -> dev.getRole() == UserResponseDTO.Role.DEV));
+    }
+
+    @Test
+    public void testUpdatePassword_OnlyReplacesExpectedHash() {
+        Long userId = userRepository.findByUsername("dave").getId();
+
+        assertEquals(0, userRepository.updatePassword(userId, "changed", "{bcrypt}new"));
+        assertEquals(1, userRepository.updatePassword(userId, "dev", "{bcrypt}new"));
+        entityManager.clear();
+        assertEquals("{bcrypt}new", userRepository.findById(userId).orElseThrow().getPassword());
+    }
+
+    @Test
+    public void testFindDevelopers_PrefixIsLiteralAndPagesAfterCursor() {
+        List<UserResponseDTO> firstPage = userRepository.findDevelopers("dev\\_%", "", Limit.of(1));
+        List<UserResponseDTO> secondPage = userRepository.findDevelopers("dev\\_%", "dev_a", Limit.of(1));
+
+        assertEquals(List.of("dev_a"), firstPage.stream().map(UserResponseDTO::getUsername).toList());
+        assertEquals(List.of("dev_b"), secondPage.stream().map(UserResponseDTO::getUsername).toList());
+    }
+}
@@ -0,0 +1,90 @@
+package com.causwe.backend.security;
+
+import com.causwe.backend.exceptions.UnauthorizedException;
+import com.causwe.backend.model.Developer;
+import com.causwe.backend.model.User;
+import com.causwe.backend.service.UserService;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import jakarta.servlet.http.Cookie;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CurrentUserArgumentResolverTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private UserService userService;
+
+    @InjectMocks
+    private CurrentUserArgumentResolver resolver;
+
+    private MockHttpServletRequest request;
+    private MethodParameter memberIdParameter;
+    private MethodParameter userParameter;
+    private MethodParameter plainParameter;
+
+    @SuppressWarnings("unused")
+    private void handler(@CurrentUser Long memberId, @CurrentUser User user, Long other) {
+    }
+
+    @BeforeEach
+    public void setUp() throws NoSuchMethodException {
+        request = new MockHttpServletRequest();
+        var method = getClass().getDeclaredMethod("handler", Long.class, User.class, Long.class);
+        memberIdParameter = new MethodParameter(method, 0);
+        userParameter = new MethodParameter(method, 1);
+        plainParameter = new MethodParameter(method, 2);
+    }
+
+    @Test
+    public void testSupportsOnlyAnnotatedParameters() {
+        assertTrue(resolver.supportsParameter(memberIdParameter));
+        assertTrue(resolver.supportsParameter(userParameter));
+        assertFalse(resolver.supportsParameter(plainParameter));
+    }
+
+    @Test
+    public void testResolvesOncePerRequest() {
+        User dev = new Developer();
+        dev.setId(2L);
+        request.setCookies(new Cookie("jwt", "token"));
+        ServletWebRequest webRequest = new ServletWebRequest(request);
+        when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(2L);
+        when(userService.getUserById(2L)).thenReturn(dev);
+
+        assertEquals(2L, resolver.resolveArgument(memberIdParameter, null, webRequest, null));
+        assertEquals(dev, resolver.resolveArgument(userParameter, null, webRequest, null));
+        assertEquals(dev, resolver.resolveArgument(userParameter, null, webRequest, null));
+
+        verify(jwtTokenProvider, times(1)).getUserIdFromToken("token");
+        verify(userService, times(1)).getUserById(2L);
+    }
+
+    @Test
+    public void testMissingOrInvalidTokenIsUnauthorized() {
+        when(jwtTokenProvider.getUserIdFromToken(null)).thenThrow(new IllegalArgumentException("JWT String argument cannot be null or empty."));
+        assertThrows(UnauthorizedException.class,
+                () -> resolver.resolveArgument(memberIdParameter, null, new ServletWebRequest(request), null));
+
+        request.setCookies(new Cookie("jwt", "expired"));
+        when(jwtTokenProvider.getUserIdFromToken("expired")).thenThrow(new ExpiredJwtException(null, null, "expired"));
+        assertThrows(UnauthorizedException.class,
+                () -> resolver.resolveArgument(userParameter, null, new ServletWebRequest(request), null));
+        verifyNoInteractions(userService);
+    }
+}
@@ -0,0 +1,81 @@
+package com.causwe.backend.security;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtTokenProviderTest {
+
+    private static final String SECRET = "Y2F1c3dlLWJhY2tlbmQtdGVzdC1zZWNyZXQta2V5LTMyYnl0ZXM=";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 3600, 100, ticker);
+    }
+
+    @Test
+    public void testGetUserIdFromToken_CachesVerifiedToken() {
+        String token = jwtTokenProvider.generateToken(7L);
+
+        assertEquals(7L, jwtTokenProvider.getUserIdFromToken(token));
+        assertEquals(7L, jwtTokenProvider.getUserIdFromToken(token));
+        assertEquals(1, jwtTokenProvider.cachedTokenCount());
+    }
+
+    @Test
+    public void testCachedTokenDropsAtExpiry() {
+        jwtTokenProvider.getUserIdFromToken(jwtTokenProvider.generateToken(7L));
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(3599));
+        assertEquals(1, jwtTokenProvider.cachedTokenCount());
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertEquals(0, jwtTokenProvider.cachedTokenCount());
+    }
+
+    @Test
+    public void testExpiryFollowsTickerFromVerification() {
+        // ticker 원점은 임의의 값이므로, 남은 수명은 검증 시점의 ticker 시각을 기준으로 잡아야 한다.
+        // exp 클레임은 초 단위라 남은 수명이 3599초보다 조금 짧을 수 있다.
+        nanos.set(TimeUnit.DAYS.toNanos(400));
+        String token = jwtTokenProvider.generateToken(7L);
+        jwtTokenProvider.getUserIdFromToken(token);
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(3598));
+        assertEquals(1, jwtTokenProvider.cachedTokenCount());
+        assertEquals(7L, jwtTokenProvider.getUserIdFromToken(token));
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(3));
+        assertEquals(0, jwtTokenProvider.cachedTokenCount());
+    }
+
+    @Test
+    public void testRejectedTokensAreNotCached() {
+        String token = jwtTokenProvider.generateToken(7L);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(SignatureException.class, () -> jwtTokenProvider.getUserIdFromToken(tampered));
+        IllegalArgumentException missing = assertThrows(IllegalArgumentException.class, () -> jwtTokenProvider.getUserIdFromToken(null));
+        assertEquals("JWT token is missing", missing.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> jwtTokenProvider.getUserIdFromToken(""));
+
+        JwtTokenProvider expiredTokens = new JwtTokenProvider(SECRET, -1, 100, ticker);
+        String expired = expiredTokens.generateToken(7L);
+        assertThrows(ExpiredJwtException.class, () -> expiredTokens.getUserIdFromToken(expired));
+
+        assertEquals(0, jwtTokenProvider.cachedTokenCount());
+        assertEquals(0, expiredTokens.cachedTokenCount());
+    }
+}
@@ -0,0 +1,94 @@
+package com.causwe.backend.security;
+
+import com.causwe.backend.config.SecurityConfiguration;
+import com.causwe.backend.exceptions.PasswordHashingBusyException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordHasherTest {
+
+    private final PasswordEncoder passwordEncoder = new SecurityConfiguration().passwordEncoder(5);
+
+    @Test
+    public void testLegacyHashMatchesAndNeedsRehash() {
+        PasswordHasher passwordHasher = new PasswordHasher(passwordEncoder, 1, 10, Duration.ofSeconds(5));
+        String legacy = new BCryptPasswordEncoder(5).encode("secret");
+
+        assertTrue(passwordHasher.matches("secret", legacy));
+        assertFalse(passwordHasher.matches("wrong", legacy));
+        assertTrue(passwordHasher.needsRehash(legacy));
+    }
+
+    @Test
+    public void testRehashWhenStrengthChanges() {
+        PasswordHasher passwordHasher = new PasswordHasher(passwordEncoder, 1, 10, Duration.ofSeconds(5));
+        String current = passwordHasher.encode("secret");
+        String weaker = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("secret");
+
+        assertTrue(current.startsWith("{bcrypt}$2a$05$"));
+        assertFalse(passwordHasher.needsRehash(current));
+        assertTrue(passwordHasher.needsRehash(weaker));
+        assertTrue(passwordHasher.matches("secret", weaker));
+    }
+
+    @Test
+    public void testBusyWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slowEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return true;
+            }
+        };
+        PasswordHasher passwordHasher = new PasswordHasher(slowEncoder, 1, 1, Duration.ofSeconds(5));
+
+        passwordHasher.encodeLater("first");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        passwordHasher.encodeLater("queued");
+        assertThrows(PasswordHashingBusyException.class, () -> passwordHasher.matches("secret", "hash"));
+        release.countDown();
+    }
+
+    @Test
+    public void testBusyAfterTimeout() {
+        PasswordEncoder stuckEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return "hash";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    Thread.sleep(5000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+        PasswordHasher passwordHasher = new PasswordHasher(stuckEncoder, 1, 1, Duration.ofMillis(50));
+
+        assertThrows(PasswordHashingBusyException.class, () -> passwordHasher.matches("secret", "hash"));
+    }
+}
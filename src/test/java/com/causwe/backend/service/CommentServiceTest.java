@@ -1,11 +1,13 @@
 package com.causwe.backend.service;
 
+import com.causwe.backend.cache.ProjectChangedEvent;
 import com.causwe.backend.exceptions.CommentNotFoundException;
 import com.causwe.backend.exceptions.UnauthorizedException;
 import com.causwe.backend.model.Admin;
 import com.causwe.backend.model.Comment;
 import com.causwe.backend.model.Developer;
 import com.causwe.backend.model.Issue;
+import com.causwe.backend.model.Project;
 import com.causwe.backend.model.User;
 import com.causwe.backend.repository.CommentRepository;
 
@@ -13,9 +15,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -38,6 +42,12 @@ public class CommentServiceTest {
     @Mock
     private IssueService issueService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private IssueRollupService issueRollupService;
+
     @InjectMocks
     private CommentServiceImpl commentService;
 
@@ -63,6 +73,9 @@ public class CommentServiceTest {
         issue = new Issue();
         issue.setId(1L);
         issue.setTitle("Test Issue");
+        Project project = new Project("Test Project");
+        project.setId(1L);
+        issue.setProject(project);
 
         comment1 = new Comment(issue, admin, "Test Comment1");
         comment1.setId(1L);
@@ -97,6 +110,11 @@ public class CommentServiceTest {
         Comment addedComment = commentService.addComment(1L, comment1, 2L);
         assertNotNull(addedComment);
         assertEquals("Test Comment1", addedComment.getContent());
+        verify(issueRollupService).commentsChanged(issue, 1);
+
+        ArgumentCaptor<ProjectChangedEvent> event = ArgumentCaptor.forClass(ProjectChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(List.of("project:1:comments", "issue:1"), event.getValue().getTags());
     }
 
     @Test
@@ -116,6 +134,7 @@ public class CommentServiceTest {
         boolean result = commentService.deleteComment(1L, 1L);
         assertTrue(result);
         verify(commentRepository, times(1)).deleteById(1L);
+        verify(issueRollupService).commentsChanged(comment1.getIssue(), -1);
     }
 
     @Test
@@ -169,6 +188,10 @@ public class CommentServiceTest {
         Comment updatedComment = commentService.updateComment(2L, updatedData, 2L);
         assertNotNull(updatedComment);
         assertEquals("Updated Comment", updatedComment.getContent());
+
+        ArgumentCaptor<ProjectChangedEvent> event = ArgumentCaptor.forClass(ProjectChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(List.of("issue:1"), event.getValue().getTags());
     }
 
     @Test
@@ -0,0 +1,147 @@
+package com.causwe.backend.service;
+
+import com.causwe.backend.model.Developer;
+import com.causwe.backend.model.Issue;
+import com.causwe.backend.model.Project;
+import com.causwe.backend.model.Tester;
+import com.causwe.backend.model.User;
+import com.causwe.backend.repository.IssueStatsRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class IssueRollupServiceTest {
+
+    @Mock
+    private IssueStatsRepository issueStatsRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private IssueRollupServiceImpl issueRollupService;
+
+    private Issue issue;
+    private User dev;
+    private LocalDate day;
+
+    @BeforeEach
+    public void setUp() {
+        Project project = new Project("Test Project");
+        project.setId(1L);
+
+        User tester = new Tester();
+        tester.setId(2L);
+        dev = new Developer();
+        dev.setId(3L);
+
+        issue = new Issue("Issue", "Description", Issue.Priority.MAJOR, tester);
+        issue.setId(10L);
+        issue.setProject(project);
+        issue.setReportedDate(LocalDateTime.of(2024, 5, 1, 13, 30));
+        day = LocalDate.of(2024, 5, 1);
+    }
+
+    @Test
+    public void testIssueCreated() {
+        issueRollupService.issueCreated(issue);
+
+        verify(issueStatsRepository).addDailyStat(1L, day, "NEW", "MAJOR", 1, 1);
+        verify(issueStatsRepository, never()).addFixerStat(anyLong(), anyLong(), anyString(), anyLong());
+    }
+
+    @Test
+    public void testIssueAssigned_MovesDailyBucket() {
+        Issue before = new Issue(issue);
+        issue.setAssignee(dev);
+        issue.setStatus(Issue.Status.ASSIGNED);
+
+        issueRollupService.issueChanged(before, issue);
+
+        verify(issueStatsRepository).addDailyStat(1L, day, "NEW", "MAJOR", -1, -1);
+        verify(issueStatsRepository).addDailyStat(1L, day, "ASSIGNED", "MAJOR", 1, 0);
+        verify(issueStatsRepository).lockProjectShared(IssueRollupServiceImpl.LOCK_NAMESPACE, 1);
+        verifyNoMoreInteractions(issueStatsRepository);
+    }
+
+    @Test
+    public void testIssueResolved_MovesFixerBucket() {
+        issue.setAssignee(dev);
+        issue.setFixer(dev);
+        issue.setStatus(Issue.Status.FIXED);
+        Issue before = new Issue(issue);
+        issue.setStatus(Issue.Status.RESOLVED);
+
+        issueRollupService.issueChanged(before, issue);
+
+        verify(issueStatsRepository).addDailyStat(1L, day, "FIXED", "MAJOR", -1, 0);
+        verify(issueStatsRepository).addDailyStat(1L, day, "RESOLVED", "MAJOR", 1, 0);
+        verify(issueStatsRepository).addFixerStat(1L, 3L, "FIXED", -1);
+        verify(issueStatsRepository).addFixerStat(1L, 3L, "RESOLVED", 1);
+    }
+
+    @Test
+    public void testIssueTitleChanged_NoRollupWrites() {
+        Issue before = new Issue(issue);
+        issue.setTitle("Renamed");
+
+        issueRollupService.issueChanged(before, issue);
+
+        verifyNoInteractions(issueStatsRepository);
+    }
+
+    @Test
+    public void testCommentsChanged() {
+        issueRollupService.commentsChanged(issue, -1);
+
+        verify(issueStatsRepository).addCommentStat(10L, 1L, -1);
+    }
+
+    @Test
+    public void testProjectDeleted() {
+        issueRollupService.projectDeleted(1L);
+
+        verify(issueStatsRepository).deleteDailyStats(1L);
+        verify(issueStatsRepository).deleteFixerStats(1L);
+        verify(issueStatsRepository).deleteCommentStats(1L);
+        verify(issueStatsRepository).deleteBackfillMarker(1L);
+    }
+
+    @Test
+    public void testBackfill_RebuildsUnmarkedProjectsUnderLock() {
+        when(issueStatsRepository.findProjectsToBackfill()).thenReturn(List.of(1L, 2L));
+        when(issueStatsRepository.isBackfilled(1L)).thenReturn(false);
+        // 다른 인스턴스가 잠금을 먼저 잡고 채웠다
+        when(issueStatsRepository.isBackfilled(2L)).thenReturn(true);
+
+        issueRollupService.backfill();
+
+        InOrder inOrder = inOrder(issueStatsRepository, transactionManager);
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(issueStatsRepository).lockProjectExclusive(IssueRollupServiceImpl.LOCK_NAMESPACE, 1);
+        inOrder.verify(issueStatsRepository).deleteDailyStats(1L);
+        inOrder.verify(issueStatsRepository).backfillDailyStats(1L);
+        inOrder.verify(issueStatsRepository).backfillFixerStats(1L);
+        inOrder.verify(issueStatsRepository).backfillCommentStats(1L);
+        inOrder.verify(issueStatsRepository).markBackfilled(1L);
+        inOrder.verify(transactionManager).commit(any());
+        verify(issueStatsRepository).lockProjectExclusive(IssueRollupServiceImpl.LOCK_NAMESPACE, 2);
+        verify(issueStatsRepository, never()).deleteDailyStats(2L);
+        verify(issueStatsRepository, never()).markBackfilled(2L);
+        verify(transactionManager, times(2)).commit(any());
+    }
+}
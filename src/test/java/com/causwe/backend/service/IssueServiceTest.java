@@ -1,18 +1,30 @@
 package com.causwe.backend.service;
 
+import com.causwe.backend.cache.ProjectChangedEvent;
+import com.causwe.backend.client.ChatCompletionClient;
+import com.causwe.backend.config.CacheConfig;
+import com.causwe.backend.dto.IssueSummary;
+import com.causwe.backend.embedding.IssueEmbeddingPipeline;
+import com.causwe.backend.exceptions.ChatCompletionBusyException;
+import com.causwe.backend.exceptions.InvalidQueryException;
 import com.causwe.backend.exceptions.IssueNotFoundException;
 import com.causwe.backend.exceptions.UnauthorizedException;
 import com.causwe.backend.model.Admin;
 import com.causwe.backend.model.Developer;
 import com.causwe.backend.model.Issue;
 import com.causwe.backend.model.Project;
+import com.causwe.backend.model.ProjectLead;
 import com.causwe.backend.model.Tester;
 import com.causwe.backend.model.User;
+import com.causwe.backend.nlsearch.NlQueryValidator;
 import com.causwe.backend.repository.IssueRepository;
+import com.causwe.backend.util.CursorPage;
+import com.causwe.backend.util.IssueCursor;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -20,17 +32,31 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -48,6 +74,18 @@ public class IssueServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private IssueRollupService issueRollupService;
+
+    @Mock
+    private IssueEmbeddingPipeline issueEmbeddingPipeline;
+
+    @Mock
+    private UserLookup userLookup;
+
     @Mock
     private EntityManager entityManager;
 
@@ -68,7 +106,7 @@ public class IssueServiceTest {
     @BeforeEach
     public void setUp() throws IOException {
         // Initialize CacheManager and Cache
-        cacheManager = new ConcurrentMapCacheManager("sqlQueries");
+        cacheManager = new ConcurrentMapCacheManager("sqlQueries", "nlQueryPlans");
         cache = cacheManager.getCache("sqlQueries");
         issueService.setCacheManager(cacheManager);
 
@@ -105,21 +143,177 @@ public class IssueServiceTest {
         // Initialize the MockWebServer
         mockWebServer = new MockWebServer();
         mockWebServer.start();
+        issueService.setChatCompletionClient(new ChatCompletionClient(mockWebServer.url("/openai/v1").toString(), "test-key",
+                Duration.ofSeconds(1), Duration.ofSeconds(5), Duration.ofSeconds(10), 4));
+        issueService.setNlQueryValidator(new NlQueryValidator(100));
     }
 
     @Test
     public void testGetAllIssues() {
-        List<Issue> issues = Arrays.asList(issue1, issue2);
+        List<IssueSummary> issues = Arrays.asList(summary(issue1, 1), summary(issue2, 1));
 
-        when(issueRepository.IssuesByProjectAndUser(1L, 3L)).thenReturn(issues);
+        when(userService.getUserById(3L)).thenReturn(tester);
+        when(issueRepository.findIssuesForTester(1L, 3L, -1, Long.MAX_VALUE, Integer.MAX_VALUE)).thenReturn(issues);
 
-        List<Issue> foundIssue = issueService.getAllIssues(1L, 3L);
+        List<IssueSummary> foundIssue = issueService.getAllIssues(1L, 3L);
 
         assertNotNull(foundIssue);
         assertEquals(2, foundIssue.size());
         assertEquals(issues, foundIssue);
     }
 
+    @Test
+    public void testGetAllIssues_Developer() {
+        issue2.setAssignee(dev);
+        List<IssueSummary> issues = Arrays.asList(summary(issue2, 0), summary(issue1, 2));
+
+        when(userService.getUserById(2L)).thenReturn(dev);
+        when(issueRepository.findIssuesForDeveloper(1L, 2L, -1, Long.MAX_VALUE, Integer.MAX_VALUE)).thenReturn(issues);
+
+        List<IssueSummary> foundIssue = issueService.getAllIssues(1L, 2L);
+
+        assertEquals(issues, foundIssue);
+        assertEquals("dev", foundIssue.get(0).getAssigneeUsername());
+        verify(issueRepository, never()).findIssuesForTester(anyLong(), anyLong(), anyInt(), anyLong(), anyInt());
+    }
+
+    @Test
+    public void testGetAllIssues_CachedPerRoleForProjectLead() {
+        issueService.setCacheManager(new ConcurrentMapCacheManager("issues"));
+        User lead1 = new ProjectLead();
+        lead1.setId(10L);
+        User lead2 = new ProjectLead();
+        lead2.setId(11L);
+        List<IssueSummary> issues = Arrays.asList(summary(issue1, 0), summary(issue2, 2));
+
+        when(userService.getUserById(10L)).thenReturn(lead1);
+        when(userService.getUserById(11L)).thenReturn(lead2);
+        when(issueRepository.findIssuesForProjectLead(1L, -1, Long.MAX_VALUE, Integer.MAX_VALUE)).thenReturn(issues);
+
+        assertEquals(issues, issueService.getAllIssues(1L, 10L));
+        assertEquals(issues, issueService.getAllIssues(1L, 11L));
+
+        verify(issueRepository, times(1)).findIssuesForProjectLead(1L, -1, Long.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void testGetAllIssues_ConcurrentMissLoadsOnceOutsideCacheLock() throws Exception {
+        CacheManager caffeineCacheManager = new CacheConfig().cacheManager("maximumSize=100", 10, Duration.ofHours(1),
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        issueService.setCacheManager(caffeineCacheManager);
+        User lead = new ProjectLead();
+        lead.setId(10L);
+        List<IssueSummary> issues = List.of(summary(issue1, 0));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(userService.getUserById(10L)).thenReturn(lead);
+        when(issueRepository.findIssuesForProjectLead(1L, -1, Long.MAX_VALUE, Integer.MAX_VALUE)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return issues;
+        });
+
+        CompletableFuture<List<IssueSummary>> first = CompletableFuture.supplyAsync(() -> issueService.getAllIssues(1L, 10L));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        CompletableFuture<List<IssueSummary>> second = CompletableFuture.supplyAsync(() -> issueService.getAllIssues(1L, 10L));
+        // 계산 중에도 같은 캐시의 다른 항목은 막히지 않는다
+        caffeineCacheManager.getCache("issues").put("other", List.of());
+        release.countDown();
+
+        assertEquals(issues, first.get(5, TimeUnit.SECONDS));
+        assertEquals(issues, second.get(5, TimeUnit.SECONDS));
+        verify(issueRepository, times(1)).findIssuesForProjectLead(1L, -1, Long.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void testGetAllIssues_FailedLoadIsNotCached() {
+        issueService.setCacheManager(new CacheConfig().cacheManager("maximumSize=100", 10, Duration.ofHours(1),
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class)));
+        User lead = new ProjectLead();
+        lead.setId(10L);
+
+        when(userService.getUserById(10L)).thenReturn(lead);
+        when(issueRepository.findIssuesForProjectLead(1L, -1, Long.MAX_VALUE, Integer.MAX_VALUE))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(List.of());
+
+        assertThrows(IllegalStateException.class, () -> issueService.getAllIssues(1L, 10L));
+        assertEquals(List.of(), issueService.getAllIssues(1L, 10L));
+    }
+
+    @Test
+    public void testGetAllIssues_LoadFailingWithErrorDoesNotBlockLaterCallers() {
+        issueService.setCacheManager(new CacheConfig().cacheManager("maximumSize=100", 10, Duration.ofHours(1),
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class)));
+        User lead = new ProjectLead();
+        lead.setId(10L);
+
+        when(userService.getUserById(10L)).thenReturn(lead);
+        when(issueRepository.findIssuesForProjectLead(1L, -1, Long.MAX_VALUE, Integer.MAX_VALUE))
+                .thenThrow(new StackOverflowError())
+                .thenReturn(List.of());
+
+        assertThrows(StackOverflowError.class, () -> issueService.getAllIssues(1L, 10L));
+        assertEquals(List.of(), assertTimeoutPreemptively(Duration.ofSeconds(5), () -> issueService.getAllIssues(1L, 10L)));
+    }
+
+    @Test
+    public void testGetAllIssues_CachedPerMemberForTester() {
+        issueService.setCacheManager(new ConcurrentMapCacheManager("issues"));
+        User otherTester = new Tester();
+        otherTester.setId(4L);
+
+        when(userService.getUserById(3L)).thenReturn(tester);
+        when(userService.getUserById(4L)).thenReturn(otherTester);
+        when(issueRepository.findIssuesForTester(eq(1L), anyLong(), eq(-1), eq(Long.MAX_VALUE), eq(Integer.MAX_VALUE)))
+                .thenReturn(List.of(summary(issue1, 1)));
+
+        issueService.getAllIssues(1L, 3L);
+        issueService.getAllIssues(1L, 3L);
+        issueService.getAllIssues(1L, 4L);
+
+        verify(issueRepository, times(1)).findIssuesForTester(1L, 3L, -1, Long.MAX_VALUE, Integer.MAX_VALUE);
+        verify(issueRepository, times(1)).findIssuesForTester(1L, 4L, -1, Long.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void testGetIssuesPage_HasNext() {
+        List<IssueSummary> issues = Arrays.asList(summary(issue2, 1), summary(issue1, 1));
+
+        when(userService.getUserById(3L)).thenReturn(tester);
+        when(issueRepository.findIssuesForTester(1L, 3L, -1, Long.MAX_VALUE, 2)).thenReturn(issues);
+
+        CursorPage<IssueSummary> page = issueService.getIssuesPage(1L, 3L, null, 1);
+
+        assertEquals(1, page.getItems().size());
+        assertEquals(issue2.getId(), page.getItems().get(0).getId());
+        IssueCursor next = IssueCursor.decode(page.getNextCursor());
+        assertEquals(1, next.getBucket());
+        assertEquals(2L, next.getId());
+    }
+
+    @Test
+    public void testGetIssuesPage_LastPage() {
+        String cursor = new IssueCursor(1, 2L).encode();
+        List<IssueSummary> issues = List.of(summary(issue1, 1));
+
+        when(userService.getUserById(3L)).thenReturn(tester);
+        when(issueRepository.findIssuesForTester(1L, 3L, 1, 2L, 51)).thenReturn(issues);
+
+        CursorPage<IssueSummary> page = issueService.getIssuesPage(1L, 3L, cursor, 50);
+
+        assertEquals(issues, page.getItems());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    public void testGetIssuesPage_InvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            issueService.getIssuesPage(1L, 3L, "not-a-cursor", 50);
+        });
+    }
+
     @Test
     public void testGetIssueById_Success() {
         when(issueRepository.findById(1L)).thenReturn(Optional.of(issue1));
@@ -149,6 +343,9 @@ public class IssueServiceTest {
 
         assertNotNull(result);
         assertEquals(issue1.getTitle(), result.getTitle());
+        verify(eventPublisher).publishEvent(any(ProjectChangedEvent.class));
+        verify(issueRollupService).issueCreated(result);
+        verify(issueEmbeddingPipeline).submit(issue1.getId(), issue1.getTitle());
     }
 
     @Test
@@ -176,7 +373,7 @@ public class IssueServiceTest {
         updatedIssue.setAssignee(dev);
 
         when(userService.getUserById(1L)).thenReturn(admin);
-        when(issueRepository.findById(1L)).thenReturn(Optional.of(issue1));
+        when(issueRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(issue1));
         when(issueRepository.save(any(Issue.class))).thenReturn(updatedIssue);
 
         Issue result = issueService.updateIssue(1L, updatedIssue, 1L);
@@ -185,6 +382,12 @@ public class IssueServiceTest {
         assertEquals(updatedIssue.getTitle(), result.getTitle());
         assertEquals(updatedIssue.getStatus(), result.getStatus());
         assertEquals(dev, result.getAssignee());
+        verify(issueRollupService).issueChanged(any(Issue.class), eq(result));
+        verify(issueEmbeddingPipeline).submit(1L, "Updated Issue");
+
+        ArgumentCaptor<ProjectChangedEvent> event = ArgumentCaptor.forClass(ProjectChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(List.of("project:1:issues", "project:1:stats", "project:1:recommendations", "issue:1"), event.getValue().getTags());
     }
 
     @Test
@@ -192,7 +395,7 @@ public class IssueServiceTest {
         Issue updatedIssue = new Issue("Test Issue1", "Issue Description", Issue.Priority.MAJOR, tester);
 
         when(userService.getUserById(1L)).thenReturn(admin);
-        when(issueRepository.findById(1L)).thenReturn(Optional.empty());
+        when(issueRepository.findByIdForUpdate(1L)).thenReturn(Optional.empty());
 
         assertThrows(IssueNotFoundException.class, () -> {
             issueService.updateIssue(1L, updatedIssue, 1L);
@@ -204,13 +407,31 @@ public class IssueServiceTest {
         Issue updatedIssue = new Issue("Test Issue1", "Issue Description", Issue.Priority.MAJOR, tester);
 
         when(userService.getUserById(1L)).thenReturn(admin);
-        when(issueRepository.findById(1L)).thenReturn(Optional.of(issue1));
+        when(issueRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(issue1));
 
         assertThrows(UnauthorizedException.class, () -> {
             issueService.updateIssue(1L, updatedIssue, 1L);
         });
     }
 
+    @Test
+    public void testUpdateIssue_Unauthorized_NotChangedWithOtherUserInstances() {
+        // 캐시된 사용자와 이슈에 로딩된 사용자는 id만 같고 인스턴스가 다르다
+        Developer cachedDev = new Developer();
+        cachedDev.setId(dev.getId());
+        issue1.setStatus(Issue.Status.FIXED);
+        issue1.setFixer(dev);
+        Issue updatedIssue = new Issue();
+        updatedIssue.setStatus(Issue.Status.FIXED);
+
+        when(userService.getUserById(2L)).thenReturn(cachedDev);
+        when(issueRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(issue1));
+
+        assertThrows(UnauthorizedException.class, () -> issueService.updateIssue(1L, updatedIssue, 2L));
+        verify(issueRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher, issueRollupService);
+    }
+
     @Test
     public void testUpdateIssue_Unauthorized_NotLoggedIn() {
         Issue updatedIssue = new Issue("Updated Issue", "Updated Description", Issue.Priority.MAJOR, tester);
@@ -226,30 +447,29 @@ public class IssueServiceTest {
     public void testSearchIssues_ByAssignee() {
         issue1.setAssignee(dev);
         issue2.setAssignee(dev);
-        List<Issue> issues = Arrays.asList(issue1, issue2);
+        List<IssueSummary> issues = Arrays.asList(summary(issue1, null), summary(issue2, null));
 
         when(projectService.getProjectById(1L)).thenReturn(project);
-        when(userService.getUserByUsername("dev")).thenReturn(dev);
-        when(issueRepository.findByProjectAndAssigneeOrderByIdDesc(project, dev)).thenReturn(issues);
+        when(issueRepository.findSummariesByAssignee(1L, "dev")).thenReturn(issues);
 
-        List<Issue> result = issueService.searchIssues(1L, "dev", null, null, 1L);
+        List<IssueSummary> result = issueService.searchIssues(1L, "dev", null, null, 1L);
 
         assertNotNull(result);
         assertEquals(2, result.size());
         assertEquals(issue1.getTitle(), result.get(0).getTitle());
+        verify(userService, never()).getUserByUsername(anyString());
     }
 
     @Test
     public void testSearchIssues_ByReporter() {
         issue1.setReporter(tester);
         issue2.setReporter(tester);
-        List<Issue> issues = Arrays.asList(issue1, issue2);
+        List<IssueSummary> issues = Arrays.asList(summary(issue1, null), summary(issue2, null));
 
         when(projectService.getProjectById(1L)).thenReturn(project);
-        when(userService.getUserByUsername("tester")).thenReturn(tester);
-        when(issueRepository.findByProjectAndReporterOrderByIdDesc(project, tester)).thenReturn(issues);
+        when(issueRepository.findSummariesByReporter(1L, "tester")).thenReturn(issues);
 
-        List<Issue> result = issueService.searchIssues(1L, null, "tester", null, 1L);
+        List<IssueSummary> result = issueService.searchIssues(1L, null, "tester", null, 1L);
 
         assertNotNull(result);
         assertEquals(2, result.size());
@@ -260,26 +480,42 @@ public class IssueServiceTest {
     public void testSearchIssues_ByStatus() {
         issue1.setStatus(Issue.Status.ASSIGNED);
         issue2.setStatus(Issue.Status.ASSIGNED);
-        List<Issue> issues = Arrays.asList(issue1, issue2);
+        List<IssueSummary> issues = Arrays.asList(summary(issue1, null), summary(issue2, null));
 
         when(projectService.getProjectById(1L)).thenReturn(project);
-        when(issueRepository.findByProjectAndStatusOrderByIdDesc(project, Issue.Status.ASSIGNED)).thenReturn(issues);
+        when(issueRepository.findSummariesByStatus(1L, "ASSIGNED")).thenReturn(issues);
 
-        List<Issue> result = issueService.searchIssues(1L, null, null, Issue.Status.ASSIGNED, 1L);
+        List<IssueSummary> result = issueService.searchIssues(1L, null, null, Issue.Status.ASSIGNED, 1L);
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        assertEquals(issue1.getTitle(), result.get(0).getTitle());
+        assertEquals(Issue.Status.ASSIGNED, result.get(0).getStatus());
+    }
+
+    @Test
+    public void testSearchIssues_CachedAcrossMembers() {
+        issueService.setCacheManager(new ConcurrentMapCacheManager("issuesBySearch"));
+        List<IssueSummary> issues = List.of(summary(issue1, null));
+
+        when(projectService.getProjectById(1L)).thenReturn(project);
+        when(issueRepository.findSummariesByStatus(1L, "NEW")).thenReturn(issues);
+
+        issueService.searchIssues(1L, null, null, Issue.Status.NEW, 1L);
+        List<IssueSummary> result = issueService.searchIssues(1L, null, null, Issue.Status.NEW, 3L);
+
+        assertEquals(issues, result);
+        verify(issueRepository, times(1)).findSummariesByStatus(1L, "NEW");
     }
 
     @Test
     public void testSearchIssues_Default() {
-        List<Issue> issues = Arrays.asList(issue1, issue2);
+        List<IssueSummary> issues = Arrays.asList(summary(issue1, 2), summary(issue2, 2));
 
         when(projectService.getProjectById(1L)).thenReturn(project);
-        when(issueRepository.IssuesByProjectAndUser(1L, 1L)).thenReturn(issues);
+        when(userService.getUserById(1L)).thenReturn(admin);
+        when(issueRepository.findIssuesForAdmin(1L, -1, Long.MAX_VALUE, Integer.MAX_VALUE)).thenReturn(issues);
 
-        List<Issue> result = issueService.searchIssues(1L, null, null, null, 1L);
+        List<IssueSummary> result = issueService.searchIssues(1L, null, null, null, 1L);
 
         assertNotNull(result);
         assertEquals(2, result.size());
@@ -288,24 +524,29 @@ public class IssueServiceTest {
 
     @Test
     public void testSearchIssuesByNL_CachedHit() throws IOException {
-        String cacheKey = "sqlQuery::1::find all issues::3";
+        String cacheKey = "sqlQuery::1::issues";
         String cachedSqlQuery = "SELECT * FROM issues WHERE project_id = 1 ORDER BY reported_date DESC";
         cache.put(cacheKey, cachedSqlQuery);
 
+        String template = "SELECT issues.* FROM issues WHERE issues.project_id = ?2 AND (project_id = ?1) ORDER BY reported_date DESC LIMIT ?3";
         Query query = mock(Query.class);
-        when(entityManager.createNativeQuery(cachedSqlQuery, Issue.class)).thenReturn(query);
+        when(entityManager.createNativeQuery(template, Issue.class)).thenReturn(query);
         when(query.getResultList()).thenReturn(List.of(issue1, issue2));
 
         List<Issue> issues = issueService.searchIssuesByNL(1L, "find all issues", 3L);
 
         assertEquals(2, issues.size());
-        verify(entityManager, times(1)).createNativeQuery(cachedSqlQuery, Issue.class);
+        verify(entityManager, times(1)).createNativeQuery(template, Issue.class);
+        verify(query).setParameter(1, 1L);
+        verify(query).setParameter(2, 1L);
+        verify(query).setParameter(3, 100L);
+        verify(query).setHint("jakarta.persistence.query.timeout", 5000L);
         verify(query, times(1)).getResultList();
     }
 
     @Test
-    public void testSearchIssuesByNL_CacheMiss() throws IOException {
-        String cacheKey = "sqlQuery::1::find all issues::3";
+    public void testSearchIssuesByNL_CacheMiss() throws Exception {
+        String cacheKey = "sqlQuery::1::issues";
         assertNull(cache.get(cacheKey, String.class));
 
         String jsonResponse = "{\n" +
@@ -321,7 +562,7 @@ public class IssueServiceTest {
                 .setBody(jsonResponse)
                 .addHeader("Content-Type", "application/json"));
 
-        String expectedSqlQuery = "SELECT * FROM issues WHERE project_id = 1 ORDER BY reported_date DESC";
+        String expectedSqlQuery = "SELECT issues.* FROM issues WHERE issues.project_id = ?2 AND (project_id = ?1) ORDER BY reported_date DESC LIMIT ?3";
         Query query = mock(Query.class);
         when(entityManager.createNativeQuery(expectedSqlQuery, Issue.class)).thenReturn(query);
         when(query.getResultList()).thenReturn(List.of(issue1, issue2));
@@ -330,10 +571,82 @@ public class IssueServiceTest {
 
         assertEquals(2, issues.size());
         assertNotNull(cache.get(cacheKey, String.class));
+        assertEquals("/openai/v1/chat/completions", mockWebServer.takeRequest().getPath());
         verify(entityManager, times(1)).createNativeQuery(expectedSqlQuery, Issue.class);
         verify(query, times(1)).getResultList();
     }
 
+    @Test
+    public void testSearchIssuesByNL_SlowCompletionIsBusy() {
+        mockWebServer.enqueue(new MockResponse()
+                .setBody("{\"choices\":[{\"message\":{\"content\":\"SELECT * FROM issues\"}}]}")
+                .setHeadersDelay(2, TimeUnit.SECONDS));
+        issueService.setNlCompletionTimeout(Duration.ofMillis(200));
+
+        assertThrows(ChatCompletionBusyException.class, () -> issueService.searchIssuesByNL(1L, "slow issues", 3L));
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    public void testSearchIssuesByNL_RephrasedPromptSharesGeneratedSql() throws IOException {
+        cache.put("sqlQuery::1::new issues", "SELECT * FROM issues WHERE status = 'NEW'");
+
+        String template = "SELECT issues.* FROM issues WHERE issues.project_id = ?2 AND (status = ?1) LIMIT ?3";
+        Query query = mock(Query.class);
+        when(entityManager.createNativeQuery(template, Issue.class)).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of(issue1));
+
+        List<Issue> issues = issueService.searchIssuesByNL(1L, "  Show me all NEW issues, please! ", 4L);
+
+        assertEquals(1, issues.size());
+        assertEquals(0, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    public void testSearchIssuesByNL_PlanCachedByTemplateAcrossProjects() throws IOException {
+        cache.put("sqlQuery::1::new issues", "SELECT * FROM issues WHERE status = 'NEW'");
+        cache.put("sqlQuery::2::closed issues", "SELECT * FROM issues WHERE status = 'CLOSED' LIMIT 10");
+
+        String template = "SELECT issues.* FROM issues WHERE issues.project_id = ?2 AND (status = ?1) LIMIT ?3";
+        Query query = mock(Query.class);
+        when(entityManager.createNativeQuery(template, Issue.class)).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of(issue1));
+
+        issueService.searchIssuesByNL(1L, "new issues", 4L);
+        issueService.searchIssuesByNL(2L, "closed issues", 4L);
+
+        ConcurrentMap<?, ?> plans = (ConcurrentMap<?, ?>) cacheManager.getCache("nlQueryPlans").getNativeCache();
+        assertEquals(1, plans.size());
+        verify(query).setParameter(1, "CLOSED");
+        verify(query).setParameter(2, 2L);
+        verify(query).setParameter(3, 10L);
+    }
+
+    @Test
+    public void testSearchIssuesByNL_RunsInReadOnlyTransaction() {
+        cache.put("sqlQuery::1::new issues", "SELECT * FROM issues WHERE status = 'NEW'");
+        Query query = mock(Query.class);
+        when(entityManager.createNativeQuery(anyString(), eq(Issue.class))).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of(issue1));
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        issueService.setTransactionManager(transactionManager);
+
+        assertDoesNotThrow(() -> issueService.searchIssuesByNL(1L, "new issues", 4L));
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertTrue(definition.getValue().isReadOnly());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    public void testSearchIssuesByNL_RejectsGeneratedWrite() {
+        cache.put("sqlQuery::1::delete everything", "DELETE FROM issues");
+
+        assertThrows(InvalidQueryException.class, () -> issueService.searchIssuesByNL(1L, "delete everything", 3L));
+        verifyNoInteractions(entityManager);
+    }
+
     @Test
     public void testGetRecommendedAssignees_Success() {
         User dev2 = new Developer();
@@ -355,10 +668,8 @@ public class IssueServiceTest {
         newIssue.setId(3L);
 
         when(issueRepository.existsById(3L)).thenReturn(true);
-        when(issueRepository.findRecommendedAssigneesByIssueId(3L)).thenReturn(assigneeIds);
-        when(userService.getUserById(2L)).thenReturn(dev);
-        when(userService.getUserById(4L)).thenReturn(dev2);
-        when(userService.getUserById(5L)).thenReturn(dev3);
+        when(issueRepository.findRecommendedAssigneesByIssueId(3L, 100, 3)).thenReturn(assigneeIds);
+        when(userLookup.inOrder(assigneeIds)).thenReturn(List.of(dev, dev2, dev3));
 
         List<User> result = issueService.getRecommendedAssignees(3L);
 
@@ -367,6 +678,20 @@ public class IssueServiceTest {
         assertEquals(dev.getId(), result.get(0).getId());
     }
 
+    @Test
+    public void testGetRecommendedAssignees_SameProject() {
+        issueService.setRecommendFromSameProject(true);
+        issueService.setRecommendationCount(1);
+        when(issueRepository.existsById(3L)).thenReturn(true);
+        when(issueRepository.findRecommendedAssigneesInProjectByIssueId(3L, 100, 1)).thenReturn(List.of(dev.getId()));
+        when(userLookup.inOrder(List.of(dev.getId()))).thenReturn(List.of(dev));
+
+        List<User> result = issueService.getRecommendedAssignees(3L);
+
+        assertEquals(List.of(dev), result);
+        verify(issueRepository, never()).findRecommendedAssigneesByIssueId(anyLong(), anyInt(), anyInt());
+    }
+
     @Test
     public void testGetRecommendedAssignees_NotFound() {
         when(issueRepository.existsById(3L)).thenReturn(false);
@@ -375,4 +700,18 @@ public class IssueServiceTest {
             issueService.getRecommendedAssignees(3L);
         });
     }
-}
\ No newline at end of file
+
+    // 네이티브 쿼리 결과와 같은 방식(Map 기반 프로젝션)으로 요약 행을 만든다
+    private IssueSummary summary(Issue issue, Integer bucket) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", issue.getId());
+        row.put("title", issue.getTitle());
+        row.put("reportedDate", issue.getReportedDate());
+        row.put("reporterUsername", issue.getReporter() != null ? issue.getReporter().getUsername() : null);
+        row.put("assigneeUsername", issue.getAssignee() != null ? issue.getAssignee().getUsername() : null);
+        row.put("priority", issue.getPriority() != null ? issue.getPriority().name() : null);
+        row.put("status", issue.getStatus() != null ? issue.getStatus().name() : null);
+        row.put("bucket", bucket);
+        return new SpelAwareProxyProjectionFactory().createProjection(IssueSummary.class, row);
+    }
+}
@@ -1,7 +1,8 @@
 package com.causwe.backend.service;
 
 
-import com.causwe.backend.repository.IssueRepository;
+import com.causwe.backend.dto.StatisticsDashboardDTO;
+import com.causwe.backend.repository.IssueStatsRepository;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,7 +24,7 @@ import static org.mockito.Mockito.*;
 public class IssueStatisticsServiceTest {
 
     @Mock
-    private IssueRepository issueRepository;
+    private IssueStatsRepository issueStatsRepository;
 
     @InjectMocks
     private IssueStatisticsServiceImpl issueStatisticsService;
@@ -43,7 +44,7 @@ public class IssueStatisticsServiceTest {
                 new Object[]{"ASSINGED", 3L}
         );
 
-        when(issueRepository.findByProjectPerStatus(1L)).thenReturn(mockResults);
+        when(issueStatsRepository.findByProjectPerStatus(1L)).thenReturn(mockResults);
 
         expected.put("NEW", 5L);
         expected.put("ASSINGED", 3L);
@@ -60,11 +61,11 @@ public class IssueStatisticsServiceTest {
         expected.put("UNASSIGNED", 5L);
         expected.put("Registered Issues", 25L);
 
-        when(issueRepository.countRemainingIssues(1L)).thenReturn(10L);
-        when(issueRepository.countByProjectAndStatus(1L, "RESOLVED")).thenReturn(5L);
-        when(issueRepository.countByProjectAndStatus(1L, "ASSIGNED")).thenReturn(5L);
-        when(issueRepository.countByProjectAndAssigneeIsNull(1L)).thenReturn(5L);
-        when(issueRepository.countByProjectId(1L)).thenReturn(25L);
+        when(issueStatsRepository.countRemainingIssues(1L)).thenReturn(10L);
+        when(issueStatsRepository.countByProjectAndStatus(1L, "RESOLVED")).thenReturn(5L);
+        when(issueStatsRepository.countByProjectAndStatus(1L, "ASSIGNED")).thenReturn(5L);
+        when(issueStatsRepository.countByProjectAndAssigneeIsNull(1L)).thenReturn(5L);
+        when(issueStatsRepository.countByProjectId(1L)).thenReturn(25L);
 
         Map<String, Long> result = issueStatisticsService.getIssueStatusCounts(1L);
         assertEquals(expected, result);
@@ -90,7 +91,7 @@ public class IssueStatisticsServiceTest {
         dev2.put("CLOSED", 0L);
         expectedFixerMap.put("dev2", dev2);
 
-        when(issueRepository.findByProjectPerFixer(1L)).thenReturn(mockFixerResults);
+        when(issueStatsRepository.findByProjectPerFixer(1L)).thenReturn(mockFixerResults);
 
         Map<String, Map<String, Long>> result = issueStatisticsService.getIssuesPerFixer(1L);
         assertEquals(expectedFixerMap, result);
@@ -104,7 +105,7 @@ public class IssueStatisticsServiceTest {
                 new Object[]{"05-02", 3L}
         );
 
-        when(issueRepository.findIssuesPerDayAndStatusInWeek(1L, status)).thenReturn(mockResults);
+        when(issueStatsRepository.findIssuesPerDayAndStatusInWeek(1L, status)).thenReturn(mockResults);
 
         expected.put("05-01", 2L);
         expected.put("05-02", 3L);
@@ -139,7 +140,7 @@ public class IssueStatisticsServiceTest {
         day2.put("REOPENED", 1L);
         expectedDayMap.put("05-02", day2);
 
-        when(issueRepository.findIssuesPerDayAndStatusInWeek(1L)).thenReturn(mockDayResults);
+        when(issueStatsRepository.findIssuesPerDayAndStatusInWeek(1L)).thenReturn(mockDayResults);
 
         Map<String, Map<String, Long>> result = issueStatisticsService.getIssuesPerDayAndStatusInWeek(1L);
         assertEquals(expectedDayMap, result);
@@ -152,7 +153,7 @@ public class IssueStatisticsServiceTest {
                 new Object[]{"Issue2", 7L}
         );
 
-        when(issueRepository.findByProjectOrderByComments(1L)).thenReturn(mockResults);
+        when(issueStatsRepository.findByProjectOrderByComments(1L)).thenReturn(mockResults);
 
         expected.put("Issue1", 10L);
         expected.put("Issue2", 7L);
@@ -168,7 +169,7 @@ public class IssueStatisticsServiceTest {
                 new Object[]{"05-02", 12L}
         );
 
-        when(issueRepository.findByProjectPerDayInMonth(1L)).thenReturn(mockResults);
+        when(issueStatsRepository.findByProjectPerDayInMonth(1L)).thenReturn(mockResults);
 
         expected.put("05-01", 8L);
         expected.put("05-02", 12L);
@@ -185,7 +186,7 @@ public class IssueStatisticsServiceTest {
                 new Object[]{"05-04", 7L}
         );
 
-        when(issueRepository.findIssuesPerDayAndPriorityInWeek(1L, priority)).thenReturn(mockResults);
+        when(issueStatsRepository.findIssuesPerDayAndPriorityInWeek(1L, priority)).thenReturn(mockResults);
 
         expected.put("05-03", 5L);
         expected.put("05-04", 7L);
@@ -201,7 +202,7 @@ public class IssueStatisticsServiceTest {
                 new Object[]{"2024-05", 20L}
         );
 
-        when(issueRepository.findByProjectPerMonth(1L)).thenReturn(mockResults);
+        when(issueStatsRepository.findByProjectPerMonth(1L)).thenReturn(mockResults);
 
         expected.put("2024-04", 15L);
         expected.put("2024-05", 20L);
@@ -217,7 +218,7 @@ public class IssueStatisticsServiceTest {
                 new Object[]{"MINOR", 5L}
         );
 
-        when(issueRepository.findByProjectPerPriorityInMonth(1L)).thenReturn(mockResults);
+        when(issueStatsRepository.findByProjectPerPriorityInMonth(1L)).thenReturn(mockResults);
 
         expected.put("MAJOR", 10L);
         expected.put("MINOR", 5L);
@@ -225,4 +226,40 @@ public class IssueStatisticsServiceTest {
         Map<String, Long> result = issueStatisticsService.getIssuesPerPriorityInMonth(1L);
         assertEquals(expected, result);
     }
+
+    @Test
+    public void testGetDashboard() {
+        mockResults = Arrays.asList(
+                new Object[]{"comments", "Issue1", null, 4L, -4},
+                new Object[]{"dayInMonth", "05-01", null, 2L, -1},
+                new Object[]{"dayInMonth", "05-02", null, 0L, 0},
+                new Object[]{"dayStatusInWeek", "05-01", "NEW", 2L, -1},
+                new Object[]{"dayStatusInWeek", "05-02", null, 0L, 0},
+                new Object[]{"fixer", "dev1", "RESOLVED", 1L, 0},
+                new Object[]{"fixer", "dev2", "CLOSED", 3L, 0},
+                new Object[]{"month", "2024-05", null, 7L, 0},
+                new Object[]{"status", "ASSIGNED", null, 2L, 0},
+                new Object[]{"status", "CLOSED", null, 3L, 0},
+                new Object[]{"status", "NEW", null, 2L, 0},
+                new Object[]{"unassigned", null, null, 2L, 0}
+        );
+        when(issueStatsRepository.findDashboard(1L)).thenReturn(mockResults);
+
+        StatisticsDashboardDTO result = issueStatisticsService.getDashboard(1L);
+
+        assertEquals(Map.of("Issue1", 4L), result.getIssuesOrderByComments());
+        assertEquals(List.of("05-01", "05-02"), List.copyOf(result.getIssuesPerDayInMonth().keySet()));
+        assertEquals(2L, result.getIssuesPerDayAndStatusInWeek().get("05-01").get("NEW"));
+        assertEquals(0L, result.getIssuesPerDayAndStatusInWeek().get("05-01").get("REOPENED"));
+        assertEquals(6, result.getIssuesPerDayAndStatusInWeek().get("05-02").size());
+        assertEquals(List.of("dev2", "dev1"), List.copyOf(result.getIssuesPerFixer().keySet()));
+        assertEquals(Map.of("2024-05", 7L), result.getIssuesPerMonth());
+
+        expected.put("REMAINING", 4L);
+        expected.put("RESOLVED", 0L);
+        expected.put("ASSIGNED", 2L);
+        expected.put("UNASSIGNED", 2L);
+        expected.put("Registered Issues", 7L);
+        assertEquals(expected, result.getIssueStatusCounts());
+    }
 }
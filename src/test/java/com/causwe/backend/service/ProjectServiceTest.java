@@ -1,5 +1,6 @@
 package com.causwe.backend.service;
 
+import com.causwe.backend.cache.ProjectChangedEvent;
 import com.causwe.backend.exceptions.UnauthorizedException;
 import com.causwe.backend.exceptions.ProjectNotFoundException;
 import com.causwe.backend.model.Admin;
@@ -14,12 +15,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +34,12 @@ public class ProjectServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private IssueRollupService issueRollupService;
+
     @InjectMocks
     private ProjectServiceImpl projectService;
 
@@ -130,6 +139,8 @@ public class ProjectServiceTest {
         boolean result = projectService.deleteProject(1L, 1L);
         assertTrue(result);
         verify(projectRepository, times(1)).deleteById(1L);
+        verify(eventPublisher).publishEvent(any(ProjectChangedEvent.class));
+        verify(issueRollupService).projectDeleted(1L);
     }
 
     @Test
@@ -0,0 +1,71 @@
+package com.causwe.backend.service;
+
+import com.causwe.backend.model.Developer;
+import com.causwe.backend.model.Tester;
+import com.causwe.backend.model.User;
+import com.causwe.backend.repository.UserRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserLookupTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserLookup userLookup;
+
+    private User dev;
+    private User tester;
+
+    @BeforeEach
+    public void setUp() {
+        dev = new Developer();
+        dev.setId(2L);
+        dev.setUsername("dev");
+
+        tester = new Tester();
+        tester.setId(3L);
+        tester.setUsername("tester");
+    }
+
+    @Test
+    public void testInOrderKeepsRequestedOrderWithOneQuery() {
+        when(userRepository.findAllById(Set.of(3L, 2L, 9L))).thenReturn(List.of(dev, tester));
+
+        List<User> result = userLookup.inOrder(List.of(3L, 2L, 9L));
+
+        assertEquals(List.of(tester, dev), result);
+        verify(userRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    public void testByUsernames() {
+        when(userRepository.findByUsernameIn(Set.of("dev", "tester"))).thenReturn(List.of(dev, tester));
+
+        Map<String, User> result = userLookup.byUsernames(List.of("dev", "tester", "dev"));
+
+        assertEquals(Map.of("dev", dev, "tester", tester), result);
+    }
+
+    @Test
+    public void testEmptyInputSkipsQuery() {
+        assertEquals(List.of(), userLookup.inOrder(List.of()));
+        assertEquals(Map.of(), userLookup.byIds(List.of()));
+        verifyNoInteractions(userRepository);
+    }
+}
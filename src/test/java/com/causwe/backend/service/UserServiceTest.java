@@ -1,25 +1,39 @@
 package com.causwe.backend.service;
 
+import com.causwe.backend.dto.UserResponseDTO;
 import com.causwe.backend.model.Developer;
+import com.causwe.backend.model.Tester;
 import com.causwe.backend.model.User;
 import com.causwe.backend.repository.UserRepository;
+import com.causwe.backend.security.PasswordHasher;
+import com.causwe.backend.util.CursorPage;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class) 
@@ -29,15 +43,19 @@ public class UserServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private BCryptPasswordEncoder passwordEncoder;
+    private PasswordEncoder passwordEncoder;
 
-    @InjectMocks
     private UserServiceImpl userService;
 
     private User dev;
 
     @BeforeEach
     public void setUp() {
+        UserDirectory userDirectory = new UserDirectory(userRepository, 100, Duration.ofMinutes(10),
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        PasswordHasher passwordHasher = new PasswordHasher(passwordEncoder, 1, 10, Duration.ofSeconds(5));
+        userService = new UserServiceImpl(userRepository, passwordHasher, userDirectory);
+
         dev = new Developer();
         dev.setUsername("dev");
         dev.setPassword("dev");
@@ -79,6 +97,36 @@ public class UserServiceTest {
         assertNull(foundUser);
     }
 
+    @Test
+    public void testGetUserById_ServedFromDirectory() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(dev));
+
+        userService.getUserById(1L);
+        User foundUser = userService.getUserById(1L);
+
+        assertEquals("dev", foundUser.getUsername());
+        // id로 읽은 사용자는 username 색인에도 들어간다
+        assertEquals(dev, userService.getUserByUsername("dev"));
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    public void testCreateUser_InvalidatesDirectory() {
+        when(userRepository.findByUsername("dev")).thenReturn(null);
+        assertNull(userService.getUserByUsername("dev"));
+        assertNull(userService.getUserByUsername("dev"));
+
+        dev.setPassword("encodedPassword");
+        when(userRepository.save(any(User.class))).thenReturn(dev);
+        when(passwordEncoder.encode("dev")).thenReturn("encodedPassword");
+        userService.createUser("dev", "dev", User.Role.DEV);
+
+        when(userRepository.findByUsername("dev")).thenReturn(dev);
+        assertEquals(dev, userService.getUserByUsername("dev"));
+        // 없다는 결과를 한 번 기억하고, createUser 중복 확인에서 한 번, 무효화 후 한 번
+        verify(userRepository, times(3)).findByUsername("dev");
+    }
+
     @Test
     public void testCreateUser_Success() {
         when(userRepository.findByUsername("dev")).thenReturn(null);
@@ -108,6 +156,65 @@ public class UserServiceTest {
         assertEquals(dev.getId(), loginResponse.getId());
     }
 
+    @Test
+    public void testLogin_RehashesOutdatedHash() {
+        when(userRepository.findByUsername("dev")).thenReturn(dev);
+        when(passwordEncoder.matches("dev", "dev")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("dev")).thenReturn(true);
+        when(passwordEncoder.encode("dev")).thenReturn("{bcrypt}rehashed");
+        when(userRepository.updatePassword(1L, "dev", "{bcrypt}rehashed")).thenReturn(1);
+
+        User loginResponse = userService.login("dev", "dev");
+
+        assertEquals(dev.getId(), loginResponse.getId());
+        verify(userRepository, timeout(1000)).updatePassword(1L, "dev", "{bcrypt}rehashed");
+    }
+
+    @Test
+    public void testLogin_RehashEvictsOnlyThatUser() {
+        User tester = new Tester();
+        tester.setUsername("tester");
+        tester.setId(2L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(dev));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(tester));
+        userService.getUserById(1L);
+        userService.getUserById(2L);
+
+        when(userRepository.findByUsername("dev")).thenReturn(dev);
+        when(passwordEncoder.matches("dev", "dev")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("dev")).thenReturn(true);
+        when(passwordEncoder.encode("dev")).thenReturn("{bcrypt}rehashed");
+        when(userRepository.updatePassword(1L, "dev", "{bcrypt}rehashed")).thenReturn(1);
+
+        userService.login("dev", "dev");
+
+        // 재해시는 비동기로 저장되므로 dev 항목이 지워져 다시 읽힐 때까지 기다린 뒤, 다른 사용자는 캐시에 남았는지 본다
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (findByIdCalls(1L) < 2 && System.nanoTime() < deadline) {
+            userService.getUserById(1L);
+            Thread.onSpinWait();
+        }
+        assertEquals(2, findByIdCalls(1L));
+        userService.getUserById(2L);
+        verify(userRepository, times(1)).findById(2L);
+    }
+
+    private long findByIdCalls(Long userId) {
+        return mockingDetails(userRepository).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("findById") && userId.equals(invocation.getArgument(0)))
+                .count();
+    }
+
+    @Test
+    public void testLogin_KeepsCurrentHash() {
+        when(userRepository.findByUsername("dev")).thenReturn(dev);
+        when(passwordEncoder.matches("dev", "dev")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("dev")).thenReturn(false);
+
+        assertNotNull(userService.login("dev", "dev"));
+        verify(passwordEncoder, never()).encode(any());
+    }
+
     @Test
     public void testLogin_Failure() {
         when(userRepository.findByUsername("dev")).thenReturn(null);
@@ -118,19 +225,38 @@ public class UserServiceTest {
 
     @Test
     public void testGetAllDevs() {
-        User dev2 = new Developer();
-        dev2.setUsername("dev2");
-        dev2.setPassword("dev2");
-        dev2.setId(2L);
-
-        List<User> users = new ArrayList<>();
-        users.add(dev);
-        users.add(dev2);
+        List<UserResponseDTO> users = new ArrayList<>();
+        users.add(new UserResponseDTO("dev", User.Role.DEV));
+        users.add(new UserResponseDTO("dev2", User.Role.DEV));
 
-        when(userRepository.findAll()).thenReturn(users);
+        when(userRepository.findDevelopers("%", "", Limit.unlimited())).thenReturn(users);
 
-        List<User> devs = userService.getAllDevs();
+        List<UserResponseDTO> devs = userService.getAllDevs();
         assertNotNull(devs);
         assertEquals(2, devs.size());
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    public void testGetDevsPage_EscapesPrefixAndReturnsNextCursor() {
+        when(userRepository.findDevelopers("dev\\_%", "dev_1", Limit.of(3))).thenReturn(List.of(
+                new UserResponseDTO("dev_2", User.Role.DEV),
+                new UserResponseDTO("dev_3", User.Role.DEV),
+                new UserResponseDTO("dev_4", User.Role.DEV)));
+
+        CursorPage<UserResponseDTO> page = userService.getDevsPage("dev_", "dev_1", 2);
+
+        assertEquals(2, page.getItems().size());
+        assertEquals("dev_3", page.getNextCursor());
+    }
+
+    @Test
+    public void testGetDevsPage_LastPage() {
+        when(userRepository.findDevelopers("%", "", Limit.of(51))).thenReturn(List.of(new UserResponseDTO("dev", User.Role.DEV)));
+
+        CursorPage<UserResponseDTO> page = userService.getDevsPage(null, null, 50);
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
     }
 }
\ No newline at end of file